@@ -0,0 +1,98 @@
+package se.sundsvall.citizen.benchmark;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import se.sundsvall.citizen.integration.db.model.CitizenAddressEntity;
+import se.sundsvall.citizen.integration.db.model.CitizenEntity;
+
+/**
+ * Synthetic citizens for the benchmarks. A fixed seed keeps the data identical between runs, so that results can be
+ * compared.
+ */
+final class BenchmarkData {
+
+	private static final long SEED = 2281L;
+	private static final OffsetDateTime BASE_TIME = OffsetDateTime.of(2025, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+	private static final String[] GIVENNAMES = {
+		"Anna", "Erik", "Maria", "Lars", "Karin", "Johan", "Sara", "Anders", "Emma", "Per"
+	};
+	private static final String[] LASTNAMES = {
+		"Andersson", "Johansson", "Karlsson", "Nilsson", "Eriksson", "Larsson", "Olsson", "Persson", "Svensson", "Gustafsson"
+	};
+	private static final String[] STREETS = {
+		"Storgatan", "Köpmangatan", "Esplanaden", "Bergsgatan", "Skolhusallén", "Norrmalmsgatan"
+	};
+
+	private BenchmarkData() {}
+
+	/**
+	 * @return citizens with 1 to 5 addresses each, where every address references its citizen
+	 */
+	static List<CitizenEntity> citizens(final int count) {
+		final var random = new Random(SEED);
+		final var citizens = new ArrayList<CitizenEntity>(count);
+		for (int i = 0; i < count; i++) {
+			citizens.add(citizen(random, i));
+		}
+		return citizens;
+	}
+
+	/**
+	 * @return the addresses of the sent in citizens, flattened into one list
+	 */
+	static List<CitizenAddressEntity> addresses(final List<CitizenEntity> citizens) {
+		return citizens.stream()
+			.flatMap(citizen -> citizen.getAddresses().stream())
+			.toList();
+	}
+
+	private static CitizenEntity citizen(final Random random, final int index) {
+		final var citizen = CitizenEntity.create()
+			.withPersonId(new UUID(random.nextLong(), random.nextLong()))
+			.withPersonalNumber("%d%02d%02d%04d".formatted(1940 + random.nextInt(80), 1 + random.nextInt(12), 1 + random.nextInt(28), index % 10000))
+			.withGivenname(GIVENNAMES[random.nextInt(GIVENNAMES.length)])
+			.withLastname(LASTNAMES[random.nextInt(LASTNAMES.length)])
+			.withGender(random.nextBoolean() ? "K" : "M")
+			.withCivilStatus(random.nextBoolean() ? "G" : "OG")
+			.withNrDate(BASE_TIME.minusDays(random.nextInt(3650)))
+			.withClassified(random.nextInt(100) == 0 ? "J" : null)
+			.withProtectedNr("N")
+			.withCreatedAt(BASE_TIME)
+			.withUpdatedAt(BASE_TIME.plusMinutes(index));
+
+		final var addressCount = 1 + random.nextInt(5);
+		final var addresses = new ArrayList<CitizenAddressEntity>(addressCount);
+		for (int i = 0; i < addressCount; i++) {
+			addresses.add(address(random, citizen, i));
+		}
+		return citizen.withAddresses(addresses);
+	}
+
+	private static CitizenAddressEntity address(final Random random, final CitizenEntity citizen, final int index) {
+		return CitizenAddressEntity.create()
+			.withId(new UUID(random.nextLong(), random.nextLong()).toString())
+			.withCitizen(citizen)
+			.withStatus(index == 0 ? "Current" : "Historical")
+			.withNrDate(BASE_TIME.minusDays(random.nextInt(3650)))
+			.withRealEstateDescription("SUNDSVALL %s %d:%d".formatted(STREETS[random.nextInt(STREETS.length)].toUpperCase(), random.nextInt(50), random.nextInt(20)))
+			.withAddress(STREETS[random.nextInt(STREETS.length)])
+			.withAddressNumber(String.valueOf(1 + random.nextInt(120)))
+			.withAddressLetter(random.nextInt(4) == 0 ? "B" : null)
+			.withApartmentNumber(random.nextBoolean() ? "%04d".formatted(1001 + random.nextInt(400)) : null)
+			.withPostalCode("85%03d".formatted(random.nextInt(1000)))
+			.withCity("SUNDSVALL")
+			.withCounty("22")
+			.withMunicipality("2281")
+			.withCountry("SE")
+			.withEmigrated(false)
+			.withAddressType("POPULATION_REGISTRATION_ADDRESS")
+			.withXCoordLocal(6_920_000 + random.nextDouble() * 10_000)
+			.withYCoordLocal(616_000 + random.nextDouble() * 10_000)
+			.withCreatedAt(BASE_TIME)
+			.withUpdatedAt(BASE_TIME);
+	}
+}
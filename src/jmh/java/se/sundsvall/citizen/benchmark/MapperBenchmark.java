@@ -0,0 +1,76 @@
+package se.sundsvall.citizen.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import se.sundsvall.citizen.api.model.CitizenAddress;
+import se.sundsvall.citizen.api.model.CitizenExtended;
+import se.sundsvall.citizen.api.model.CitizenWithChangedAddress;
+import se.sundsvall.citizen.integration.db.model.CitizenAddressEntity;
+import se.sundsvall.citizen.integration.db.model.CitizenEntity;
+import se.sundsvall.citizen.service.mapper.CitizenAddressMapper;
+import se.sundsvall.citizen.service.mapper.CitizenMapper;
+
+/**
+ * Throughput of the entity to API model mappers, for one batch of citizens per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+	@Param({
+		"1", "10", "100", "1000", "10000"
+	})
+	private int batchSize;
+
+	private List<CitizenEntity> citizens;
+	private List<CitizenAddressEntity> addresses;
+
+	@Setup
+	public void setUp() {
+		citizens = BenchmarkData.citizens(batchSize);
+		addresses = BenchmarkData.addresses(citizens);
+	}
+
+	@Benchmark
+	public List<CitizenExtended> toCitizenExtended() {
+		final var result = new ArrayList<CitizenExtended>(citizens.size());
+		for (final var citizen : citizens) {
+			result.add(CitizenMapper.toCitizenExtended(citizen));
+		}
+		return result;
+	}
+
+	@Benchmark
+	public List<CitizenWithChangedAddress> toCitizenWithChangedAddress() {
+		final var result = new ArrayList<CitizenWithChangedAddress>(addresses.size());
+		for (final var address : addresses) {
+			result.add(CitizenAddressMapper.toCitizenWithChangedAddress(address));
+		}
+		return result;
+	}
+
+	@Benchmark
+	public List<List<CitizenAddress>> toCitizenAddresses() {
+		final var result = new ArrayList<List<CitizenAddress>>(citizens.size());
+		for (final var citizen : citizens) {
+			result.add(CitizenAddressMapper.toCitizenAddresses(citizen.getAddresses()));
+		}
+		return result;
+	}
+}
@@ -0,0 +1,56 @@
+package se.sundsvall.citizen.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import se.sundsvall.citizen.api.model.CitizenExtended;
+import se.sundsvall.citizen.service.mapper.CitizenMapper;
+
+/**
+ * Throughput of Jackson serialization of a batch of citizens, as written by the batch endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SerializationBenchmark {
+
+	@Param({
+		"1", "10", "100", "1000", "10000"
+	})
+	private int batchSize;
+
+	private ObjectWriter writer;
+	private List<CitizenExtended> citizens;
+
+	@Setup
+	public void setUp() {
+		final var objectMapper = JsonMapper.builder()
+			.findAndAddModules()
+			.build();
+		writer = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, CitizenExtended.class));
+		citizens = BenchmarkData.citizens(batchSize).stream()
+			.map(CitizenMapper::toCitizenExtended)
+			.toList();
+	}
+
+	@Benchmark
+	public byte[] writeCitizens() throws JsonProcessingException {
+		return writer.writeValueAsBytes(citizens);
+	}
+}
@@ -0,0 +1,173 @@
+package se.sundsvall.citizen.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static se.sundsvall.citizen.loadtest.CitizenSeeder.personId;
+import static se.sundsvall.citizen.loadtest.CitizenSeeder.toBytes;
+import static se.sundsvall.citizen.loadtest.CitizenSeeder.updatedAt;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.citizen.Application;
+
+/**
+ * Compares the query plans and latency of the changed address queries with the single column index on updated_at, kept
+ * by migration V7, against the composite index on (updated_at, person_id) of migration V4 it replaces, on a seeded
+ * population of at least a million citizens. The queries
+ * are the SQL of the repository queries used by the nightly delta export. Run it with
+ * {@code mvn -P loadtest verify -Dit.test=ChangedAddressQueryPlanLoadTest}, see README.
+ */
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles(resolver = LoadTestProfilesResolver.class)
+class ChangedAddressQueryPlanLoadTest {
+
+	private static final int POPULATION = Integer.getInteger("loadtest.query-plan-population", 1_000_000);
+	private static final int ITERATIONS = Integer.getInteger("loadtest.query-iterations", 50);
+	private static final int WARMUP_ITERATIONS = 20;
+	private static final int PAGE_SIZE = 500;
+	private static final Duration NIGHTLY_WINDOW = Duration.ofDays(1);
+
+	private static final String INDEX = "citizens_updated_at_index";
+	private static final String COMPOSITE_INDEX = "citizens_updated_at_person_id_index";
+
+	private static final String KEYS_FIRST_PAGE = """
+		SELECT c.person_id, c.updated_at FROM citizens c IGNORE INDEX (%s)
+		WHERE c.updated_at >= ?
+		AND EXISTS (SELECT 1 FROM citizen_addresses a WHERE a.person_id = c.person_id)
+		ORDER BY c.updated_at, c.person_id
+		LIMIT ?
+		""";
+	private static final String KEYS_NEXT_PAGE = """
+		SELECT c.person_id, c.updated_at FROM citizens c IGNORE INDEX (%s)
+		WHERE c.updated_at >= ?
+		AND (c.updated_at > ? OR (c.updated_at = ? AND c.person_id > ?))
+		AND EXISTS (SELECT 1 FROM citizen_addresses a WHERE a.person_id = c.person_id)
+		ORDER BY c.updated_at, c.person_id
+		LIMIT ?
+		""";
+	private static final String WINDOW_WITH_ADDRESSES = """
+		SELECT c.*, a.* FROM citizens c IGNORE INDEX (%s)
+		LEFT JOIN citizen_addresses a ON a.person_id = c.person_id
+		WHERE c.updated_at >= ?
+		AND EXISTS (SELECT 1 FROM citizen_addresses e WHERE e.person_id = c.person_id)
+		ORDER BY c.updated_at, c.person_id
+		""";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private record Query(String name, String sql, Object[] args) {
+	}
+
+	@Test
+	void compareIndexSets() throws Exception {
+		new CitizenSeeder(jdbcTemplate).seed(POPULATION);
+		// The schema is created from the entities, so the index of V4 is added to compare against it
+		jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS %s ON citizens (updated_at, person_id)".formatted(COMPOSITE_INDEX));
+		// Rebuilds the table and its indexes, so that the index filled while seeding is not compared to a freshly built one
+		jdbcTemplate.execute("OPTIMIZE TABLE citizens");
+		jdbcTemplate.execute("ANALYZE TABLE citizens, citizen_addresses");
+
+		final var plans = new ArrayList<String>();
+		final var results = new ArrayList<LoadDriver.Result>();
+		final var accessPaths = new HashMap<String, List<String>>();
+		for (final var indexSet : List.of("V7", "V4")) {
+			// Each index set is measured by hiding the index of the other one from the optimizer
+			final var ignoredIndex = "V7".equals(indexSet) ? COMPOSITE_INDEX : INDEX;
+			for (final var query : queries(ignoredIndex)) {
+				final var name = "%s (%s)".formatted(query.name(), indexSet);
+				final var plan = jdbcTemplate.queryForList("EXPLAIN " + query.sql(), query.args());
+				plans.add(format(name, plan));
+				results.add(measure(name, query));
+
+				final var accessPath = accessPath(plan);
+				final var previous = accessPaths.putIfAbsent(query.name(), accessPath);
+				if (previous != null) {
+					// The index of V7 must be used the same way as the one of V4, also for the keyset condition and the sort
+					assertThat(previous).as(query.name()).isEqualTo(accessPath);
+				}
+			}
+		}
+
+		LoadTestReport.print("Changed address queries (%s) with %d citizens, %d iterations per query".formatted(
+			LoadTestProfilesResolver.mode(), POPULATION, ITERATIONS), results);
+		plans.forEach(System.out::println);
+		LoadTestReport.write(Path.of("target", "loadtest", "query-plan-report-%s.csv".formatted(LoadTestProfilesResolver.mode())), results);
+		writePlans(Path.of("target", "loadtest", "query-plans-%s.txt".formatted(LoadTestProfilesResolver.mode())), plans);
+	}
+
+	private List<Query> queries(final String ignoredIndex) {
+		final var windowStart = Timestamp.from(updatedAt(POPULATION).minus(NIGHTLY_WINDOW));
+		final var middle = POPULATION - (int) NIGHTLY_WINDOW.toSeconds() / 2;
+		final var cursorUpdatedAt = Timestamp.from(updatedAt(middle));
+
+		return List.of(
+			new Query("keys, first page", KEYS_FIRST_PAGE.formatted(ignoredIndex), new Object[] {
+				windowStart, PAGE_SIZE
+			}),
+			new Query("keys, page after cursor", KEYS_NEXT_PAGE.formatted(ignoredIndex), new Object[] {
+				windowStart, cursorUpdatedAt, cursorUpdatedAt, toBytes(personId(middle)), PAGE_SIZE
+			}),
+			new Query("window with addresses", WINDOW_WITH_ADDRESSES.formatted(ignoredIndex), new Object[] {
+				windowStart
+			}));
+	}
+
+	private LoadDriver.Result measure(final String name, final Query query) {
+		for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+			execute(query);
+		}
+
+		final var recorder = new LatencyRecorder();
+		final var start = System.nanoTime();
+		for (int i = 0; i < ITERATIONS; i++) {
+			final var queryStart = System.nanoTime();
+			execute(query);
+			recorder.record(System.nanoTime() - queryStart, true);
+		}
+		final var elapsed = System.nanoTime() - start;
+
+		final var latencies = LatencyRecorder.merge(List.of(recorder));
+		return new LoadDriver.Result(name, recorder.count(), recorder.errors(), recorder.count() / (elapsed / 1e9),
+			LatencyRecorder.percentile(latencies, 50), LatencyRecorder.percentile(latencies, 95), LatencyRecorder.percentile(latencies, 99));
+	}
+
+	private void execute(final Query query) {
+		// Every row is read, so the time to transfer the result is part of the latency
+		jdbcTemplate.query(query.sql(), resultSet -> {}, query.args());
+	}
+
+	/**
+	 * @return the way each table is read, without the name of the index used, so that the plans of the two index sets can
+	 *         be compared
+	 */
+	private static List<String> accessPath(final List<Map<String, Object>> plan) {
+		return plan.stream()
+			.map(row -> "table=%s type=%s extra=%s".formatted(row.get("table"), row.get("type"), Objects.toString(row.get("Extra"), "")))
+			.toList();
+	}
+
+	private static String format(final String name, final List<Map<String, Object>> plan) {
+		final var out = new StringBuilder("%nEXPLAIN %s%n".formatted(name));
+		plan.forEach(row -> out.append("  table=%s type=%s key=%s rows=%s extra=%s%n".formatted(
+			row.get("table"), row.get("type"), row.get("key"), row.get("rows"), Objects.toString(row.get("Extra"), ""))));
+		return out.toString();
+	}
+
+	private static void writePlans(final Path file, final List<String> plans) throws IOException {
+		Files.createDirectories(file.getParent());
+		Files.writeString(file, String.join("", plans));
+	}
+}
@@ -0,0 +1,132 @@
+package se.sundsvall.citizen.loadtest;
+
+import static java.util.stream.Collectors.joining;
+import static org.assertj.core.api.Assertions.assertThat;
+import static se.sundsvall.citizen.loadtest.CitizenSeeder.MUNICIPALITY_ID;
+import static se.sundsvall.citizen.loadtest.CitizenSeeder.personId;
+import static se.sundsvall.citizen.loadtest.CitizenSeeder.personalNumber;
+import static se.sundsvall.citizen.loadtest.CitizenSeeder.updatedAt;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.citizen.Application;
+
+/**
+ * Drives every endpoint of the citizen resource against a seeded MariaDB and reports p50/p95/p99 latency and throughput
+ * per endpoint. Run with {@code mvn -P loadtest verify}, see README for the settings.
+ */
+@SpringBootTest(classes = Application.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles(resolver = LoadTestProfilesResolver.class)
+class CitizenLoadTest {
+
+	private static final String PATH = "/api/v2/citizen";
+	private static final int BATCH_SIZE = 50;
+	private static final int IMPORT_SIZE = 100;
+	private static final int CHANGED_ADDRESS_WINDOW = 1_000;
+	private static final double MAX_ERROR_RATIO = 0.01;
+
+	private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+	private final AtomicLong newPersonalNumbers = new AtomicLong(290_000_000_000L);
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	void loadTest() throws Exception {
+		new CitizenSeeder(jdbcTemplate).seed(settings.population());
+
+		final var driver = new LoadDriver(settings);
+		final var results = new ArrayList<LoadDriver.Result>();
+		for (final var scenario : scenarios()) {
+			if (settings.includes(scenario.name())) {
+				results.add(driver.run(scenario));
+			}
+		}
+
+		LoadTestReport.print(settings, results);
+		LoadTestReport.write(Path.of("target", "loadtest", "report-%s.csv".formatted(LoadTestProfilesResolver.mode())), results);
+
+		assertThat(results).allSatisfy(result -> {
+			assertThat(result.requests()).as(result.name()).isPositive();
+			assertThat((double) result.errors() / result.requests()).as(result.name()).isLessThanOrEqualTo(MAX_ERROR_RATIO);
+		});
+	}
+
+	private List<LoadDriver.Scenario> scenarios() {
+		final var recentChanges = updatedAt(Math.max(settings.population() - CHANGED_ADDRESS_WINDOW, 0));
+
+		return List.of(
+			new LoadDriver.Scenario("GET /{personId}",
+				random -> get("/" + personId(randomIndex(random)))),
+			new LoadDriver.Scenario("POST /batch",
+				random -> post("/batch", "application/json", jsonArray(random, index -> personId(index).toString()))),
+			new LoadDriver.Scenario("GET /changedaddress",
+				random -> get("/changedaddress?changedDateFrom=" + recentChanges)),
+			new LoadDriver.Scenario("GET /changedaddress/page",
+				random -> get("/changedaddress/page?limit=100&changedDateFrom=" + updatedAt(randomIndex(random)))),
+			new LoadDriver.Scenario("GET /changedaddress/stream",
+				random -> get("/changedaddress/stream?changedDateFrom=" + recentChanges)),
+			new LoadDriver.Scenario("GET /{personId}/personnumber",
+				random -> get("/" + personId(randomIndex(random)) + "/personnumber")),
+			new LoadDriver.Scenario("GET /{personNumber}/guid",
+				random -> get("/" + personalNumber(randomIndex(random)) + "/guid?municipalityId=" + MUNICIPALITY_ID)),
+			new LoadDriver.Scenario("POST /guid/batch",
+				random -> post("/guid/batch", "application/json", jsonArray(random, CitizenSeeder::personalNumber))),
+			new LoadDriver.Scenario("POST /guid/batch/municipality",
+				random -> post("/guid/batch/municipality", "application/json", IntStream.range(0, BATCH_SIZE)
+					.mapToObj(i -> "{\"personalNumber\":\"%s\",\"municipalityId\":\"%s\"}".formatted(personalNumber(randomIndex(random)), MUNICIPALITY_ID))
+					.collect(joining(",", "[", "]")))),
+			new LoadDriver.Scenario("POST /guid",
+				random -> post("/guid", "application/json", "{\"personalNumber\":\"%d\"}".formatted(newPersonalNumbers.getAndIncrement()))),
+			new LoadDriver.Scenario("POST /import (ndjson)",
+				random -> post("/import", "application/x-ndjson", IntStream.range(0, IMPORT_SIZE)
+					.mapToObj(i -> "{\"personalNumber\":\"%d\",\"givenname\":\"Import\",\"addresses\":[{\"city\":\"SUNDSVALL\"}]}".formatted(newPersonalNumbers.getAndIncrement()))
+					.collect(joining("\n")))),
+			new LoadDriver.Scenario("POST /import (csv)",
+				random -> post("/import", "text/csv", IntStream.range(0, IMPORT_SIZE)
+					.mapToObj(i -> "%d,Import".formatted(newPersonalNumbers.getAndIncrement()))
+					.collect(joining("\n", "personalNumber,givenname\n", "")))));
+	}
+
+	private int randomIndex(final ThreadLocalRandom random) {
+		return random.nextInt(settings.population());
+	}
+
+	private String jsonArray(final ThreadLocalRandom random, final IntFunction<String> value) {
+		return IntStream.range(0, BATCH_SIZE)
+			.mapToObj(i -> "\"" + value.apply(randomIndex(random)) + "\"")
+			.collect(joining(",", "[", "]"));
+	}
+
+	private HttpRequest get(final String path) {
+		return HttpRequest.newBuilder(uri(path)).GET().build();
+	}
+
+	private HttpRequest post(final String path, final String contentType, final String body) {
+		return HttpRequest.newBuilder(uri(path))
+			.header("Content-Type", contentType)
+			.POST(BodyPublishers.ofString(body))
+			.build();
+	}
+
+	private URI uri(final String path) {
+		return URI.create("http://localhost:" + port + PATH + path);
+	}
+}
@@ -0,0 +1,149 @@
+package se.sundsvall.citizen.loadtest;
+
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Seeds the database with a synthetic population. Every citizen is derived from its index, so the load test can pick
+ * existing person ids and personal numbers without holding the population in memory.
+ */
+final class CitizenSeeder {
+
+	static final String MUNICIPALITY_ID = "2262";
+	static final Instant BASE_TIME = Instant.parse("2020-01-01T00:00:00Z");
+
+	private static final long BASE_PERSONAL_NUMBER = 190_000_000_000L;
+	private static final int CHUNK_SIZE = 5_000;
+	private static final int SEED_THREADS = 4;
+
+	private static final String INSERT_CITIZEN = """
+		INSERT INTO citizens (person_id, personal_number, givenname, lastname, gender, civil_status, nr_date, created_at, updated_at)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+	private static final String INSERT_ADDRESS = """
+		INSERT INTO citizen_addresses (id, person_id, status, address, address_number, postal_code, city, municipality, country, address_type, created_at, updated_at)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	CitizenSeeder(final JdbcTemplate jdbcTemplate) {
+		this.jdbcTemplate = jdbcTemplate;
+	}
+
+	/**
+	 * The citizen with index i has 1 to 3 addresses and was updated i seconds after {@link #BASE_TIME}.
+	 */
+	void seed(final int population) throws InterruptedException, ExecutionException {
+		final var existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM citizens", Integer.class);
+		if (existing != null && existing >= population) {
+			return;
+		}
+		jdbcTemplate.execute("DELETE FROM citizen_addresses");
+		jdbcTemplate.execute("DELETE FROM citizens");
+
+		try (final var executor = Executors.newFixedThreadPool(SEED_THREADS)) {
+			final var chunks = new ArrayList<Future<?>>();
+			for (int from = 0; from < population; from += CHUNK_SIZE) {
+				final var start = from;
+				final var end = Math.min(from + CHUNK_SIZE, population);
+				chunks.add(executor.submit(() -> seedChunk(start, end)));
+			}
+			for (final var chunk : chunks) {
+				chunk.get();
+			}
+		}
+	}
+
+	static UUID personId(final int index) {
+		// Version 7 layout with the index as timestamp and random part, keeping ids unique and time ordered
+		return new UUID(((BASE_TIME.toEpochMilli() + index) << 16) | 0x7000L, 0x8000_0000_0000_0000L | index);
+	}
+
+	static String personalNumber(final int index) {
+		return String.valueOf(BASE_PERSONAL_NUMBER + index);
+	}
+
+	static Instant updatedAt(final int index) {
+		return BASE_TIME.plusSeconds(index);
+	}
+
+	static int addressCount(final int index) {
+		return 1 + index % 3;
+	}
+
+	private void seedChunk(final int from, final int to) {
+		jdbcTemplate.batchUpdate(INSERT_CITIZEN, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(final PreparedStatement ps, final int i) throws SQLException {
+				final var index = from + i;
+				final var updatedAt = Timestamp.from(updatedAt(index));
+				ps.setBytes(1, toBytes(personId(index)));
+				ps.setString(2, personalNumber(index));
+				ps.setString(3, "Givenname" + index % 1000);
+				ps.setString(4, "Lastname" + index % 5000);
+				ps.setString(5, index % 2 == 0 ? "K" : "M");
+				ps.setString(6, index % 3 == 0 ? "G" : "OG");
+				ps.setTimestamp(7, updatedAt);
+				ps.setTimestamp(8, updatedAt);
+				ps.setTimestamp(9, updatedAt);
+			}
+
+			@Override
+			public int getBatchSize() {
+				return to - from;
+			}
+		});
+
+		final var addresses = new ArrayList<int[]>();
+		for (int index = from; index < to; index++) {
+			for (int n = 0; n < addressCount(index); n++) {
+				addresses.add(new int[] {
+					index, n
+				});
+			}
+		}
+		jdbcTemplate.batchUpdate(INSERT_ADDRESS, new BatchPreparedStatementSetter() {
+			@Override
+			public void setValues(final PreparedStatement ps, final int i) throws SQLException {
+				final var index = addresses.get(i)[0];
+				final var n = addresses.get(i)[1];
+				final var updatedAt = Timestamp.from(updatedAt(index));
+				ps.setString(1, new UUID(index, n).toString());
+				ps.setBytes(2, toBytes(personId(index)));
+				ps.setString(3, n == 0 ? "Current" : "Historical");
+				ps.setString(4, "Storgatan");
+				ps.setString(5, String.valueOf(1 + index % 120));
+				ps.setString(6, String.valueOf(85_000 + index % 1000));
+				ps.setString(7, "SUNDSVALL");
+				ps.setString(8, "2281");
+				ps.setString(9, "SE");
+				ps.setString(10, "POPULATION_REGISTRATION_ADDRESS");
+				ps.setTimestamp(11, updatedAt);
+				ps.setTimestamp(12, updatedAt);
+			}
+
+			@Override
+			public int getBatchSize() {
+				return addresses.size();
+			}
+		});
+	}
+
+	static byte[] toBytes(final UUID uuid) {
+		return ByteBuffer.allocate(16)
+			.putLong(uuid.getMostSignificantBits())
+			.putLong(uuid.getLeastSignificantBits())
+			.array();
+	}
+}
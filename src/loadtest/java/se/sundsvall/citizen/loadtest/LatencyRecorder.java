@@ -0,0 +1,61 @@
+package se.sundsvall.citizen.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Latencies recorded by one client thread. Recorders are merged once the run is over, so recording needs no
+ * synchronization.
+ */
+final class LatencyRecorder {
+
+	private long[] latencies = new long[1024];
+	private int count;
+	private int errors;
+
+	void record(final long latencyNanos, final boolean success) {
+		if (count == latencies.length) {
+			latencies = Arrays.copyOf(latencies, count * 2);
+		}
+		latencies[count++] = latencyNanos;
+		if (!success) {
+			errors++;
+		}
+	}
+
+	int count() {
+		return count;
+	}
+
+	int errors() {
+		return errors;
+	}
+
+	/**
+	 * @return all latencies of the sent in recorders, sorted in ascending order
+	 */
+	static long[] merge(final Iterable<LatencyRecorder> recorders) {
+		var size = 0;
+		for (final var recorder : recorders) {
+			size += recorder.count;
+		}
+		final var merged = new long[size];
+		var position = 0;
+		for (final var recorder : recorders) {
+			System.arraycopy(recorder.latencies, 0, merged, position, recorder.count);
+			position += recorder.count;
+		}
+		Arrays.sort(merged);
+		return merged;
+	}
+
+	/**
+	 * @return the latency at the sent in percentile (0-100) of the sorted latencies, using the nearest rank method
+	 */
+	static long percentile(final long[] sorted, final double percentile) {
+		if (sorted.length == 0) {
+			return 0;
+		}
+		final var rank = (int) Math.ceil(percentile / 100 * sorted.length);
+		return sorted[Math.max(rank, 1) - 1];
+	}
+}
@@ -0,0 +1,126 @@
+package se.sundsvall.citizen.loadtest;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ * Drives endpoints at a fixed concurrency: every client thread sends a request, waits for the response and sends the
+ * next one, for the configured warmup and measurement time.
+ */
+final class LoadDriver {
+
+	private final HttpClient httpClient;
+	private final LoadTestSettings settings;
+
+	LoadDriver(final LoadTestSettings settings) {
+		this.settings = settings;
+		this.httpClient = HttpClient.newBuilder()
+			.executor(Executors.newFixedThreadPool(settings.concurrency()))
+			.connectTimeout(Duration.ofSeconds(5))
+			.build();
+	}
+
+	/**
+	 * A named endpoint call, where the request is built from a random source so that every call can hit a different
+	 * citizen. The scenario is driven by the given number of clients, or by the configured concurrency when none is given.
+	 */
+	record Scenario(String name, int clients, Function<ThreadLocalRandom, HttpRequest> request) {
+
+		Scenario(final String name, final Function<ThreadLocalRandom, HttpRequest> request) {
+			this(name, 0, request);
+		}
+	}
+
+	/**
+	 * Result of driving one scenario.
+	 */
+	record Result(String name, int requests, int errors, double throughput, long p50Nanos, long p95Nanos, long p99Nanos) {
+	}
+
+	Result run(final Scenario scenario) throws Exception {
+		return runConcurrently(List.of(scenario)).getFirst();
+	}
+
+	/**
+	 * Drives all scenarios at the same time, each with the configured number of clients, so that one slow endpoint can be
+	 * measured for its effect on the others.
+	 */
+	List<Result> runConcurrently(final List<Scenario> scenarios) throws Exception {
+		drive(scenarios, settings.warmup());
+		final var recorders = drive(scenarios, settings.duration());
+
+		final var results = new ArrayList<Result>(scenarios.size());
+		for (int i = 0; i < scenarios.size(); i++) {
+			results.add(toResult(scenarios.get(i).name(), recorders.get(i)));
+		}
+		return results;
+	}
+
+	private Result toResult(final String name, final List<LatencyRecorder> recorders) {
+		final var latencies = LatencyRecorder.merge(recorders);
+		final var errors = recorders.stream().mapToInt(LatencyRecorder::errors).sum();
+		return new Result(name, latencies.length, errors,
+			latencies.length / (settings.duration().toNanos() / 1e9),
+			LatencyRecorder.percentile(latencies, 50),
+			LatencyRecorder.percentile(latencies, 95),
+			LatencyRecorder.percentile(latencies, 99));
+	}
+
+	private List<List<LatencyRecorder>> drive(final List<Scenario> scenarios, final Duration duration) throws Exception {
+		final var deadline = System.nanoTime() + duration.toNanos();
+		final var clientCount = scenarios.stream().mapToInt(this::clients).sum();
+
+		try (final var clients = Executors.newFixedThreadPool(clientCount)) {
+			final var futures = new ArrayList<List<Future<LatencyRecorder>>>(scenarios.size());
+			for (final var scenario : scenarios) {
+				final var scenarioFutures = new ArrayList<Future<LatencyRecorder>>(clients(scenario));
+				for (int i = 0; i < clients(scenario); i++) {
+					scenarioFutures.add(clients.submit(() -> drive(scenario, deadline)));
+				}
+				futures.add(scenarioFutures);
+			}
+
+			final var recorders = new ArrayList<List<LatencyRecorder>>(scenarios.size());
+			for (final var scenarioFutures : futures) {
+				final var scenarioRecorders = new ArrayList<LatencyRecorder>(scenarioFutures.size());
+				for (final var future : scenarioFutures) {
+					scenarioRecorders.add(future.get(duration.toNanos() + Duration.ofMinutes(1).toNanos(), NANOSECONDS));
+				}
+				recorders.add(scenarioRecorders);
+			}
+			return recorders;
+		}
+	}
+
+	private int clients(final Scenario scenario) {
+		return scenario.clients() > 0 ? scenario.clients() : settings.concurrency();
+	}
+
+	private LatencyRecorder drive(final Scenario scenario, final long deadline) {
+		final var recorder = new LatencyRecorder();
+		final var random = ThreadLocalRandom.current();
+		while (System.nanoTime() < deadline) {
+			final var request = scenario.request().apply(random);
+			final var start = System.nanoTime();
+			var success = false;
+			try {
+				final var response = httpClient.send(request, BodyHandlers.discarding());
+				success = response.statusCode() < 300;
+			} catch (Exception e) {
+				// Counted as an error below
+			}
+			recorder.record(System.nanoTime() - start, success);
+		}
+		return recorder;
+	}
+}
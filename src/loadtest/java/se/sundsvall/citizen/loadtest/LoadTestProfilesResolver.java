@@ -0,0 +1,48 @@
+package se.sundsvall.citizen.loadtest;
+
+import java.util.ArrayList;
+import org.springframework.test.context.ActiveProfilesResolver;
+
+/**
+ * Activates the load test profile, together with the virtual-threads profile when the run is started with
+ * {@code -Dloadtest.virtual-threads=true} and the tuned-datasource profile with {@code -Dloadtest.tuned-datasource=true},
+ * so that the same load test can be compared with and without each of them.
+ */
+class LoadTestProfilesResolver implements ActiveProfilesResolver {
+
+	static final String LOADTEST_PROFILE = "loadtest";
+	static final String VIRTUAL_THREADS_PROFILE = "virtual-threads";
+	static final String TUNED_DATASOURCE_PROFILE = "tuned-datasource";
+
+	static boolean virtualThreads() {
+		return Boolean.getBoolean("loadtest.virtual-threads");
+	}
+
+	static boolean tunedDatasource() {
+		return Boolean.getBoolean("loadtest.tuned-datasource");
+	}
+
+	/**
+	 * @return the active profiles joined with '-', used to keep the reports of runs in different modes apart
+	 */
+	static String mode() {
+		return String.join("-", profiles());
+	}
+
+	@Override
+	public String[] resolve(final Class<?> testClass) {
+		return profiles();
+	}
+
+	private static String[] profiles() {
+		final var profiles = new ArrayList<String>(3);
+		profiles.add(LOADTEST_PROFILE);
+		if (virtualThreads()) {
+			profiles.add(VIRTUAL_THREADS_PROFILE);
+		}
+		if (tunedDatasource()) {
+			profiles.add(TUNED_DATASOURCE_PROFILE);
+		}
+		return profiles.toArray(String[]::new);
+	}
+}
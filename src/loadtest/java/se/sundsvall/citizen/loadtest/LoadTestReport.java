@@ -0,0 +1,46 @@
+package se.sundsvall.citizen.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes the results of a load test run as a table to standard out and as CSV to a file.
+ */
+final class LoadTestReport {
+
+	private static final String TABLE_FORMAT = "%-40s %10s %8s %12s %10s %10s %10s%n";
+	private static final String CSV_HEADER = "endpoint,requests,errors,throughput,p50_ms,p95_ms,p99_ms";
+
+	private LoadTestReport() {}
+
+	static void print(final LoadTestSettings settings, final List<LoadDriver.Result> results) {
+		print("Load test (%s) with %d citizens, concurrency %d, %ds per endpoint".formatted(
+			LoadTestProfilesResolver.mode(), settings.population(), settings.concurrency(), settings.duration().toSeconds()), results);
+	}
+
+	static void print(final String title, final List<LoadDriver.Result> results) {
+		final var out = new StringBuilder()
+			.append("%n%s%n%n".formatted(title))
+			.append(TABLE_FORMAT.formatted("endpoint", "requests", "errors", "req/s", "p50 ms", "p95 ms", "p99 ms"));
+		results.forEach(result -> out.append(String.format(Locale.ROOT, TABLE_FORMAT, result.name(), result.requests(), result.errors(),
+			"%.1f".formatted(result.throughput()), millis(result.p50Nanos()), millis(result.p95Nanos()), millis(result.p99Nanos()))));
+		System.out.println(out);
+	}
+
+	static void write(final Path file, final List<LoadDriver.Result> results) throws IOException {
+		Files.createDirectories(file.getParent());
+		final var lines = new ArrayList<String>(results.size() + 1);
+		lines.add(CSV_HEADER);
+		results.forEach(result -> lines.add(String.join(",", result.name(), String.valueOf(result.requests()), String.valueOf(result.errors()),
+			String.format(Locale.ROOT, "%.1f", result.throughput()), millis(result.p50Nanos()), millis(result.p95Nanos()), millis(result.p99Nanos()))));
+		Files.write(file, lines);
+	}
+
+	private static String millis(final long nanos) {
+		return String.format(Locale.ROOT, "%.2f", nanos / 1e6);
+	}
+}
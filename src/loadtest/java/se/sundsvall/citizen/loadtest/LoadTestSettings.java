@@ -0,0 +1,34 @@
+package se.sundsvall.citizen.loadtest;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Settings for a load test run, read from system properties so that they can be given on the Maven command line.
+ *
+ * @param population  number of citizens to seed before the run (property loadtest.population)
+ * @param concurrency number of concurrent clients per endpoint (property loadtest.concurrency)
+ * @param warmup      time each endpoint is driven before latencies are recorded (property loadtest.warmup)
+ * @param duration    time each endpoint is driven while latencies are recorded (property loadtest.duration)
+ * @param endpoints   comma separated parts of the endpoint names to drive, all endpoints when empty (property
+ *                    loadtest.endpoints)
+ */
+record LoadTestSettings(int population, int concurrency, Duration warmup, Duration duration, List<String> endpoints) {
+
+	static LoadTestSettings fromSystemProperties() {
+		return new LoadTestSettings(
+			Integer.getInteger("loadtest.population", 100_000),
+			Integer.getInteger("loadtest.concurrency", 32),
+			Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+			Duration.parse(System.getProperty("loadtest.duration", "PT30S")),
+			Arrays.stream(System.getProperty("loadtest.endpoints", "").split(","))
+				.map(String::strip)
+				.filter(endpoint -> !endpoint.isEmpty())
+				.toList());
+	}
+
+	boolean includes(final String endpoint) {
+		return endpoints.isEmpty() || endpoints.stream().anyMatch(endpoint::contains);
+	}
+}
@@ -0,0 +1,69 @@
+package se.sundsvall.citizen.loadtest;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+
+/**
+ * Stand-in for Party and its token endpoint that answers every party id lookup after a fixed delay. Every exchange is
+ * handled on its own thread, so the stub itself never limits the concurrency of the run. Platform threads are used, as
+ * virtual threads would share carrier threads with the service under test: when the service runs on virtual threads,
+ * its token requests are made while holding a monitor, which pins the carriers and would leave the stub unable to
+ * answer them.
+ */
+final class PartyStub implements AutoCloseable {
+
+	private static final String TOKEN_RESPONSE = "{\"access_token\":\"loadtest\",\"token_type\":\"Bearer\",\"expires_in\":3600}";
+
+	private final HttpServer server;
+	private final Duration delay;
+
+	private PartyStub(final HttpServer server, final Duration delay) {
+		this.server = server;
+		this.delay = delay;
+	}
+
+	static PartyStub start(final Duration delay) throws IOException {
+		final var server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		final var stub = new PartyStub(server, delay);
+		server.createContext("/token", exchange -> respond(exchange, "application/json", TOKEN_RESPONSE));
+		server.createContext("/party", stub::partyId);
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.start();
+		return stub;
+	}
+
+	String baseUrl() {
+		return "http://localhost:" + server.getAddress().getPort();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+
+	private void partyId(final HttpExchange exchange) throws IOException {
+		try {
+			Thread.sleep(delay);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+		respond(exchange, "text/plain", UUID.randomUUID().toString());
+	}
+
+	private static void respond(final HttpExchange exchange, final String contentType, final String body) throws IOException {
+		exchange.getRequestBody().readAllBytes();
+		final var bytes = body.getBytes(UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", contentType);
+		exchange.sendResponseHeaders(200, bytes.length);
+		try (final var responseBody = exchange.getResponseBody()) {
+			responseBody.write(bytes);
+		}
+	}
+}
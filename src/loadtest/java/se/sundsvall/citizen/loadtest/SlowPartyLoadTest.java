@@ -0,0 +1,96 @@
+package se.sundsvall.citizen.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static se.sundsvall.citizen.loadtest.CitizenSeeder.MUNICIPALITY_ID;
+import static se.sundsvall.citizen.loadtest.CitizenSeeder.personId;
+import static se.sundsvall.citizen.loadtest.CitizenSeeder.personalNumber;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import se.sundsvall.citizen.Application;
+
+/**
+ * Measures throughput and latency while Party answers slowly: lookups that go to Party run at the same time as lookups
+ * that are answered from the database, to show how much the slow calls hold back the rest of the API. Run it with and
+ * without {@code -Dloadtest.virtual-threads=true} to compare the worker pool with virtual threads, see README.
+ */
+@SpringBootTest(classes = Application.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles(resolver = LoadTestProfilesResolver.class)
+class SlowPartyLoadTest {
+
+	private static final String PATH = "/api/v2/citizen";
+	private static final String PARTY_MUNICIPALITY_ID = "2281";
+	private static final Duration PARTY_DELAY = Duration.parse(System.getProperty("loadtest.party-delay", "PT1S"));
+	private static final int PARTY_CONCURRENCY = Integer.getInteger("loadtest.party-concurrency", 400);
+	private static final double MAX_ERROR_RATIO = 0.01;
+
+	private static PartyStub partyStub;
+
+	private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@DynamicPropertySource
+	static void partyProperties(final DynamicPropertyRegistry registry) throws IOException {
+		partyStub = PartyStub.start(PARTY_DELAY);
+		registry.add("integration.party.base-url", () -> partyStub.baseUrl() + "/party");
+		registry.add("integration.party.oauth2.token-url", () -> partyStub.baseUrl() + "/token");
+	}
+
+	@AfterAll
+	static void stopPartyStub() {
+		partyStub.close();
+	}
+
+	@Test
+	void loadTestWithSlowParty() throws Exception {
+		new CitizenSeeder(jdbcTemplate).seed(settings.population());
+
+		final var results = new LoadDriver(settings).runConcurrently(List.of(
+			// Unique personal numbers, so that every call passes the Party cache
+			new LoadDriver.Scenario("GET /{personNumber}/guid (Party)", PARTY_CONCURRENCY,
+				random -> get("/" + random.nextLong(100_000_000_000L, 1_000_000_000_000L) + "/guid?municipalityId=" + PARTY_MUNICIPALITY_ID)),
+			new LoadDriver.Scenario("GET /{personNumber}/guid",
+				random -> get("/" + personalNumber(randomIndex(random)) + "/guid?municipalityId=" + MUNICIPALITY_ID)),
+			new LoadDriver.Scenario("GET /{personId}",
+				random -> get("/" + personId(randomIndex(random))))));
+
+		LoadTestReport.print("Load test with %s, Party delay %dms and %d Party clients, %d citizens, concurrency %d, %ds".formatted(
+			LoadTestProfilesResolver.virtualThreads() ? "virtual threads" : "platform threads", PARTY_DELAY.toMillis(), PARTY_CONCURRENCY,
+			settings.population(), settings.concurrency(), settings.duration().toSeconds()), results);
+		LoadTestReport.write(Path.of("target", "loadtest", "slow-party-report-%s.csv".formatted(LoadTestProfilesResolver.mode())), results);
+
+		// Calls to Party may be shed by the concurrency limit or the bulkhead, the local lookups must keep being answered
+		assertThat(results.getFirst().requests()).isPositive();
+		assertThat(results.subList(1, results.size())).allSatisfy(result -> {
+			assertThat(result.requests()).as(result.name()).isPositive();
+			assertThat((double) result.errors() / result.requests()).as(result.name()).isLessThanOrEqualTo(MAX_ERROR_RATIO);
+		});
+	}
+
+	private int randomIndex(final ThreadLocalRandom random) {
+		return random.nextInt(settings.population());
+	}
+
+	private HttpRequest get(final String path) {
+		return HttpRequest.newBuilder(URI.create("http://localhost:" + port + PATH + path)).GET().build();
+	}
+}
@@ -1,7 +1,10 @@
 package se.sundsvall.citizen.api;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM_VALUE;
 import static org.springframework.http.ResponseEntity.ok;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -11,6 +14,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.io.InputStream;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -18,12 +25,21 @@ import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.zalando.problem.Problem;
 import org.zalando.problem.violations.ConstraintViolationProblem;
 import se.sundsvall.citizen.api.model.CitizenExtended;
+import se.sundsvall.citizen.api.model.CitizenImportResponse;
 import se.sundsvall.citizen.api.model.CitizenWithChangedAddress;
+import se.sundsvall.citizen.api.model.FindCitizenChangedAddressResponse;
+import se.sundsvall.citizen.api.model.FindCitizenChangesResponse;
 import se.sundsvall.citizen.api.model.ModelPostPerson;
 import se.sundsvall.citizen.api.model.PersonGuidBatch;
+import se.sundsvall.citizen.api.model.PersonGuidBatchItem;
+import se.sundsvall.citizen.service.CitizenAddressChangeFeed;
+import se.sundsvall.citizen.service.CitizenChangeService;
+import se.sundsvall.citizen.service.CitizenImportService;
 import se.sundsvall.citizen.service.CitizenService;
 import se.sundsvall.dept44.common.validators.annotation.ValidUuid;
 
@@ -38,10 +54,19 @@ import se.sundsvall.dept44.common.validators.annotation.ValidUuid;
 @ApiResponse(responseCode = "503", description = "Server Error", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
 public class CitizenResource {
 
+	private static final String TEXT_CSV_VALUE = "text/csv";
+
 	private final CitizenService citizenService;
+	private final CitizenImportService citizenImportService;
+	private final CitizenChangeService citizenChangeService;
+	private final CitizenAddressChangeFeed citizenAddressChangeFeed;
 
-	public CitizenResource(CitizenService citizenService) {
+	public CitizenResource(CitizenService citizenService, CitizenImportService citizenImportService, CitizenChangeService citizenChangeService,
+		CitizenAddressChangeFeed citizenAddressChangeFeed) {
 		this.citizenService = citizenService;
+		this.citizenImportService = citizenImportService;
+		this.citizenChangeService = citizenChangeService;
+		this.citizenAddressChangeFeed = citizenAddressChangeFeed;
 	}
 
 	@GetMapping(path = "/{personId}", produces = APPLICATION_JSON_VALUE)
@@ -77,6 +102,48 @@ public class CitizenResource {
 		return !changedAddresses.isEmpty() ? ok(changedAddresses) : ResponseEntity.noContent().build();
 	}
 
+	@GetMapping(path = "/changedaddress/page", produces = APPLICATION_JSON_VALUE)
+	@Operation(summary = "Show a page of citizens that have moved since the given date, ordered by time of change")
+	@ApiResponse(responseCode = "200", description = "Success")
+	public ResponseEntity<FindCitizenChangedAddressResponse> getCitizensWithChangedAddressPage(
+		@Parameter(description = "From-date for move") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final OffsetDateTime changedDateFrom,
+		@Parameter(description = "Cursor returned by the previous page, omit to fetch the first page") @RequestParam(required = false) final String cursor,
+		@Parameter(description = "Result size per page") @RequestParam(defaultValue = "100") @Min(1) @Max(1000) final int limit) {
+
+		return ok(citizenService.getCitizensWithChangedAddress(changedDateFrom, cursor, limit));
+	}
+
+	@GetMapping(path = "/changedaddress/stream", produces = APPLICATION_NDJSON_VALUE)
+	@Operation(summary = "Stream citizens that have moved since the given date as newline delimited JSON")
+	@ApiResponse(responseCode = "200", description = "Success")
+	public ResponseEntity<StreamingResponseBody> streamCitizensWithChangedAddress(
+		@Parameter(description = "From-date for move") @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final OffsetDateTime changedDateFrom) {
+
+		// The content type is set explicitly, as it is not taken from the mapping when the body is streamed
+		return ok()
+			.contentType(APPLICATION_NDJSON)
+			.body(outputStream -> citizenService.streamCitizensWithChangedAddress(changedDateFrom, outputStream));
+	}
+
+	@GetMapping(path = "/changedaddress/events", produces = TEXT_EVENT_STREAM_VALUE)
+	@Operation(summary = "Subscribe to citizens that move as server-sent events, each event holding the citizen with its addresses after the move")
+	@ApiResponse(responseCode = "200", description = "Success")
+	public SseEmitter subscribeToChangedAddresses(
+		@Parameter(description = "Id of the last event received, to resume a subscription. Omit to receive the moves made from now on") @RequestHeader(name = "Last-Event-ID", required = false) @Min(0) final Long lastEventId) {
+
+		return citizenAddressChangeFeed.subscribe(lastEventId);
+	}
+
+	@GetMapping(path = "/changes", produces = APPLICATION_JSON_VALUE)
+	@Operation(summary = "Show the changes to citizens and their addresses made after the given sequence number, ordered by sequence number")
+	@ApiResponse(responseCode = "200", description = "Success")
+	public ResponseEntity<FindCitizenChangesResponse> getChanges(
+		@Parameter(description = "Sequence number of the last change already read, 0 to read from the start") @RequestParam(defaultValue = "0") @Min(0) final long after,
+		@Parameter(description = "Result size per page") @RequestParam(defaultValue = "100") @Min(1) @Max(1000) final int limit) {
+
+		return ok(citizenChangeService.getChanges(after, limit));
+	}
+
 	@GetMapping(path = "/{personId}/personnumber", produces = APPLICATION_JSON_VALUE)
 	@Operation(summary = "Get Personal identity number from personId")
 	@ApiResponse(responseCode = "200", description = "Success")
@@ -109,6 +176,15 @@ public class CitizenResource {
 		return ok(citizenService.getPersonIdsInBatch(personalNumbers));
 	}
 
+	@PostMapping(path = "/guid/batch/municipality", produces = APPLICATION_JSON_VALUE)
+	@Operation(summary = "Get an array of personIds from Personal identity numbers, looking up numbers for municipality 2281 in Party")
+	@ApiResponse(responseCode = "200", description = "Success")
+	public ResponseEntity<List<PersonGuidBatch>> getPersonIdsBatchByMunicipality(
+		@Valid @RequestBody List<@NotNull @Valid PersonGuidBatchItem> items) {
+
+		return ok(citizenService.getPersonIdsInBatchByMunicipality(items));
+	}
+
 	@PostMapping(path = "/guid", produces = APPLICATION_JSON_VALUE)
 	@Operation(summary = "Create person")
 	@ApiResponse(responseCode = "200", description = "Success")
@@ -118,4 +194,22 @@ public class CitizenResource {
 
 		return ok(citizenService.createPerson(person));
 	}
+
+	@PostMapping(path = "/import", consumes = APPLICATION_NDJSON_VALUE, produces = APPLICATION_JSON_VALUE)
+	@Operation(summary = "Import citizens from newline delimited JSON, one citizen per line")
+	@ApiResponse(responseCode = "200", description = "Success")
+	public ResponseEntity<CitizenImportResponse> importCitizensFromNdjson(
+		final InputStream body) {
+
+		return ok(citizenImportService.importNdjson(body));
+	}
+
+	@PostMapping(path = "/import", consumes = TEXT_CSV_VALUE, produces = APPLICATION_JSON_VALUE)
+	@Operation(summary = "Import citizens from CSV, with a header row naming the attribute of each column")
+	@ApiResponse(responseCode = "200", description = "Success")
+	public ResponseEntity<CitizenImportResponse> importCitizensFromCsv(
+		final InputStream body) {
+
+		return ok(citizenImportService.importCsv(body));
+	}
 }
@@ -0,0 +1,133 @@
+package se.sundsvall.citizen.api.model;
+
+import static io.swagger.v3.oas.annotations.media.Schema.AccessMode.READ_ONLY;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Schema(description = "Change of a citizen or one of its addresses")
+public class CitizenChange {
+
+	@Schema(description = "Sequence number of the change, increasing with every change", example = "4711", accessMode = READ_ONLY)
+	private Long sequence;
+
+	@Schema(description = "Person ID of the changed citizen", example = "b82bd8ac-1507-4d9a-958d-369261eecc15", accessMode = READ_ONLY)
+	private UUID personId;
+
+	@Schema(description = "What was changed", allowableValues = {
+		"CITIZEN", "ADDRESS"
+	}, example = "ADDRESS", accessMode = READ_ONLY)
+	private String entityType;
+
+	@Schema(description = "Type of change", allowableValues = {
+		"CREATED", "UPDATED"
+	}, example = "UPDATED", accessMode = READ_ONLY)
+	private String changeType;
+
+	@Schema(description = "Time of the change", example = "2025-01-29T09:32:35Z", accessMode = READ_ONLY)
+	private OffsetDateTime changedAt;
+
+	public static CitizenChange create() {
+		return new CitizenChange();
+	}
+
+	public Long getSequence() {
+		return sequence;
+	}
+
+	public void setSequence(Long sequence) {
+		this.sequence = sequence;
+	}
+
+	public CitizenChange withSequence(Long sequence) {
+		this.sequence = sequence;
+		return this;
+	}
+
+	public UUID getPersonId() {
+		return personId;
+	}
+
+	public void setPersonId(UUID personId) {
+		this.personId = personId;
+	}
+
+	public CitizenChange withPersonId(UUID personId) {
+		this.personId = personId;
+		return this;
+	}
+
+	public String getEntityType() {
+		return entityType;
+	}
+
+	public void setEntityType(String entityType) {
+		this.entityType = entityType;
+	}
+
+	public CitizenChange withEntityType(String entityType) {
+		this.entityType = entityType;
+		return this;
+	}
+
+	public String getChangeType() {
+		return changeType;
+	}
+
+	public void setChangeType(String changeType) {
+		this.changeType = changeType;
+	}
+
+	public CitizenChange withChangeType(String changeType) {
+		this.changeType = changeType;
+		return this;
+	}
+
+	public OffsetDateTime getChangedAt() {
+		return changedAt;
+	}
+
+	public void setChangedAt(OffsetDateTime changedAt) {
+		this.changedAt = changedAt;
+	}
+
+	public CitizenChange withChangedAt(OffsetDateTime changedAt) {
+		this.changedAt = changedAt;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(changeType, changedAt, entityType, personId, sequence);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		CitizenChange other = (CitizenChange) obj;
+		return Objects.equals(changeType, other.changeType) && Objects.equals(changedAt, other.changedAt) && Objects.equals(entityType, other.entityType)
+			&& Objects.equals(personId, other.personId) && Objects.equals(sequence, other.sequence);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("CitizenChange [sequence=").append(sequence)
+			.append(", personId=").append(personId)
+			.append(", entityType=").append(entityType)
+			.append(", changeType=").append(changeType)
+			.append(", changedAt=").append(changedAt)
+			.append("]");
+		return builder.toString();
+	}
+}
@@ -0,0 +1,109 @@
+package se.sundsvall.citizen.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Objects;
+
+@Schema(description = "Child or pupil in the custody of the imported citizen")
+public class CitizenImportCustodyChild {
+
+	@Schema(description = "Personal identity number of the child", example = "201001011234")
+	private String personalNumber;
+
+	@Schema(description = "Type of school", nullable = true)
+	private String typeOfSchool;
+
+	@Schema(description = "Unregistration code", nullable = true)
+	private String unRegCode;
+
+	@Schema(description = "Unregistration date", nullable = true, example = "2025-01-29T11:20:53Z")
+	private String unRegDate;
+
+	public static CitizenImportCustodyChild create() {
+		return new CitizenImportCustodyChild();
+	}
+
+	public String getPersonalNumber() {
+		return personalNumber;
+	}
+
+	public void setPersonalNumber(String personalNumber) {
+		this.personalNumber = personalNumber;
+	}
+
+	public CitizenImportCustodyChild withPersonalNumber(String personalNumber) {
+		this.personalNumber = personalNumber;
+		return this;
+	}
+
+	public String getTypeOfSchool() {
+		return typeOfSchool;
+	}
+
+	public void setTypeOfSchool(String typeOfSchool) {
+		this.typeOfSchool = typeOfSchool;
+	}
+
+	public CitizenImportCustodyChild withTypeOfSchool(String typeOfSchool) {
+		this.typeOfSchool = typeOfSchool;
+		return this;
+	}
+
+	public String getUnRegCode() {
+		return unRegCode;
+	}
+
+	public void setUnRegCode(String unRegCode) {
+		this.unRegCode = unRegCode;
+	}
+
+	public CitizenImportCustodyChild withUnRegCode(String unRegCode) {
+		this.unRegCode = unRegCode;
+		return this;
+	}
+
+	public String getUnRegDate() {
+		return unRegDate;
+	}
+
+	public void setUnRegDate(String unRegDate) {
+		this.unRegDate = unRegDate;
+	}
+
+	public CitizenImportCustodyChild withUnRegDate(String unRegDate) {
+		this.unRegDate = unRegDate;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(personalNumber, typeOfSchool, unRegCode, unRegDate);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		CitizenImportCustodyChild other = (CitizenImportCustodyChild) obj;
+		return Objects.equals(personalNumber, other.personalNumber) &&
+			Objects.equals(typeOfSchool, other.typeOfSchool) &&
+			Objects.equals(unRegCode, other.unRegCode) &&
+			Objects.equals(unRegDate, other.unRegDate);
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+			.append("CitizenImportCustodyChild [personalNumber=").append(personalNumber)
+			.append(", typeOfSchool=").append(typeOfSchool)
+			.append(", unRegCode=").append(unRegCode)
+			.append(", unRegDate=").append(unRegDate)
+			.append("]").toString();
+	}
+}
@@ -0,0 +1,91 @@
+package se.sundsvall.citizen.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Objects;
+
+@Schema(description = "Row that could not be imported")
+public class CitizenImportError {
+
+	@Schema(description = "Line number of the row in the imported file")
+	private long line;
+
+	@Schema(description = "Personal identity number of the row", nullable = true)
+	private String personalNumber;
+
+	@Schema(description = "Reason why the row could not be imported")
+	private String errorMessage;
+
+	public static CitizenImportError create() {
+		return new CitizenImportError();
+	}
+
+	public long getLine() {
+		return line;
+	}
+
+	public void setLine(long line) {
+		this.line = line;
+	}
+
+	public CitizenImportError withLine(long line) {
+		this.line = line;
+		return this;
+	}
+
+	public String getPersonalNumber() {
+		return personalNumber;
+	}
+
+	public void setPersonalNumber(String personalNumber) {
+		this.personalNumber = personalNumber;
+	}
+
+	public CitizenImportError withPersonalNumber(String personalNumber) {
+		this.personalNumber = personalNumber;
+		return this;
+	}
+
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+
+	public void setErrorMessage(String errorMessage) {
+		this.errorMessage = errorMessage;
+	}
+
+	public CitizenImportError withErrorMessage(String errorMessage) {
+		this.errorMessage = errorMessage;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(line, personalNumber, errorMessage);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		CitizenImportError other = (CitizenImportError) obj;
+		return line == other.line &&
+			Objects.equals(personalNumber, other.personalNumber) &&
+			Objects.equals(errorMessage, other.errorMessage);
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+			.append("CitizenImportError [line=").append(line)
+			.append(", personalNumber=").append(personalNumber)
+			.append(", errorMessage=").append(errorMessage)
+			.append("]").toString();
+	}
+}
@@ -0,0 +1,218 @@
+package se.sundsvall.citizen.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Objects;
+
+@Schema(description = "Citizen to import, one per NDJSON line or CSV row")
+public class CitizenImportRecord {
+
+	@Schema(description = "Personal identity number", example = "198001011234")
+	private String personalNumber;
+
+	@Schema(description = "Given name")
+	private String givenname;
+
+	@Schema(description = "Last name")
+	private String lastname;
+
+	@Schema(description = "Gender")
+	private String gender;
+
+	@Schema(description = "Civil status")
+	private String civilStatus;
+
+	@Schema(description = "NR date")
+	private String nrDate;
+
+	@Schema(description = "Classification")
+	private String classified;
+
+	@Schema(description = "Protected number")
+	private String protectedNr;
+
+	@Schema(description = "Addresses of the citizen, only supported for NDJSON imports")
+	private List<CitizenAddress> addresses;
+
+	@Schema(description = "Children and pupils in the custody of the citizen, only supported for NDJSON imports")
+	private List<CitizenImportCustodyChild> custodyChildren;
+
+	public static CitizenImportRecord create() {
+		return new CitizenImportRecord();
+	}
+
+	public String getPersonalNumber() {
+		return personalNumber;
+	}
+
+	public void setPersonalNumber(String personalNumber) {
+		this.personalNumber = personalNumber;
+	}
+
+	public CitizenImportRecord withPersonalNumber(String personalNumber) {
+		this.personalNumber = personalNumber;
+		return this;
+	}
+
+	public String getGivenname() {
+		return givenname;
+	}
+
+	public void setGivenname(String givenname) {
+		this.givenname = givenname;
+	}
+
+	public CitizenImportRecord withGivenname(String givenname) {
+		this.givenname = givenname;
+		return this;
+	}
+
+	public String getLastname() {
+		return lastname;
+	}
+
+	public void setLastname(String lastname) {
+		this.lastname = lastname;
+	}
+
+	public CitizenImportRecord withLastname(String lastname) {
+		this.lastname = lastname;
+		return this;
+	}
+
+	public String getGender() {
+		return gender;
+	}
+
+	public void setGender(String gender) {
+		this.gender = gender;
+	}
+
+	public CitizenImportRecord withGender(String gender) {
+		this.gender = gender;
+		return this;
+	}
+
+	public String getCivilStatus() {
+		return civilStatus;
+	}
+
+	public void setCivilStatus(String civilStatus) {
+		this.civilStatus = civilStatus;
+	}
+
+	public CitizenImportRecord withCivilStatus(String civilStatus) {
+		this.civilStatus = civilStatus;
+		return this;
+	}
+
+	public String getNrDate() {
+		return nrDate;
+	}
+
+	public void setNrDate(String nrDate) {
+		this.nrDate = nrDate;
+	}
+
+	public CitizenImportRecord withNrDate(String nrDate) {
+		this.nrDate = nrDate;
+		return this;
+	}
+
+	public String getClassified() {
+		return classified;
+	}
+
+	public void setClassified(String classified) {
+		this.classified = classified;
+	}
+
+	public CitizenImportRecord withClassified(String classified) {
+		this.classified = classified;
+		return this;
+	}
+
+	public String getProtectedNr() {
+		return protectedNr;
+	}
+
+	public void setProtectedNr(String protectedNr) {
+		this.protectedNr = protectedNr;
+	}
+
+	public CitizenImportRecord withProtectedNr(String protectedNr) {
+		this.protectedNr = protectedNr;
+		return this;
+	}
+
+	public List<CitizenAddress> getAddresses() {
+		return addresses;
+	}
+
+	public void setAddresses(List<CitizenAddress> addresses) {
+		this.addresses = addresses;
+	}
+
+	public CitizenImportRecord withAddresses(List<CitizenAddress> addresses) {
+		this.addresses = addresses;
+		return this;
+	}
+
+	public List<CitizenImportCustodyChild> getCustodyChildren() {
+		return custodyChildren;
+	}
+
+	public void setCustodyChildren(List<CitizenImportCustodyChild> custodyChildren) {
+		this.custodyChildren = custodyChildren;
+	}
+
+	public CitizenImportRecord withCustodyChildren(List<CitizenImportCustodyChild> custodyChildren) {
+		this.custodyChildren = custodyChildren;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(personalNumber, givenname, lastname, gender, civilStatus, nrDate, classified, protectedNr, addresses, custodyChildren);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		CitizenImportRecord other = (CitizenImportRecord) obj;
+		return Objects.equals(personalNumber, other.personalNumber) &&
+			Objects.equals(givenname, other.givenname) &&
+			Objects.equals(lastname, other.lastname) &&
+			Objects.equals(gender, other.gender) &&
+			Objects.equals(civilStatus, other.civilStatus) &&
+			Objects.equals(nrDate, other.nrDate) &&
+			Objects.equals(classified, other.classified) &&
+			Objects.equals(protectedNr, other.protectedNr) &&
+			Objects.equals(addresses, other.addresses) &&
+			Objects.equals(custodyChildren, other.custodyChildren);
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+			.append("CitizenImportRecord [personalNumber=").append(personalNumber)
+			.append(", givenname=").append(givenname)
+			.append(", lastname=").append(lastname)
+			.append(", gender=").append(gender)
+			.append(", civilStatus=").append(civilStatus)
+			.append(", nrDate=").append(nrDate)
+			.append(", classified=").append(classified)
+			.append(", protectedNr=").append(protectedNr)
+			.append(", addresses=").append(addresses)
+			.append(", custodyChildren=").append(custodyChildren)
+			.append("]").toString();
+	}
+}
@@ -0,0 +1,92 @@
+package se.sundsvall.citizen.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Objects;
+
+@Schema(description = "Result of a citizen import")
+public class CitizenImportResponse {
+
+	@Schema(description = "Number of imported citizens")
+	private int imported;
+
+	@Schema(description = "Number of rows that could not be imported")
+	private int failed;
+
+	@Schema(description = "Rows that could not be imported")
+	private List<CitizenImportError> errors;
+
+	public static CitizenImportResponse create() {
+		return new CitizenImportResponse();
+	}
+
+	public int getImported() {
+		return imported;
+	}
+
+	public void setImported(int imported) {
+		this.imported = imported;
+	}
+
+	public CitizenImportResponse withImported(int imported) {
+		this.imported = imported;
+		return this;
+	}
+
+	public int getFailed() {
+		return failed;
+	}
+
+	public void setFailed(int failed) {
+		this.failed = failed;
+	}
+
+	public CitizenImportResponse withFailed(int failed) {
+		this.failed = failed;
+		return this;
+	}
+
+	public List<CitizenImportError> getErrors() {
+		return errors;
+	}
+
+	public void setErrors(List<CitizenImportError> errors) {
+		this.errors = errors;
+	}
+
+	public CitizenImportResponse withErrors(List<CitizenImportError> errors) {
+		this.errors = errors;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(imported, failed, errors);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		CitizenImportResponse other = (CitizenImportResponse) obj;
+		return imported == other.imported &&
+			failed == other.failed &&
+			Objects.equals(errors, other.errors);
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+			.append("CitizenImportResponse [imported=").append(imported)
+			.append(", failed=").append(failed)
+			.append(", errors=").append(errors)
+			.append("]").toString();
+	}
+}
@@ -18,6 +18,9 @@ public class FindCitizenChangedAddressResponse {
 	@ArraySchema(schema = @Schema(implementation = CitizenWithChangedAddress.class, accessMode = READ_ONLY))
 	private List<CitizenWithChangedAddress> citizens;
 
+	@Schema(description = "Cursor to send in to fetch the next page, absent when there are no more pages", example = "MjAyNS0wMS0yOVQwOTozMjozNVp8ZmI0N2UyNmMtMWMyNy0xMWVlLWJlNTYtMDI0MmFjMTIwMDAy", accessMode = READ_ONLY)
+	private String nextCursor;
+
 	public static FindCitizenChangedAddressResponse create() {
 		return new FindCitizenChangedAddressResponse();
 	}
@@ -48,9 +51,22 @@ public class FindCitizenChangedAddressResponse {
 		return this;
 	}
 
+	public String getNextCursor() {
+		return nextCursor;
+	}
+
+	public void setNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+	}
+
+	public FindCitizenChangedAddressResponse withNextCursor(String nextCursor) {
+		this.nextCursor = nextCursor;
+		return this;
+	}
+
 	@Override
 	public int hashCode() {
-		return Objects.hash(citizens, metaData);
+		return Objects.hash(citizens, metaData, nextCursor);
 	}
 
 	@Override
@@ -65,7 +81,7 @@ public class FindCitizenChangedAddressResponse {
 			return false;
 		}
 		FindCitizenChangedAddressResponse other = (FindCitizenChangedAddressResponse) obj;
-		return Objects.equals(citizens, other.citizens) && Objects.equals(metaData, other.metaData);
+		return Objects.equals(citizens, other.citizens) && Objects.equals(metaData, other.metaData) && Objects.equals(nextCursor, other.nextCursor);
 	}
 
 	@Override
@@ -73,6 +89,7 @@ public class FindCitizenChangedAddressResponse {
 		StringBuilder builder = new StringBuilder();
 		builder.append("FindCitizenChangedAddressResponse [metaData=").append(metaData)
 			.append(", citizens=").append(citizens)
+			.append(", nextCursor=").append(nextCursor)
 			.append("]");
 		return builder.toString();
 	}
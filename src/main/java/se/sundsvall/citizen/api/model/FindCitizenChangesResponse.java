@@ -0,0 +1,96 @@
+package se.sundsvall.citizen.api.model;
+
+import static io.swagger.v3.oas.annotations.media.Schema.AccessMode.READ_ONLY;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Objects;
+
+@Schema(description = "FindCitizenChangesResponse model")
+public class FindCitizenChangesResponse {
+
+	@JsonProperty("_meta")
+	@Schema(implementation = MetaData.class, accessMode = READ_ONLY)
+	private MetaData metaData;
+
+	@ArraySchema(schema = @Schema(implementation = CitizenChange.class, accessMode = READ_ONLY))
+	private List<CitizenChange> changes;
+
+	@Schema(description = "Sequence number of the last change in the response, send in as after to read the changes that follow. Equal to after when there are no new changes", example = "4711", accessMode = READ_ONLY)
+	private Long lastSequence;
+
+	public static FindCitizenChangesResponse create() {
+		return new FindCitizenChangesResponse();
+	}
+
+	public MetaData getMetaData() {
+		return metaData;
+	}
+
+	public void setMetaData(MetaData metaData) {
+		this.metaData = metaData;
+	}
+
+	public FindCitizenChangesResponse withMetaData(MetaData metaData) {
+		this.metaData = metaData;
+		return this;
+	}
+
+	public List<CitizenChange> getChanges() {
+		return changes;
+	}
+
+	public void setChanges(List<CitizenChange> changes) {
+		this.changes = changes;
+	}
+
+	public FindCitizenChangesResponse withChanges(List<CitizenChange> changes) {
+		this.changes = changes;
+		return this;
+	}
+
+	public Long getLastSequence() {
+		return lastSequence;
+	}
+
+	public void setLastSequence(Long lastSequence) {
+		this.lastSequence = lastSequence;
+	}
+
+	public FindCitizenChangesResponse withLastSequence(Long lastSequence) {
+		this.lastSequence = lastSequence;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(changes, lastSequence, metaData);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		FindCitizenChangesResponse other = (FindCitizenChangesResponse) obj;
+		return Objects.equals(changes, other.changes) && Objects.equals(lastSequence, other.lastSequence) && Objects.equals(metaData, other.metaData);
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		builder.append("FindCitizenChangesResponse [metaData=").append(metaData)
+			.append(", changes=").append(changes)
+			.append(", lastSequence=").append(lastSequence)
+			.append("]");
+		return builder.toString();
+	}
+}
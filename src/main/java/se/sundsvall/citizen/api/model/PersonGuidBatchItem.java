@@ -0,0 +1,78 @@
+package se.sundsvall.citizen.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.util.Objects;
+
+@Schema(description = "Personal number and municipality to fetch person ID for")
+public class PersonGuidBatchItem {
+
+	@Schema(description = "Personal identity number", example = "198001011234")
+	@NotBlank
+	@Size(max = 20)
+	private String personalNumber;
+
+	@Schema(description = "Municipality ID, numbers for municipality 2281 are looked up in Party", example = "2281")
+	@NotBlank
+	private String municipalityId;
+
+	public static PersonGuidBatchItem create() {
+		return new PersonGuidBatchItem();
+	}
+
+	public String getPersonalNumber() {
+		return personalNumber;
+	}
+
+	public void setPersonalNumber(String personalNumber) {
+		this.personalNumber = personalNumber;
+	}
+
+	public PersonGuidBatchItem withPersonalNumber(String personalNumber) {
+		this.personalNumber = personalNumber;
+		return this;
+	}
+
+	public String getMunicipalityId() {
+		return municipalityId;
+	}
+
+	public void setMunicipalityId(String municipalityId) {
+		this.municipalityId = municipalityId;
+	}
+
+	public PersonGuidBatchItem withMunicipalityId(String municipalityId) {
+		this.municipalityId = municipalityId;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(personalNumber, municipalityId);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (obj == null) {
+			return false;
+		}
+		if (getClass() != obj.getClass()) {
+			return false;
+		}
+		PersonGuidBatchItem other = (PersonGuidBatchItem) obj;
+		return Objects.equals(personalNumber, other.personalNumber) &&
+			Objects.equals(municipalityId, other.municipalityId);
+	}
+
+	@Override
+	public String toString() {
+		return new StringBuilder()
+			.append("PersonGuidBatchItem [personalNumber=").append(personalNumber)
+			.append(", municipalityId=").append(municipalityId)
+			.append("]").toString();
+	}
+}
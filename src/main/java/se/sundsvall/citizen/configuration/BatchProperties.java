@@ -0,0 +1,23 @@
+package se.sundsvall.citizen.configuration;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings for batch operations.
+ *
+ * @param chunkSize        maximum number of keys sent to the database in one query
+ * @param partyConcurrency maximum number of concurrent Party calls made by the batch requests of an instance
+ * @param partyTimeout     maximum time to wait for a single Party call in a batch request
+ */
+@Validated
+@ConfigurationProperties(prefix = "citizen.batch")
+public record BatchProperties(
+	@DefaultValue("500") @Positive int chunkSize,
+	@DefaultValue("50") @Positive int partyConcurrency,
+	@DefaultValue("PT5S") @NotNull Duration partyTimeout) {
+}
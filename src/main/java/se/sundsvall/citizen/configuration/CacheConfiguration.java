@@ -0,0 +1,46 @@
+package se.sundsvall.citizen.configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CitizenCacheProperties.class)
+public class CacheConfiguration {
+
+	/**
+	 * Cache holding mapped citizens, keyed on person id (as {@link java.util.UUID}).
+	 */
+	public static final String CITIZEN_CACHE = "citizens";
+
+	/**
+	 * Person ids (as {@link java.util.UUID}) of citizens evicted from {@link #CITIZEN_CACHE} within the last
+	 * {@code citizen.cache.repopulation-delay}. A citizen read during that time may come from a replica that has not yet
+	 * applied the write, so it is not put in the cache.
+	 */
+	public static final String CITIZEN_EVICTIONS_CACHE = "citizenEvictions";
+
+	/**
+	 * Statistics are recorded so that hits, misses and evictions are published through Micrometer (the caches of the
+	 * cache manager are bound to the meter registry by Spring Boot at startup).
+	 */
+	@Bean
+	CacheManager cacheManager(final CitizenCacheProperties properties) {
+		final var cacheManager = new CaffeineCacheManager(CITIZEN_CACHE);
+		cacheManager.setCaffeine(Caffeine.newBuilder()
+			.maximumSize(properties.maximumSize())
+			.expireAfterWrite(properties.timeToLive())
+			.recordStats());
+		cacheManager.setAllowNullValues(false);
+		cacheManager.registerCustomCache(CITIZEN_EVICTIONS_CACHE, Caffeine.newBuilder()
+			.maximumSize(properties.maximumSize())
+			.expireAfterWrite(properties.repopulationDelay())
+			.build());
+		return cacheManager;
+	}
+}
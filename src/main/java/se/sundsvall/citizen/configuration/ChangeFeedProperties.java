@@ -0,0 +1,33 @@
+package se.sundsvall.citizen.configuration;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings for the feed of change events.
+ *
+ * @param gapTimeout        maximum time to wait for a missing sequence number. Sequence numbers are assigned when an
+ *                          event is written, just before the writing transaction commits, so a gap in the sequence
+ *                          is usually a transaction that is committing. The events after a gap are held back until
+ *                          the gap is filled, or until it has been seen for this long, after which it is taken to be
+ *                          a rolled back transaction and skipped.
+ * @param pollInterval      time between reads of new change events for the subscribers to the address change stream
+ * @param heartbeatInterval maximum time without sending anything to a subscriber, after which a comment is sent to keep
+ *                          the connection open
+ * @param streamTimeout     time after which a subscription is closed, the subscriber reconnects with the id of the last
+ *                          event it received
+ * @param maxSubscribers    maximum number of concurrent subscribers to the address change stream
+ */
+@Validated
+@ConfigurationProperties(prefix = "citizen.changes")
+public record ChangeFeedProperties(
+	@DefaultValue("PT30S") @NotNull Duration gapTimeout,
+	@DefaultValue("PT1S") @NotNull Duration pollInterval,
+	@DefaultValue("PT15S") @NotNull Duration heartbeatInterval,
+	@DefaultValue("PT30M") @NotNull Duration streamTimeout,
+	@DefaultValue("100") @Positive int maxSubscribers) {
+}
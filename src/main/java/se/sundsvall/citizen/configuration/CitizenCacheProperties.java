@@ -0,0 +1,24 @@
+package se.sundsvall.citizen.configuration;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings for the cache of mapped citizens.
+ *
+ * @param maximumSize        maximum number of cached citizens
+ * @param timeToLive         time a citizen is cached after it was read
+ * @param repopulationDelay  time after an eviction during which a read citizen is not put back in the cache, which
+ *                           should cover the replication lag of the read replica
+ */
+@Validated
+@ConfigurationProperties(prefix = "citizen.cache")
+public record CitizenCacheProperties(
+	@DefaultValue("10000") @Positive long maximumSize,
+	@DefaultValue("PT5M") @NotNull Duration timeToLive,
+	@DefaultValue("PT5S") @NotNull Duration repopulationDelay) {
+}
@@ -0,0 +1,78 @@
+package se.sundsvall.citizen.configuration;
+
+import static org.hibernate.cache.jcache.ConfigSettings.CACHE_MANAGER;
+import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.USE_SECOND_LEVEL_CACHE;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import java.util.Map;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Hibernate second-level cache, backed by Caffeine through JCache. Every region is created here with the size and
+ * time to live from {@link EntityCacheProperties}, and its statistics are published through Micrometer. The cache is
+ * only created when citizen.entity-cache.enabled is true.
+ */
+@Configuration
+@EnableConfigurationProperties(EntityCacheProperties.class)
+public class EntityCacheConfiguration {
+
+	public static final String CITIZEN_REGION = "citizens";
+	public static final String CITIZEN_ADDRESSES_REGION = "citizens.addresses";
+	public static final String CITIZEN_CUSTODY_CHILDREN_REGION = "citizens.custodyChildren";
+	public static final String ADDRESS_REGION = "citizen_addresses";
+	public static final String CUSTODY_CHILDREN_REGION = "custody_children_pupils";
+
+	@Bean(destroyMethod = "close")
+	@ConditionalOnProperty(prefix = "citizen.entity-cache", name = "enabled", havingValue = "true")
+	CacheManager entityCacheManager(final EntityCacheProperties properties) {
+		final var cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+		regions(properties).forEach((name, region) -> {
+			final var configuration = new CaffeineConfiguration<Object, Object>();
+			configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+			configuration.setExpireAfterWrite(OptionalLong.of(region.timeToLive().toNanos()));
+			configuration.setStatisticsEnabled(true);
+			cacheManager.createCache(name, configuration);
+		});
+		return cacheManager;
+	}
+
+	@Bean
+	HibernatePropertiesCustomizer entityCacheHibernatePropertiesCustomizer(final EntityCacheProperties properties, final ObjectProvider<CacheManager> entityCacheManager) {
+		return hibernateProperties -> {
+			hibernateProperties.put(USE_SECOND_LEVEL_CACHE, properties.enabled());
+			if (properties.enabled()) {
+				hibernateProperties.put(CACHE_REGION_FACTORY, "jcache");
+				hibernateProperties.put(CACHE_MANAGER, entityCacheManager.getObject());
+			}
+		};
+	}
+
+	@Bean
+	@ConditionalOnProperty(prefix = "citizen.entity-cache", name = "enabled", havingValue = "true")
+	MeterBinder entityCacheMetrics(final CacheManager entityCacheManager) {
+		return registry -> entityCacheManager.getCacheNames()
+			.forEach(name -> new JCacheMetrics<>(entityCacheManager.getCache(name), Tags.of("cacheType", "hibernate")).bindTo(registry));
+	}
+
+	static Map<String, EntityCacheProperties.Region> regions(final EntityCacheProperties properties) {
+		return Map.of(
+			CITIZEN_REGION, properties.citizens(),
+			CITIZEN_ADDRESSES_REGION, properties.addresses(),
+			CITIZEN_CUSTODY_CHILDREN_REGION, properties.custodyChildren(),
+			ADDRESS_REGION, properties.addresses(),
+			CUSTODY_CHILDREN_REGION, properties.custodyChildren());
+	}
+}
@@ -0,0 +1,40 @@
+package se.sundsvall.citizen.configuration;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Settings for the Hibernate second-level cache. Each entity setting also applies to the collection region holding the
+ * ids of that entity per citizen.
+ * <p>
+ * The cache is off by default. It is local to each instance and only sees the writes made through Hibernate on that
+ * instance, so writes made by other instances, or data loaded directly into the database, are seen only when the
+ * cached entries expire.
+ *
+ * @param enabled         if true, the second-level cache is turned on
+ * @param citizens        region for citizens
+ * @param addresses       region for addresses, and the addresses collection of citizens
+ * @param custodyChildren region for custody children, and the custody children collection of citizens
+ */
+@Validated
+@ConfigurationProperties(prefix = "citizen.entity-cache")
+public record EntityCacheProperties(
+	@DefaultValue("false") boolean enabled,
+	@Valid @DefaultValue Region citizens,
+	@Valid @DefaultValue Region addresses,
+	@Valid @DefaultValue Region custodyChildren) {
+
+	/**
+	 * @param maximumSize maximum number of entries in the region
+	 * @param timeToLive  time an entry is kept after it was written
+	 */
+	public record Region(
+		@DefaultValue("100000") @Positive long maximumSize,
+		@DefaultValue("PT5M") @NotNull Duration timeToLive) {
+	}
+}
@@ -0,0 +1,55 @@
+package se.sundsvall.citizen.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+/**
+ * Sends read-only transactions to a MariaDB read replica when citizen.datasource.replica.url is set. Without it the
+ * auto configured data source is used for everything. Writes, and reads in read-write transactions, always go to the
+ * primary.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "citizen.datasource.replica", name = "url")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class ReplicaDataSourceConfiguration {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+		return properties.initializeDataSourceBuilder()
+			.type(HikariDataSource.class)
+			.build();
+	}
+
+	@Bean
+	@ConfigurationProperties("citizen.datasource.replica.hikari")
+	HikariDataSource replicaDataSource(final DataSourceProperties primaryProperties, final ReplicaDataSourceProperties properties) {
+		final var dataSource = DataSourceBuilder.create()
+			.type(HikariDataSource.class)
+			.driverClassName(primaryProperties.determineDriverClassName())
+			.url(properties.url())
+			.username(properties.username())
+			.password(properties.password())
+			.build();
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	@Primary
+	DataSource dataSource(@Qualifier("primaryDataSource") final DataSource primary, @Qualifier("replicaDataSource") final DataSource replica) {
+		final var routingDataSource = new ReplicaRoutingDataSource(primary, replica);
+		routingDataSource.afterPropertiesSet();
+		return new LazyConnectionDataSourceProxy(routingDataSource);
+	}
+}
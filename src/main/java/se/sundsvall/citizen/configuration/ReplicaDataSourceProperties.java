@@ -0,0 +1,20 @@
+package se.sundsvall.citizen.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Connection settings for the MariaDB read replica. Pool settings are given under citizen.datasource.replica.hikari, in
+ * the same way as spring.datasource.hikari for the primary. The properties are bound by the configuration properties
+ * scan even when no replica is configured, so the url is not required here; {@link ReplicaDataSourceConfiguration} is
+ * only active when it is set.
+ *
+ * @param url      JDBC url of the replica
+ * @param username user name for the replica
+ * @param password password for the replica
+ */
+@ConfigurationProperties(prefix = "citizen.datasource.replica")
+public record ReplicaDataSourceProperties(
+	String url,
+	String username,
+	String password) {
+}
@@ -0,0 +1,30 @@
+package se.sundsvall.citizen.configuration;
+
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Routes connections for read-only transactions to the replica and everything else to the primary. The routing is
+ * decided when the connection is fetched, so this data source must be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} for the read-only flag of the transaction
+ * to be known at that point.
+ */
+class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+	enum Target {
+		PRIMARY,
+		REPLICA
+	}
+
+	ReplicaRoutingDataSource(final DataSource primary, final DataSource replica) {
+		setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return TransactionSynchronizationManager.isCurrentTransactionReadOnly() ? Target.REPLICA : Target.PRIMARY;
+	}
+}
@@ -0,0 +1,26 @@
+package se.sundsvall.citizen.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity;
+
+@CircuitBreaker(name = "CitizenChangeEventRepository")
+public interface CitizenChangeEventRepository extends JpaRepository<CitizenChangeEventEntity, Long> {
+
+	/**
+	 * Fetches the change events following directly after the sent in sequence number, ordered by sequence number.
+	 */
+	@Query("""
+		SELECT e FROM CitizenChangeEventEntity e
+		WHERE e.sequenceNumber > :after
+		ORDER BY e.sequenceNumber
+		""")
+	List<CitizenChangeEventEntity> findChangesAfter(@Param("after") long after, Pageable pageable);
+
+	Optional<CitizenChangeEventEntity> findFirstByOrderBySequenceNumberDesc();
+}
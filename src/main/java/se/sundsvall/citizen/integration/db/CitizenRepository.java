@@ -4,20 +4,100 @@ import static se.sundsvall.citizen.integration.db.specification.CitizenSpecifica
 import static se.sundsvall.citizen.integration.db.specification.CitizenSpecification.withPersonId;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import se.sundsvall.citizen.integration.db.model.CitizenEntity;
+import se.sundsvall.citizen.integration.db.model.projection.CitizenKeyProjection;
+import se.sundsvall.citizen.integration.db.model.projection.PersonIdProjection;
 
 @CircuitBreaker(name = "CitizenRepository")
-public interface CitizenRepository extends JpaRepository<CitizenEntity, String>, JpaSpecificationExecutor<CitizenEntity> {
+public interface CitizenRepository extends JpaRepository<CitizenEntity, UUID>, JpaSpecificationExecutor<CitizenEntity> {
 
-	default Page<CitizenEntity> findAllByParameters(final String personId, final Pageable pageable, final boolean showClassified) {
+	default Page<CitizenEntity> findAllByParameters(final UUID personId, final Pageable pageable, final boolean showClassified) {
 		return this.findAll(withPersonId(personId)
 			.and(withClassified(showClassified)), pageable);
 	}
 
+	/**
+	 * Fetches all citizens matching the sent in person ids, with their addresses loaded in the same query.
+	 *
+	 * @param  personIds      the person ids to fetch (the caller is responsible for keeping the list within a
+	 *                        reasonable size for an IN-clause)
+	 * @param  showClassified if false, citizens with a classification are excluded by the query
+	 * @return                list of matching citizens, in no particular order
+	 */
+	default List<CitizenEntity> findAllWithAddressesByPersonIds(final Collection<UUID> personIds, final boolean showClassified) {
+		return showClassified ? findAllByPersonIdIn(personIds) : findAllByPersonIdInAndClassifiedFlagFalse(personIds);
+	}
+
+	@EntityGraph(CitizenEntity.GRAPH_WITH_ADDRESSES)
+	List<CitizenEntity> findAllByPersonIdIn(Collection<UUID> personIds);
+
+	@EntityGraph(CitizenEntity.GRAPH_WITH_ADDRESSES)
+	List<CitizenEntity> findAllByPersonIdInAndClassifiedFlagFalse(Collection<UUID> personIds);
+
 	Optional<CitizenEntity> findByPersonalNumber(String personalNumber);
+
+	List<PersonIdProjection> findAllByPersonalNumberIn(Collection<String> personalNumbers);
+
+	/**
+	 * Reads only the person id and personal number of the citizen with the sent in personal number, without loading the
+	 * entity into the persistence context.
+	 */
+	Optional<PersonIdProjection> findPersonIdByPersonalNumber(String personalNumber);
+
+	/**
+	 * Reads only the person id and personal number of the citizen with the sent in person id, without loading the entity
+	 * into the persistence context.
+	 */
+	Optional<PersonIdProjection> findPersonalNumberByPersonId(UUID personId);
+
+	/**
+	 * Fetches every citizen with addresses that has changed since the sent in date. Each citizen is returned once, with
+	 * all addresses loaded in the same query, ordered by (updatedAt, personId).
+	 */
+	@EntityGraph(CitizenEntity.GRAPH_WITH_ADDRESSES)
+	@Query("""
+		SELECT c FROM CitizenEntity c
+		WHERE c.updatedAt >= :changedDateFrom
+		AND c.addresses IS NOT EMPTY
+		ORDER BY c.updatedAt, c.personId
+		""")
+	List<CitizenEntity> findAllWithChangedAddressSince(@Param("changedDateFrom") OffsetDateTime changedDateFrom);
+
+	/**
+	 * Fetches the first page of keys for citizens with addresses that have changed since the sent in date, ordered by
+	 * (updatedAt, personId).
+	 */
+	@Query("""
+		SELECT c.personId AS personId, c.updatedAt AS updatedAt FROM CitizenEntity c
+		WHERE c.updatedAt >= :changedDateFrom
+		AND c.addresses IS NOT EMPTY
+		ORDER BY c.updatedAt, c.personId
+		""")
+	List<CitizenKeyProjection> findKeysWithChangedAddressSince(@Param("changedDateFrom") OffsetDateTime changedDateFrom, Pageable pageable);
+
+	/**
+	 * Fetches the page of keys for citizens with addresses that have changed since the sent in date, following directly
+	 * after the sent in (updatedAt, personId) keyset.
+	 */
+	@Query("""
+		SELECT c.personId AS personId, c.updatedAt AS updatedAt FROM CitizenEntity c
+		WHERE c.updatedAt >= :changedDateFrom
+		AND (c.updatedAt > :updatedAt OR (c.updatedAt = :updatedAt AND c.personId > :personId))
+		AND c.addresses IS NOT EMPTY
+		ORDER BY c.updatedAt, c.personId
+		""")
+	List<CitizenKeyProjection> findKeysWithChangedAddressSinceAfter(@Param("changedDateFrom") OffsetDateTime changedDateFrom,
+		@Param("updatedAt") OffsetDateTime updatedAt, @Param("personId") UUID personId, Pageable pageable);
 }
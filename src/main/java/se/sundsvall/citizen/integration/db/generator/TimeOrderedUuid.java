@@ -0,0 +1,20 @@
+package se.sundsvall.citizen.integration.db.generator;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Marks an id attribute of type {@link java.util.UUID} to be generated as a time ordered (version 7) UUID.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RUNTIME)
+@Target({
+	FIELD, METHOD
+})
+public @interface TimeOrderedUuid {
+}
@@ -0,0 +1,36 @@
+package se.sundsvall.citizen.integration.db.generator;
+
+import java.util.EnumSet;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+/**
+ * Generates version 7 UUIDs (RFC 9562), where the most significant 48 bits hold the Unix epoch in milliseconds. Stored
+ * as BINARY(16) the ids are roughly increasing, which keeps inserts at the end of the primary key index instead of
+ * splitting pages at random positions.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+
+	private static final long serialVersionUID = 2718153614093475215L;
+
+	@Override
+	public Object generate(final SharedSessionContractImplementor session, final Object owner, final Object currentValue, final EventType eventType) {
+		return generate();
+	}
+
+	@Override
+	public EnumSet<EventType> getEventTypes() {
+		return EventTypeSets.INSERT_ONLY;
+	}
+
+	public static UUID generate() {
+		final var random = ThreadLocalRandom.current();
+		final var mostSignificantBits = (System.currentTimeMillis() << 16) | 0x7000L | (random.nextLong() & 0x0FFFL);
+		final var leastSignificantBits = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+		return new UUID(mostSignificantBits, leastSignificantBits);
+	}
+}
@@ -0,0 +1,71 @@
+package se.sundsvall.citizen.integration.db.listener;
+
+import static se.sundsvall.citizen.configuration.CacheConfiguration.CITIZEN_CACHE;
+import static se.sundsvall.citizen.configuration.CacheConfiguration.CITIZEN_EVICTIONS_CACHE;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.UUID;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import se.sundsvall.citizen.integration.db.model.CitizenAddressEntity;
+import se.sundsvall.citizen.integration.db.model.CitizenEntity;
+
+/**
+ * Entity listener that evicts the cached representation of a citizen whenever the citizen, or one of its addresses,
+ * is written. The entry is evicted directly and once more after commit, so that a read racing with the write can not
+ * leave the pre-commit state in the cache. Every eviction is also recorded in
+ * {@link se.sundsvall.citizen.configuration.CacheConfiguration#CITIZEN_EVICTIONS_CACHE}, which keeps reads from a
+ * lagging replica from putting the state from before the write back in the cache.
+ */
+@Component
+public class CitizenCacheEvictionListener {
+
+	private final CacheManager cacheManager;
+
+	public CitizenCacheEvictionListener(final CacheManager cacheManager) {
+		this.cacheManager = cacheManager;
+	}
+
+	@PostPersist
+	@PostUpdate
+	@PostRemove
+	void onWrite(final Object entity) {
+		if (entity instanceof final CitizenEntity citizen) {
+			evict(citizen.getPersonId());
+		} else if (entity instanceof final CitizenAddressEntity address && address.getCitizen() != null) {
+			evict(address.getCitizen().getPersonId());
+		}
+	}
+
+	private void evict(final UUID personId) {
+		final var cache = cacheManager.getCache(CITIZEN_CACHE);
+		if (cache == null || personId == null) {
+			return;
+		}
+		final var evictions = cacheManager.getCache(CITIZEN_EVICTIONS_CACHE);
+
+		evict(cache, evictions, personId);
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					evict(cache, evictions, personId);
+				}
+			});
+		}
+	}
+
+	private static void evict(final Cache cache, final Cache evictions, final UUID personId) {
+		// Recorded before the eviction, see CitizenService for the read side
+		if (evictions != null) {
+			evictions.put(personId, Boolean.TRUE);
+		}
+		cache.evict(personId);
+	}
+}
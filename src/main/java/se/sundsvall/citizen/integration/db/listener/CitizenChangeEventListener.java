@@ -0,0 +1,113 @@
+package se.sundsvall.citizen.integration.db.listener;
+
+import static se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity.ChangeType.CREATED;
+import static se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity.ChangeType.UPDATED;
+import static se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity.EntityType.ADDRESS;
+import static se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity.EntityType.CITIZEN;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostUpdate;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import se.sundsvall.citizen.integration.db.model.CitizenAddressEntity;
+import se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity.ChangeType;
+import se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity.EntityType;
+import se.sundsvall.citizen.integration.db.model.CitizenEntity;
+
+/**
+ * Entity listener that writes an entry to the change event outbox whenever a citizen, or one of its addresses, is
+ * persisted or updated. The entries of a transaction are collected and inserted in one JDBC batch after the last flush,
+ * just before the commit, through the connection of the transaction, so they are committed or rolled back together with
+ * the changes. Inserting them last also keeps the time between a sequence number being assigned and committed short,
+ * see {@link se.sundsvall.citizen.configuration.ChangeFeedProperties#gapTimeout()}. JPA does not allow the entity
+ * manager to be used from a lifecycle callback, which is why the insert is made with plain JDBC.
+ */
+@Component
+public class CitizenChangeEventListener {
+
+	// created_at is left to the database, so that all entries are stamped by the same clock
+	private static final String INSERT_EVENT = """
+		INSERT INTO citizen_change_events (person_id, entity_type, change_type)
+		VALUES (?, ?, ?)
+		""";
+
+	private final Map<SessionImplementor, List<Object[]>> pendingEvents = new ConcurrentHashMap<>();
+	private final JdbcTemplate jdbcTemplate;
+	private final EntityManager entityManager;
+
+	/**
+	 * @param jdbcTemplate  template writing the entries
+	 * @param entityManager shared entity manager, used to find the session of the current transaction. It is lazy, as
+	 *                      the listener is created while the entity manager factory is built.
+	 */
+	public CitizenChangeEventListener(final JdbcTemplate jdbcTemplate, @Lazy final EntityManager entityManager) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.entityManager = entityManager;
+	}
+
+	@PostPersist
+	void onPersist(final Object entity) {
+		onWrite(entity, CREATED);
+	}
+
+	@PostUpdate
+	void onUpdate(final Object entity) {
+		onWrite(entity, UPDATED);
+	}
+
+	private void onWrite(final Object entity, final ChangeType changeType) {
+		if (entity instanceof final CitizenEntity citizen) {
+			write(citizen.getPersonId(), CITIZEN, changeType);
+		} else if (entity instanceof final CitizenAddressEntity address && address.getCitizen() != null) {
+			write(address.getCitizen().getPersonId(), ADDRESS, changeType);
+		}
+	}
+
+	private void write(final UUID personId, final EntityType entityType, final ChangeType changeType) {
+		if (personId == null) {
+			return;
+		}
+
+		final var event = new Object[] {
+			toBytes(personId), entityType.name(), changeType.name()
+		};
+		final var session = entityManager.unwrap(SessionImplementor.class);
+		if (!session.isTransactionInProgress()) {
+			jdbcTemplate.update(INSERT_EVENT, event);
+			return;
+		}
+		pendingEvents.computeIfAbsent(session, this::registerInsert).add(event);
+	}
+
+	/**
+	 * Registers the insert of the entries of the transaction of the session. Hibernate runs the before completion
+	 * processes after the flush made on commit, so entries added by that flush are included.
+	 */
+	private List<Object[]> registerInsert(final SessionImplementor session) {
+		session.getActionQueue().registerProcess(beforeCompletion -> {
+			final var events = pendingEvents.remove(beforeCompletion);
+			if (events != null && !events.isEmpty()) {
+				jdbcTemplate.batchUpdate(INSERT_EVENT, events);
+			}
+		});
+		// Removes the entries of a transaction that was rolled back before they were inserted
+		session.getActionQueue().registerProcess((success, afterCompletion) -> pendingEvents.remove(afterCompletion));
+		return new ArrayList<>();
+	}
+
+	private static byte[] toBytes(final UUID uuid) {
+		return ByteBuffer.allocate(16)
+			.putLong(uuid.getMostSignificantBits())
+			.putLong(uuid.getLeastSignificantBits())
+			.array();
+	}
+}
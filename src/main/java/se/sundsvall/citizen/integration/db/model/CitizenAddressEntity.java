@@ -2,9 +2,12 @@ package se.sundsvall.citizen.integration.db.model;
 
 import static java.time.OffsetDateTime.now;
 import static java.time.temporal.ChronoUnit.MILLIS;
+import static se.sundsvall.citizen.configuration.EntityCacheConfiguration.ADDRESS_REGION;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
@@ -17,14 +20,23 @@ import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.Objects;
 import org.hibernate.Length;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.TimeZoneStorage;
 import org.hibernate.annotations.TimeZoneStorageType;
 import org.hibernate.annotations.UuidGenerator;
+import se.sundsvall.citizen.integration.db.listener.CitizenCacheEvictionListener;
+import se.sundsvall.citizen.integration.db.listener.CitizenChangeEventListener;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ADDRESS_REGION)
+@EntityListeners({
+	CitizenCacheEvictionListener.class, CitizenChangeEventListener.class
+})
 @Table(name = "citizen_addresses",
 	indexes = {
-		@Index(name = "idx_citizen_addresses_person_id", columnList = "person_id")
+		@Index(name = "citizen_addresses_person_id_index", columnList = "person_id")
 	})
 public class CitizenAddressEntity implements Serializable {
 
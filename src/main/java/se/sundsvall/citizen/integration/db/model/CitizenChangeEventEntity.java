@@ -0,0 +1,167 @@
+package se.sundsvall.citizen.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.UUID;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.TimeZoneStorage;
+import org.hibernate.annotations.TimeZoneStorageType;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * Outbox entry written in the same transaction as a change to a citizen or one of its addresses. The sequence number
+ * is assigned by the database and increases with every entry, which lets consumers read the changes that follow the
+ * last entry they have seen.
+ */
+@Entity
+@Immutable
+@Table(name = "citizen_change_events")
+public class CitizenChangeEventEntity implements Serializable {
+
+	private static final long serialVersionUID = 3617208476839045211L;
+
+	public enum EntityType {
+		CITIZEN,
+		ADDRESS
+	}
+
+	public enum ChangeType {
+		CREATED,
+		UPDATED
+	}
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@Column(name = "sequence_number")
+	private Long sequenceNumber;
+
+	@JdbcTypeCode(SqlTypes.BINARY)
+	@Column(name = "person_id", length = 16, nullable = false)
+	private UUID personId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "entity_type", length = 16, nullable = false)
+	private EntityType entityType;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "change_type", length = 16, nullable = false)
+	private ChangeType changeType;
+
+	@Column(name = "created_at", nullable = false, insertable = false, updatable = false)
+	@ColumnDefault("CURRENT_TIMESTAMP(6)")
+	@TimeZoneStorage(TimeZoneStorageType.NORMALIZE)
+	private OffsetDateTime createdAt;
+
+	public static CitizenChangeEventEntity create() {
+		return new CitizenChangeEventEntity();
+	}
+
+	public Long getSequenceNumber() {
+		return sequenceNumber;
+	}
+
+	public void setSequenceNumber(final Long sequenceNumber) {
+		this.sequenceNumber = sequenceNumber;
+	}
+
+	public CitizenChangeEventEntity withSequenceNumber(final Long sequenceNumber) {
+		this.sequenceNumber = sequenceNumber;
+		return this;
+	}
+
+	public UUID getPersonId() {
+		return personId;
+	}
+
+	public void setPersonId(final UUID personId) {
+		this.personId = personId;
+	}
+
+	public CitizenChangeEventEntity withPersonId(final UUID personId) {
+		this.personId = personId;
+		return this;
+	}
+
+	public EntityType getEntityType() {
+		return entityType;
+	}
+
+	public void setEntityType(final EntityType entityType) {
+		this.entityType = entityType;
+	}
+
+	public CitizenChangeEventEntity withEntityType(final EntityType entityType) {
+		this.entityType = entityType;
+		return this;
+	}
+
+	public ChangeType getChangeType() {
+		return changeType;
+	}
+
+	public void setChangeType(final ChangeType changeType) {
+		this.changeType = changeType;
+	}
+
+	public CitizenChangeEventEntity withChangeType(final ChangeType changeType) {
+		this.changeType = changeType;
+		return this;
+	}
+
+	public OffsetDateTime getCreatedAt() {
+		return createdAt;
+	}
+
+	public void setCreatedAt(final OffsetDateTime createdAt) {
+		this.createdAt = createdAt;
+	}
+
+	public CitizenChangeEventEntity withCreatedAt(final OffsetDateTime createdAt) {
+		this.createdAt = createdAt;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(sequenceNumber, personId, entityType, changeType, createdAt);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if ((obj == null) || (getClass() != obj.getClass())) {
+			return false;
+		}
+		final var other = (CitizenChangeEventEntity) obj;
+		return Objects.equals(sequenceNumber, other.sequenceNumber) &&
+			Objects.equals(personId, other.personId) &&
+			(entityType == other.entityType) &&
+			(changeType == other.changeType) &&
+			Objects.equals(createdAt, other.createdAt);
+	}
+
+	@Override
+	public String toString() {
+		final var builder = new StringBuilder();
+		builder.append("CitizenChangeEventEntity [sequenceNumber=").append(sequenceNumber)
+			.append(", personId=").append(personId)
+			.append(", entityType=").append(entityType)
+			.append(", changeType=").append(changeType)
+			.append(", createdAt=").append(createdAt)
+			.append("]");
+		return builder.toString();
+	}
+}
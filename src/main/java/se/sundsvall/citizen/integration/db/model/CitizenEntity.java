@@ -2,12 +2,19 @@ package se.sundsvall.citizen.integration.db.model;
 
 import static java.time.OffsetDateTime.now;
 import static java.time.temporal.ChronoUnit.MILLIS;
+import static se.sundsvall.citizen.configuration.EntityCacheConfiguration.CITIZEN_ADDRESSES_REGION;
+import static se.sundsvall.citizen.configuration.EntityCacheConfiguration.CITIZEN_CUSTODY_CHILDREN_REGION;
+import static se.sundsvall.citizen.configuration.EntityCacheConfiguration.CITIZEN_REGION;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
 import jakarta.persistence.Index;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
@@ -18,23 +25,51 @@ import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.UUID;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.TimeZoneStorage;
 import org.hibernate.annotations.TimeZoneStorageType;
-import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.type.SqlTypes;
+import se.sundsvall.citizen.integration.db.generator.TimeOrderedUuid;
+import se.sundsvall.citizen.integration.db.listener.CitizenCacheEvictionListener;
+import se.sundsvall.citizen.integration.db.listener.CitizenChangeEventListener;
 
 @Entity
+@Cacheable
+@NamedEntityGraph(name = CitizenEntity.GRAPH_WITH_ADDRESSES, attributeNodes = @NamedAttributeNode("addresses"))
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CITIZEN_REGION)
+@EntityListeners({
+	CitizenCacheEvictionListener.class, CitizenChangeEventListener.class
+})
 @Table(name = "citizens",
 	indexes = {
-		@Index(name = "idx_citizens_personal_number", columnList = "personal_number", unique = true)
+		@Index(name = "idx_citizens_personal_number", columnList = "personal_number", unique = true),
+		@Index(name = "citizens_is_classified_index", columnList = "is_classified"),
+		@Index(name = "citizens_updated_at_index", columnList = "updated_at")
 	})
 public class CitizenEntity implements Serializable {
 
+	/**
+	 * Entity graph fetching the addresses of the citizens in the same query.
+	 */
+	public static final String GRAPH_WITH_ADDRESSES = "citizen-with-addresses";
+
+	/**
+	 * Number of collections initialized per query when a collection is loaded lazily, e.g. when citizens are read without
+	 * an entity graph.
+	 */
+	private static final int COLLECTION_BATCH_SIZE = 100;
+
 	private static final long serialVersionUID = -4567890123456789L;
 
 	@Id
-	@UuidGenerator
-	@Column(name = "person_id")
-	private String personId;
+	@TimeOrderedUuid
+	@JdbcTypeCode(SqlTypes.BINARY)
+	@Column(name = "person_id", length = 16)
+	private UUID personId;
 
 	@Column(name = "personal_number", length = 20, unique = true)
 	private String personalNumber;
@@ -58,6 +93,14 @@ public class CitizenEntity implements Serializable {
 	@Column(name = "classified", length = 5000)
 	private String classified;
 
+	/**
+	 * Whether the citizen has a classification, so that queries can filter on a small indexed column instead of the
+	 * classification payload. The column is generated by the database from {@link #classified} and is never written by
+	 * Hibernate; the field is kept in step by {@link #setClassified(String)} until the entity is read back.
+	 */
+	@Column(name = "is_classified", insertable = false, updatable = false, columnDefinition = "BOOLEAN AS (classified IS NOT NULL) PERSISTENT")
+	private boolean classifiedFlag;
+
 	@Column(name = "protected_nr", length = 50)
 	private String protectedNr;
 
@@ -70,9 +113,13 @@ public class CitizenEntity implements Serializable {
 	private OffsetDateTime updatedAt;
 
 	@OneToMany(mappedBy = "citizen", cascade = CascadeType.ALL, orphanRemoval = true)
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CITIZEN_ADDRESSES_REGION)
+	@BatchSize(size = COLLECTION_BATCH_SIZE)
 	private List<CitizenAddressEntity> addresses = new ArrayList<>();
 
 	@OneToMany(mappedBy = "citizen", cascade = CascadeType.ALL, orphanRemoval = true)
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CITIZEN_CUSTODY_CHILDREN_REGION)
+	@BatchSize(size = COLLECTION_BATCH_SIZE)
 	private List<CustodyChildrenPupilEntity> custodyChildren = new ArrayList<>();
 
 	public static CitizenEntity create() {
@@ -90,15 +137,15 @@ public class CitizenEntity implements Serializable {
 		updatedAt = now(ZoneId.systemDefault()).truncatedTo(MILLIS);
 	}
 
-	public String getPersonId() {
+	public UUID getPersonId() {
 		return personId;
 	}
 
-	public void setPersonId(final String personId) {
+	public void setPersonId(final UUID personId) {
 		this.personId = personId;
 	}
 
-	public CitizenEntity withPersonId(final String personId) {
+	public CitizenEntity withPersonId(final UUID personId) {
 		this.personId = personId;
 		return this;
 	}
@@ -187,13 +234,18 @@ public class CitizenEntity implements Serializable {
 
 	public void setClassified(final String classified) {
 		this.classified = classified;
+		this.classifiedFlag = classified != null;
 	}
 
 	public CitizenEntity withClassified(final String classified) {
-		this.classified = classified;
+		setClassified(classified);
 		return this;
 	}
 
+	public boolean isClassifiedFlag() {
+		return classifiedFlag;
+	}
+
 	public String getProtectedNr() {
 		return protectedNr;
 	}
@@ -262,7 +314,7 @@ public class CitizenEntity implements Serializable {
 	@Override
 	public int hashCode() {
 		return Objects.hash(personId, personalNumber, givenname, lastname, gender, civilStatus, nrDate,
-			classified, protectedNr, createdAt, updatedAt, addresses, custodyChildren);
+			classified, classifiedFlag, protectedNr, createdAt, updatedAt, addresses, custodyChildren);
 	}
 
 	@Override
@@ -282,6 +334,7 @@ public class CitizenEntity implements Serializable {
 			Objects.equals(civilStatus, other.civilStatus) &&
 			Objects.equals(nrDate, other.nrDate) &&
 			Objects.equals(classified, other.classified) &&
+			(classifiedFlag == other.classifiedFlag) &&
 			Objects.equals(protectedNr, other.protectedNr) &&
 			Objects.equals(createdAt, other.createdAt) &&
 			Objects.equals(updatedAt, other.updatedAt) &&
@@ -300,6 +353,7 @@ public class CitizenEntity implements Serializable {
 			.append(", civilStatus=").append(civilStatus)
 			.append(", nrDate=").append(nrDate)
 			.append(", classified=").append(classified)
+			.append(", classifiedFlag=").append(classifiedFlag)
 			.append(", protectedNr=").append(protectedNr)
 			.append(", createdAt=").append(createdAt)
 			.append(", updatedAt=").append(updatedAt)
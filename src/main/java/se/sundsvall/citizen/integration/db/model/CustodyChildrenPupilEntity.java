@@ -2,7 +2,9 @@ package se.sundsvall.citizen.integration.db.model;
 
 import static java.time.OffsetDateTime.now;
 import static java.time.temporal.ChronoUnit.MILLIS;
+import static se.sundsvall.citizen.configuration.EntityCacheConfiguration.CUSTODY_CHILDREN_REGION;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
@@ -16,11 +18,15 @@ import java.io.Serializable;
 import java.time.OffsetDateTime;
 import java.time.ZoneId;
 import java.util.Objects;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.TimeZoneStorage;
 import org.hibernate.annotations.TimeZoneStorageType;
 import org.hibernate.annotations.UuidGenerator;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CUSTODY_CHILDREN_REGION)
 @Table(name = "custody_children_pupils",
 	indexes = {
 		@Index(name = "idx_custody_children_pupils_person_id", columnList = "person_id")
@@ -0,0 +1,14 @@
+package se.sundsvall.citizen.integration.db.model.projection;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Closed projection of a citizen, only reading the columns used as keyset when paging over changed citizens.
+ */
+public interface CitizenKeyProjection {
+
+	UUID getPersonId();
+
+	OffsetDateTime getUpdatedAt();
+}
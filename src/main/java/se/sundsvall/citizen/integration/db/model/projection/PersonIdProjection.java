@@ -0,0 +1,13 @@
+package se.sundsvall.citizen.integration.db.model.projection;
+
+import java.util.UUID;
+
+/**
+ * Closed projection of a citizen, only reading the person id and the personal number.
+ */
+public interface PersonIdProjection {
+
+	UUID getPersonId();
+
+	String getPersonalNumber();
+}
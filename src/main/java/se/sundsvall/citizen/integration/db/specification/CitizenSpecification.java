@@ -2,12 +2,13 @@ package se.sundsvall.citizen.integration.db.specification;
 
 import static java.util.Objects.nonNull;
 
+import java.util.UUID;
 import org.springframework.data.jpa.domain.Specification;
 import se.sundsvall.citizen.integration.db.model.CitizenEntity;
 
 public interface CitizenSpecification {
 
-	static Specification<CitizenEntity> withPersonId(String personId) {
+	static Specification<CitizenEntity> withPersonId(UUID personId) {
 		return buildEqualFilter("personId", personId);
 	}
 
@@ -16,7 +17,7 @@ public interface CitizenSpecification {
 			if (Boolean.TRUE.equals(showClassified)) {
 				return cb.and(); // No filtering on classified status
 			}
-			return cb.isNull(citizenEntity.get("classified"));
+			return cb.isFalse(citizenEntity.get("classifiedFlag"));
 		};
 	}
 
@@ -0,0 +1,78 @@
+package se.sundsvall.citizen.integration.party;
+
+import se.sundsvall.citizen.integration.party.configuration.PartyIntegrationProperties;
+
+/**
+ * Concurrency limit that adapts to the latency of the calls it guards, by additive increase and multiplicative decrease:
+ * the limit grows by one when a call completes within the latency threshold while at least half of the limit is in use,
+ * and is multiplied by the backoff ratio when a call fails or is slower than the threshold. The critical sections never
+ * block, so callers on virtual threads are only pinned for a few instructions.
+ */
+final class AdaptiveConcurrencyLimiter {
+
+	private final int minLimit;
+	private final int maxLimit;
+	private final double backoffRatio;
+	private final long latencyThresholdNanos;
+
+	private int limit;
+	private int inFlight;
+
+	AdaptiveConcurrencyLimiter(final PartyIntegrationProperties.Limiter properties) {
+		this.minLimit = properties.minLimit();
+		this.maxLimit = properties.maxLimit();
+		this.backoffRatio = properties.backoffRatio();
+		this.latencyThresholdNanos = properties.latencyThreshold().toNanos();
+		this.limit = Math.clamp(properties.initialLimit(), minLimit, maxLimit);
+	}
+
+	/**
+	 * @return true if the call may be made, in which case exactly one of onSuccess, onDropped or onIgnored must follow
+	 */
+	synchronized boolean tryAcquire() {
+		if (inFlight >= limit) {
+			return false;
+		}
+		inFlight++;
+		return true;
+	}
+
+	/**
+	 * Releases a call that completed, adjusting the limit to its latency.
+	 */
+	synchronized void onSuccess(final long latencyNanos) {
+		if (latencyNanos > latencyThresholdNanos) {
+			decrease();
+		} else if (inFlight * 2 >= limit) {
+			limit = Math.min(limit + 1, maxLimit);
+		}
+		inFlight--;
+	}
+
+	/**
+	 * Releases a call that failed, which is taken as a sign of overload.
+	 */
+	synchronized void onDropped() {
+		decrease();
+		inFlight--;
+	}
+
+	/**
+	 * Releases a call that was never made, without adjusting the limit.
+	 */
+	synchronized void onIgnored() {
+		inFlight--;
+	}
+
+	synchronized int getLimit() {
+		return limit;
+	}
+
+	synchronized int getInFlight() {
+		return inFlight;
+	}
+
+	private void decrease() {
+		limit = Math.max((int) (limit * backoffRatio), minLimit);
+	}
+}
@@ -2,6 +2,7 @@ package se.sundsvall.citizen.integration.party;
 
 import static se.sundsvall.citizen.integration.party.configuration.PartyIntegrationConfiguration.INTEGRATION_NAME;
 
+import io.github.resilience4j.bulkhead.annotation.Bulkhead;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import java.util.Optional;
 import org.springframework.cloud.openfeign.FeignClient;
@@ -16,6 +17,7 @@ import se.sundsvall.citizen.integration.party.configuration.PartyIntegrationConf
 	configuration = PartyIntegrationConfiguration.class,
 	dismiss404 = true)
 @CircuitBreaker(name = INTEGRATION_NAME)
+@Bulkhead(name = INTEGRATION_NAME)
 public interface PartyClient {
 	@GetMapping(value = "/{municipalityId}/{type}/{legalId}/partyId", produces = MediaType.TEXT_PLAIN_VALUE)
 
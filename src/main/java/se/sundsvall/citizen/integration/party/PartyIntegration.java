@@ -1,25 +1,140 @@
 package se.sundsvall.citizen.integration.party;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Component;
+import se.sundsvall.citizen.integration.party.configuration.PartyIntegrationProperties;
 
 @Component
+@EnableConfigurationProperties(PartyIntegrationProperties.class)
 public class PartyIntegration {
 	private static final Logger LOG = LoggerFactory.getLogger(PartyIntegration.class);
+	private static final String METRIC_PREFIX = "party.";
+	private static final String REJECTED_METRIC = METRIC_PREFIX + "calls.rejected";
+	private static final String REASON_TAG = "reason";
+	private static final String MESSAGE_UNAVAILABLE = "Call to Party rejected by %s";
+
 	private final PartyClient client;
+	private final AsyncCache<PartyKey, Optional<String>> cache;
+	private final AdaptiveConcurrencyLimiter limiter;
+	private final Counter limiterRejections;
+	private final Counter bulkheadRejections;
+	private final Counter circuitBreakerRejections;
 
-	public PartyIntegration(final PartyClient client) {
+	public PartyIntegration(final PartyClient client, final PartyIntegrationProperties properties, final MeterRegistry meterRegistry) {
 		this.client = client;
+		this.cache = Caffeine.newBuilder()
+			.maximumSize(properties.cache().maximumSize())
+			.expireAfter(expiry(properties.cache()))
+			.recordStats()
+			.buildAsync();
+		this.limiter = new AdaptiveConcurrencyLimiter(properties.limiter());
+
+		Gauge.builder(METRIC_PREFIX + "limiter.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+			.description("Current adaptive limit of concurrent calls to Party")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + "limiter.in.flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+			.description("Calls to Party currently in flight")
+			.register(meterRegistry);
+		this.limiterRejections = rejectionCounter(meterRegistry, "limiter");
+		this.bulkheadRejections = rejectionCounter(meterRegistry, "bulkhead");
+		this.circuitBreakerRejections = rejectionCounter(meterRegistry, "circuit-breaker");
 	}
 
+	/**
+	 * Fetches the party id for the sent in personal number. Found and not found (404) results are cached with separate
+	 * time to live, while failed calls are not cached at all. Concurrent lookups of the same key are coalesced into one
+	 * call to Party, which is made by the first caller on its own thread while the others wait for the result.
+	 *
+	 * @throws PartyUnavailableException if the call is rejected by the concurrency limit, the bulkhead or the circuit
+	 *                                   breaker, in which case the waiting callers are rejected as well
+	 */
 	public Optional<String> getPartyId(final String personNumber, String municipalityId, String type) {
+		final var key = new PartyKey(personNumber, municipalityId, type);
+		final var future = new CompletableFuture<Optional<String>>();
+		final var inFlight = cache.asMap().putIfAbsent(key, future);
+
 		try {
-			return client.getPartyId(personNumber, municipalityId, type);
+			if (inFlight != null) {
+				return inFlight.join();
+			}
+
+			future.complete(callParty(personNumber, municipalityId, type));
+			return future.join();
 		} catch (final Exception e) {
+			// Failed futures are removed from the cache by Caffeine, so the next lookup will try again
+			future.completeExceptionally(e);
+			if ((e instanceof CompletionException ? e.getCause() : e) instanceof PartyUnavailableException unavailable) {
+				throw unavailable;
+			}
 			LOG.info("Unable to get party id", e);
 			return Optional.empty();
 		}
 	}
+
+	private Optional<String> callParty(final String personNumber, final String municipalityId, final String type) {
+		if (!limiter.tryAcquire()) {
+			limiterRejections.increment();
+			throw new PartyUnavailableException(MESSAGE_UNAVAILABLE.formatted("concurrency limit"), null);
+		}
+
+		final var start = System.nanoTime();
+		try {
+			final var partyId = client.getPartyId(personNumber, municipalityId, type);
+			limiter.onSuccess(System.nanoTime() - start);
+			return partyId;
+		} catch (final BulkheadFullException e) {
+			limiter.onIgnored();
+			bulkheadRejections.increment();
+			throw new PartyUnavailableException(MESSAGE_UNAVAILABLE.formatted("bulkhead"), e);
+		} catch (final CallNotPermittedException e) {
+			limiter.onIgnored();
+			circuitBreakerRejections.increment();
+			throw new PartyUnavailableException(MESSAGE_UNAVAILABLE.formatted("circuit breaker"), e);
+		} catch (final RuntimeException e) {
+			limiter.onDropped();
+			throw e;
+		}
+	}
+
+	private static Counter rejectionCounter(final MeterRegistry meterRegistry, final String reason) {
+		return Counter.builder(REJECTED_METRIC)
+			.description("Calls to Party rejected without being made")
+			.tag(REASON_TAG, reason)
+			.register(meterRegistry);
+	}
+
+	private static Expiry<PartyKey, Optional<String>> expiry(final PartyIntegrationProperties.Cache properties) {
+		return new Expiry<>() {
+			@Override
+			public long expireAfterCreate(final PartyKey key, final Optional<String> partyId, final long currentTime) {
+				return (partyId.isPresent() ? properties.timeToLive() : properties.negativeTimeToLive()).toNanos();
+			}
+
+			@Override
+			public long expireAfterUpdate(final PartyKey key, final Optional<String> partyId, final long currentTime, final long currentDuration) {
+				return expireAfterCreate(key, partyId, currentTime);
+			}
+
+			@Override
+			public long expireAfterRead(final PartyKey key, final Optional<String> partyId, final long currentTime, final long currentDuration) {
+				return currentDuration;
+			}
+		};
+	}
+
+	private record PartyKey(String personNumber, String municipalityId, String type) {
+	}
 }
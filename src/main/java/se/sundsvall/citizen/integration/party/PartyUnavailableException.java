@@ -0,0 +1,14 @@
+package se.sundsvall.citizen.integration.party;
+
+/**
+ * Thrown when a call to Party is rejected without being made, because the concurrency limit or the bulkhead is full or
+ * the circuit breaker is open.
+ */
+public class PartyUnavailableException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public PartyUnavailableException(final String message, final Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -1,8 +1,11 @@
 package se.sundsvall.citizen.integration.party.configuration;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import java.time.Duration;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
@@ -13,5 +16,37 @@ public record PartyIntegrationProperties(
 	@NotBlank String baseUrl,
 	@DefaultValue("PT10S") Duration connectTimeout,
 	@DefaultValue("PT30S") Duration readTimeout,
-	@Valid @NotNull Oauth2 oauth2) {
+	@Valid @NotNull Oauth2 oauth2,
+	@Valid @DefaultValue Cache cache,
+	@Valid @DefaultValue Limiter limiter) {
+
+	/**
+	 * Settings for the cache of party id lookups.
+	 *
+	 * @param maximumSize        maximum number of cached lookups
+	 * @param timeToLive         time to live for lookups that resulted in a party id
+	 * @param negativeTimeToLive time to live for lookups where Party had no party id for the personal number
+	 */
+	public record Cache(
+		@DefaultValue("10000") @Positive long maximumSize,
+		@DefaultValue("PT1H") Duration timeToLive,
+		@DefaultValue("PT5M") Duration negativeTimeToLive) {
+	}
+
+	/**
+	 * Settings for the adaptive concurrency limit of calls to Party.
+	 *
+	 * @param initialLimit     number of concurrent calls allowed before any call has completed
+	 * @param minLimit         lowest number of concurrent calls the limit can decrease to
+	 * @param maxLimit         highest number of concurrent calls the limit can increase to
+	 * @param backoffRatio     factor the limit is multiplied with when a call fails or is slow
+	 * @param latencyThreshold latency above which a call is considered slow
+	 */
+	public record Limiter(
+		@DefaultValue("20") @Positive int initialLimit,
+		@DefaultValue("1") @Positive int minLimit,
+		@DefaultValue("200") @Positive int maxLimit,
+		@DefaultValue("0.9") @DecimalMin("0.1") @DecimalMax("0.99") double backoffRatio,
+		@DefaultValue("PT2S") Duration latencyThreshold) {
+	}
 }
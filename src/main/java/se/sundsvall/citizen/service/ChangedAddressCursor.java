@@ -0,0 +1,41 @@
+package se.sundsvall.citizen.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.zalando.problem.Status.BAD_REQUEST;
+import static se.sundsvall.citizen.service.ServiceConstants.ERROR_INVALID_CURSOR;
+
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.UUID;
+import org.zalando.problem.Problem;
+import se.sundsvall.citizen.integration.db.model.projection.CitizenKeyProjection;
+
+/**
+ * Opaque continuation cursor for the changed address feed, pointing at the last (updatedAt, personId) pair of a page.
+ */
+record ChangedAddressCursor(OffsetDateTime updatedAt, UUID personId) {
+
+	private static final String SEPARATOR = "|";
+
+	static ChangedAddressCursor of(final CitizenKeyProjection key) {
+		return new ChangedAddressCursor(key.getUpdatedAt(), key.getPersonId());
+	}
+
+	static ChangedAddressCursor decode(final String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+
+		try {
+			final var decoded = new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+			final var separatorIndex = decoded.indexOf(SEPARATOR);
+			return new ChangedAddressCursor(OffsetDateTime.parse(decoded.substring(0, separatorIndex)), UUID.fromString(decoded.substring(separatorIndex + 1)));
+		} catch (Exception e) {
+			throw Problem.valueOf(BAD_REQUEST, ERROR_INVALID_CURSOR);
+		}
+	}
+
+	String encode() {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString((updatedAt + SEPARATOR + personId).getBytes(UTF_8));
+	}
+}
@@ -0,0 +1,285 @@
+package se.sundsvall.citizen.service;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static org.zalando.problem.Status.SERVICE_UNAVAILABLE;
+import static se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity.EntityType.ADDRESS;
+import static se.sundsvall.citizen.service.ServiceConstants.ERROR_TOO_MANY_SUBSCRIBERS;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.zalando.problem.Problem;
+import se.sundsvall.citizen.configuration.BatchProperties;
+import se.sundsvall.citizen.configuration.ChangeFeedProperties;
+import se.sundsvall.citizen.integration.db.CitizenRepository;
+import se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity;
+import se.sundsvall.citizen.integration.db.model.CitizenEntity;
+import se.sundsvall.citizen.service.mapper.CitizenMapper;
+
+/**
+ * Pushes citizens whose addresses have changed to subscribers as server-sent events, read from the change event outbox.
+ * One poller per instance follows the outbox from the position of the subscriber furthest behind, reads the changed
+ * citizens once and serializes each of them once, and hands the events to the subscribers that have not yet received
+ * them. Every subscriber has a bounded queue drained by a virtual thread of its own, so a slow subscriber does not hold
+ * back the others, and a subscriber reconnecting with the id of the last event it received resumes where it left off.
+ * As the outbox is read from the database, changes made through any instance of the service are sent.
+ */
+@Service
+public class CitizenAddressChangeFeed {
+
+	static final String EVENT_NAME = "address-changed";
+	static final String SUBSCRIBERS_METRIC = "citizen.address.feed.subscribers";
+
+	private static final Logger LOG = LoggerFactory.getLogger(CitizenAddressChangeFeed.class);
+
+	// Put in the queue of a closed subscription to wake up its sender
+	private static final Message CLOSED = new Message(0, null);
+
+	private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+	private final CitizenChangeService citizenChangeService;
+	private final CitizenRepository citizenRepository;
+	private final ChangeFeedProperties changeFeedProperties;
+	private final BatchProperties batchProperties;
+	private final ObjectWriter objectWriter;
+	private final Semaphore permits;
+	private final Semaphore wakeUp = new Semaphore(0);
+	private volatile boolean closed;
+	private Thread poller;
+
+	public CitizenAddressChangeFeed(CitizenChangeService citizenChangeService, CitizenRepository citizenRepository,
+		ChangeFeedProperties changeFeedProperties, BatchProperties batchProperties, ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+		this.citizenChangeService = citizenChangeService;
+		this.citizenRepository = citizenRepository;
+		this.changeFeedProperties = changeFeedProperties;
+		this.batchProperties = batchProperties;
+		// An event is sent as data lines, so it is written on a single line regardless of the settings of the mapper
+		this.objectWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+		this.permits = new Semaphore(changeFeedProperties.maxSubscribers());
+
+		Gauge.builder(SUBSCRIBERS_METRIC, subscriptions, Set::size)
+			.description("Number of subscribers to the address change stream")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Opens a subscription to the address changes.
+	 *
+	 * @param  lastEventId id of the last event received by the subscriber, or null to receive the changes made from now on
+	 * @return             the emitter sending the events of the subscription
+	 */
+	public SseEmitter subscribe(final Long lastEventId) {
+		if (!permits.tryAcquire()) {
+			throw Problem.valueOf(SERVICE_UNAVAILABLE, ERROR_TOO_MANY_SUBSCRIBERS);
+		}
+
+		try {
+			final var after = lastEventId != null ? lastEventId : citizenChangeService.getLastSequence();
+			final var subscription = new Subscription(new SseEmitter(changeFeedProperties.streamTimeout().toMillis()), after,
+				new LinkedBlockingQueue<>(2 * batchProperties.chunkSize()));
+			subscription.emitter.onCompletion(() -> close(subscription));
+			subscription.emitter.onTimeout(() -> close(subscription));
+			subscription.emitter.onError(error -> close(subscription));
+
+			subscriptions.add(subscription);
+			Thread.ofVirtual().name("address-change-feed-sender").start(() -> send(subscription));
+			startPoller();
+			// Lets a subscriber resuming from an earlier event catch up without waiting for the next poll
+			wakeUp.release();
+			return subscription.emitter;
+		} catch (final RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	/**
+	 * Closes the subscriptions and stops the poller. The poller is not interrupted, as it may be reading from the
+	 * database, but woken up if it is waiting for the next poll, and stops after the read it is making.
+	 */
+	@PreDestroy
+	void shutdown() {
+		closed = true;
+		wakeUp.release();
+		subscriptions.forEach(subscription -> {
+			close(subscription);
+			subscription.emitter.complete();
+		});
+	}
+
+	int getSubscriberCount() {
+		return subscriptions.size();
+	}
+
+	private synchronized void startPoller() {
+		if (poller == null && !closed) {
+			poller = Thread.ofVirtual().name("address-change-feed").start(this::poll);
+		}
+	}
+
+	private void poll() {
+		try {
+			while (!closed) {
+				if (pollOnce() == batchProperties.chunkSize()) {
+					// More changes are waiting, read them without pausing
+					continue;
+				}
+				wakeUp.tryAcquire(changeFeedProperties.pollInterval().toNanos(), NANOSECONDS);
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Reads the changes following the position of the subscriber furthest behind, among the subscribers with room for
+	 * them in their queues, and hands them to the subscribers.
+	 *
+	 * @return the number of change events read
+	 */
+	private int pollOnce() {
+		final var ready = subscriptions.stream()
+			.filter(subscription -> subscription.queue.remainingCapacity() >= batchProperties.chunkSize())
+			.toList();
+		if (ready.isEmpty()) {
+			return 0;
+		}
+
+		final var after = ready.stream().mapToLong(subscription -> subscription.after).min().getAsLong();
+		try {
+			final var events = citizenChangeService.findVisibleChanges(after, batchProperties.chunkSize());
+			if (events.isEmpty()) {
+				return 0;
+			}
+
+			final var messages = toMessages(events);
+			final var last = events.getLast().getSequenceNumber();
+			// Subscribers that joined during the read, or whose queues were full, get the changes from a later read
+			ready.forEach(subscription -> subscription.offer(messages, last));
+			return events.size();
+		} catch (final JsonProcessingException | RuntimeException e) {
+			if (!closed) {
+				LOG.warn("Reading address changes failed, retrying after the poll interval", e);
+			}
+			return 0;
+		}
+	}
+
+	/**
+	 * Creates the events for the citizens with a changed address among the sent in change events, once per citizen with
+	 * the sequence number of the last change of the citizen as event id.
+	 */
+	private List<Message> toMessages(final List<CitizenChangeEventEntity> events) throws JsonProcessingException {
+		// Ordered by the last change of each citizen, so that the id of every event sent is a valid point to resume from
+		final var lastChangeByPersonId = new LinkedHashMap<UUID, Long>();
+		events.stream()
+			.filter(event -> event.getEntityType() == ADDRESS)
+			.forEach(event -> {
+				lastChangeByPersonId.remove(event.getPersonId());
+				lastChangeByPersonId.put(event.getPersonId(), event.getSequenceNumber());
+			});
+		if (lastChangeByPersonId.isEmpty()) {
+			return List.of();
+		}
+
+		final var citizensById = citizenRepository.findAllWithAddressesByPersonIds(lastChangeByPersonId.keySet(), true).stream()
+			.collect(toMap(CitizenEntity::getPersonId, identity()));
+
+		final var messages = new ArrayList<Message>(lastChangeByPersonId.size());
+		for (final var lastChange : lastChangeByPersonId.entrySet()) {
+			final var citizen = citizensById.get(lastChange.getKey());
+			if (citizen != null) {
+				messages.add(new Message(lastChange.getValue(), objectWriter.writeValueAsString(CitizenMapper.toCitizenWithChangedAddress(citizen))));
+			}
+		}
+		return messages;
+	}
+
+	/**
+	 * Sends the events queued for the subscription, and a comment when nothing has been sent for the heartbeat interval.
+	 */
+	private void send(final Subscription subscription) {
+		final var heartbeatNanos = changeFeedProperties.heartbeatInterval().toNanos();
+		try {
+			while (!subscription.closed) {
+				final var message = subscription.queue.poll(heartbeatNanos, NANOSECONDS);
+				if (subscription.closed) {
+					return;
+				}
+				if (message == null) {
+					subscription.emitter.send(SseEmitter.event().comment("heartbeat"));
+				} else {
+					subscription.emitter.send(SseEmitter.event()
+						.id(String.valueOf(message.id()))
+						.name(EVENT_NAME)
+						.data(message.data()));
+				}
+			}
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (final IOException | IllegalStateException e) {
+			// The subscriber has gone away, the emitter is completed by the container
+			LOG.debug("Address change subscriber disconnected: {}", e.getMessage());
+		} finally {
+			close(subscription);
+		}
+	}
+
+	private void close(final Subscription subscription) {
+		subscription.closed = true;
+		if (subscriptions.remove(subscription)) {
+			permits.release();
+			subscription.queue.clear();
+			subscription.queue.offer(CLOSED);
+		}
+	}
+
+	private record Message(long id, String data) {
+	}
+
+	private static final class Subscription {
+
+		private final SseEmitter emitter;
+		private final BlockingQueue<Message> queue;
+		private volatile long after;
+		private volatile boolean closed;
+
+		private Subscription(final SseEmitter emitter, final long after, final BlockingQueue<Message> queue) {
+			this.emitter = emitter;
+			this.after = after;
+			this.queue = queue;
+		}
+
+		/**
+		 * Queues the events the subscriber has not yet received, and moves its position to the last change read. Only
+		 * called by the poller, and only when the queue has room for all the events of a read.
+		 */
+		private void offer(final List<Message> messages, final long last) {
+			for (final var message : messages) {
+				if (message.id() > after && !closed) {
+					queue.offer(message);
+				}
+			}
+			after = Math.max(after, last);
+		}
+	}
+}
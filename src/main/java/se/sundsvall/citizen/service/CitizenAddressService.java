@@ -1,29 +1,28 @@
 package se.sundsvall.citizen.service;
 
-import jakarta.transaction.Transactional;
 import java.time.OffsetDateTime;
 import java.util.List;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import se.sundsvall.citizen.api.model.CitizenWithChangedAddress;
-import se.sundsvall.citizen.integration.db.CitizenAddressRepository;
-import se.sundsvall.citizen.integration.db.specification.CitizenAddressSpecification;
-import se.sundsvall.citizen.service.mapper.CitizenAddressMapper;
+import se.sundsvall.citizen.integration.db.CitizenRepository;
+import se.sundsvall.citizen.service.mapper.CitizenMapper;
 
 @Service
-@Transactional
+@Transactional(readOnly = true)
 public class CitizenAddressService {
 
-	private final CitizenAddressRepository citizenAddressRepository;
+	private final CitizenRepository citizenRepository;
 
-	public CitizenAddressService(CitizenAddressRepository citizenAddressRepository) {
-		this.citizenAddressRepository = citizenAddressRepository;
+	public CitizenAddressService(CitizenRepository citizenRepository) {
+		this.citizenRepository = citizenRepository;
 	}
 
 	public List<CitizenWithChangedAddress> getCitizensWithChangedAddress(final OffsetDateTime changedDateFrom) {
-		return citizenAddressRepository
-			.findAll(CitizenAddressSpecification.hasChangedAddressSince(changedDateFrom))
+		return citizenRepository
+			.findAllWithChangedAddressSince(changedDateFrom)
 			.stream()
-			.map(CitizenAddressMapper::toCitizenWithChangedAddress)
+			.map(CitizenMapper::toCitizenWithChangedAddress)
 			.toList();
 	}
 }
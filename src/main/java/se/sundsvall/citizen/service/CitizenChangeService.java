@@ -0,0 +1,97 @@
+package se.sundsvall.citizen.service;
+
+import static se.sundsvall.citizen.service.CitizenServiceMetrics.OPERATION_METRIC;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.annotation.Timed;
+import java.util.List;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.citizen.api.model.FindCitizenChangesResponse;
+import se.sundsvall.citizen.api.model.MetaData;
+import se.sundsvall.citizen.configuration.ChangeFeedProperties;
+import se.sundsvall.citizen.integration.db.CitizenChangeEventRepository;
+import se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity;
+import se.sundsvall.citizen.service.mapper.CitizenChangeMapper;
+
+/**
+ * Reads the change event outbox. The reads are made in read-write transactions, so that they go to the primary database
+ * even when a replica is configured. A replica that lags behind would otherwise hold back changes, or show a gap long
+ * enough to be skipped.
+ */
+@Service
+@Transactional
+@Timed(value = OPERATION_METRIC, description = "Latency of citizen service operations", histogram = true)
+public class CitizenChangeService {
+
+	private final CitizenChangeEventRepository changeEventRepository;
+	private final ChangeFeedProperties changeFeedProperties;
+	private final Cache<Long, Long> gapsFirstSeen;
+
+	public CitizenChangeService(CitizenChangeEventRepository changeEventRepository, ChangeFeedProperties changeFeedProperties) {
+		this.changeEventRepository = changeEventRepository;
+		this.changeFeedProperties = changeFeedProperties;
+		// Kept while readers still run into the gap, so that every reader skips it once it has timed out
+		this.gapsFirstSeen = Caffeine.newBuilder()
+			.expireAfterAccess(changeFeedProperties.gapTimeout().multipliedBy(2))
+			.build();
+	}
+
+	/**
+	 * Reads the changes following directly after the sent in sequence number, which costs the same regardless of how many
+	 * changes were made before it. Changes after a gap in the sequence numbers are held back until the gap is filled or
+	 * times out, so that a change committed after a later one has been returned is not skipped.
+	 *
+	 * @param  after sequence number of the last change already read, 0 to read from the start
+	 * @param  limit maximum number of changes to return
+	 * @return       the changes and the sequence number to send in to read the changes that follow
+	 */
+	public FindCitizenChangesResponse getChanges(final long after, final int limit) {
+		final var events = findVisibleChanges(after, limit);
+
+		return FindCitizenChangesResponse.create()
+			.withMetaData(MetaData.create()
+				.withLimit(limit)
+				.withCount(events.size()))
+			.withChanges(CitizenChangeMapper.toCitizenChanges(events))
+			.withLastSequence(events.isEmpty() ? after : events.getLast().getSequenceNumber());
+	}
+
+	/**
+	 * @return the sequence number of the latest change, 0 when there are no changes
+	 */
+	public long getLastSequence() {
+		return changeEventRepository.findFirstByOrderBySequenceNumberDesc()
+			.map(CitizenChangeEventEntity::getSequenceNumber)
+			.orElse(0L);
+	}
+
+	/**
+	 * Reads the change events following directly after the sent in sequence number, up to the first gap in the sequence
+	 * numbers that has been seen for less than the configured gap timeout.
+	 */
+	public List<CitizenChangeEventEntity> findVisibleChanges(final long after, final int limit) {
+		final var events = changeEventRepository.findChangesAfter(after, PageRequest.ofSize(limit));
+
+		var expected = after + 1;
+		for (int i = 0; i < events.size(); i++) {
+			final long sequenceNumber = events.get(i).getSequenceNumber();
+			if (sequenceNumber != expected && !hasGapTimedOut(expected)) {
+				return events.subList(0, i);
+			}
+			expected = sequenceNumber + 1;
+		}
+		return events;
+	}
+
+	/**
+	 * @param  firstMissing the first sequence number of the gap
+	 * @return              true if the gap was first seen by this instance at least the gap timeout ago
+	 */
+	private boolean hasGapTimedOut(final long firstMissing) {
+		final long firstSeen = gapsFirstSeen.get(firstMissing, key -> System.nanoTime());
+		return System.nanoTime() - firstSeen >= changeFeedProperties.gapTimeout().toNanos();
+	}
+}
@@ -0,0 +1,160 @@
+package se.sundsvall.citizen.service;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static se.sundsvall.citizen.service.ServiceConstants.ERROR_IMPORT_INVALID_ROW;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import se.sundsvall.citizen.api.model.CitizenImportRecord;
+
+/**
+ * Reads citizens to import one row at a time from NDJSON or CSV, so that the whole file never has to be held in memory.
+ * Rows that can not be parsed are returned with an error instead of aborting the import. Blank lines are skipped.
+ */
+final class CitizenImportReader implements Iterator<CitizenImportReader.Row> {
+
+	private final BufferedReader reader;
+	private final RowParser parser;
+	private long lineNumber;
+	private Row next;
+
+	private CitizenImportReader(final InputStream inputStream, final RowParser parser) {
+		this.reader = new BufferedReader(new InputStreamReader(inputStream, UTF_8));
+		this.parser = parser;
+	}
+
+	/**
+	 * Reader for newline delimited JSON, with one citizen object per line.
+	 */
+	static CitizenImportReader ndjson(final InputStream inputStream, final ObjectMapper objectMapper) {
+		return new CitizenImportReader(inputStream, text -> objectMapper.readValue(text, CitizenImportRecord.class));
+	}
+
+	/**
+	 * Reader for CSV with a header row naming the citizen attributes of each column. Values are separated by semicolon if
+	 * the header contains one, otherwise by comma, and may be quoted with double quotes. Empty values are read as null.
+	 */
+	static CitizenImportReader csv(final InputStream inputStream, final ObjectMapper objectMapper) {
+		return new CitizenImportReader(inputStream, new CsvRowParser(objectMapper));
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (next == null) {
+			final var text = readLine();
+			if (text == null) {
+				return false;
+			}
+			lineNumber++;
+			if (text.isBlank()) {
+				continue;
+			}
+
+			try {
+				final var citizen = parser.parse(text);
+				if (citizen != null) {
+					next = new Row(lineNumber, citizen, null);
+				}
+			} catch (Exception e) {
+				next = new Row(lineNumber, null, format(ERROR_IMPORT_INVALID_ROW, e.getMessage()));
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public Row next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		final var row = next;
+		next = null;
+		return row;
+	}
+
+	private String readLine() {
+		try {
+			return reader.readLine();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * A parsed row, holding either the citizen or the reason why the row could not be parsed.
+	 */
+	record Row(long line, CitizenImportRecord citizen, String error) {
+	}
+
+	@FunctionalInterface
+	private interface RowParser {
+
+		/**
+		 * @return the parsed citizen, or null if the line does not hold a citizen
+		 */
+		CitizenImportRecord parse(String text) throws Exception;
+	}
+
+	private static final class CsvRowParser implements RowParser {
+
+		private final ObjectMapper objectMapper;
+		private List<String> header;
+		private char separator;
+
+		private CsvRowParser(final ObjectMapper objectMapper) {
+			this.objectMapper = objectMapper;
+		}
+
+		@Override
+		public CitizenImportRecord parse(final String text) {
+			if (header == null) {
+				separator = text.indexOf(';') >= 0 ? ';' : ',';
+				header = split(text, separator).stream().map(String::trim).toList();
+				return null;
+			}
+
+			final var values = split(text, separator);
+			if (values.size() != header.size()) {
+				throw new IllegalArgumentException(format("expected %d columns but found %d", header.size(), values.size()));
+			}
+
+			final var columns = HashMap.<String, String>newHashMap(header.size());
+			for (int i = 0; i < header.size(); i++) {
+				columns.put(header.get(i), values.get(i).isEmpty() ? null : values.get(i));
+			}
+			return objectMapper.convertValue(columns, CitizenImportRecord.class);
+		}
+
+		static List<String> split(final String text, final char separator) {
+			final var values = new ArrayList<String>();
+			final var value = new StringBuilder();
+			var quoted = false;
+			for (int i = 0; i < text.length(); i++) {
+				final var c = text.charAt(i);
+				if (quoted && c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+					value.append('"');
+					i++;
+				} else if (c == '"') {
+					quoted = !quoted;
+				} else if (c == separator && !quoted) {
+					values.add(value.toString());
+					value.setLength(0);
+				} else {
+					value.append(c);
+				}
+			}
+			values.add(value.toString());
+			return values;
+		}
+	}
+}
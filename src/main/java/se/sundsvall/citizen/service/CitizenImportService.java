@@ -0,0 +1,153 @@
+package se.sundsvall.citizen.service;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.toSet;
+import static se.sundsvall.citizen.service.ServiceConstants.ERROR_BATCH_PROCESSING;
+import static se.sundsvall.citizen.service.ServiceConstants.ERROR_IMPORT_INVALID_ROW;
+import static se.sundsvall.citizen.service.ServiceConstants.ERROR_PERSONAL_NUMBER_REQUIRED;
+import static se.sundsvall.citizen.service.ServiceConstants.ERROR_PERSON_ALREADY_EXISTS;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.citizen.api.model.CitizenImportError;
+import se.sundsvall.citizen.api.model.CitizenImportResponse;
+import se.sundsvall.citizen.configuration.BatchProperties;
+import se.sundsvall.citizen.integration.db.CitizenRepository;
+import se.sundsvall.citizen.integration.db.model.CitizenEntity;
+import se.sundsvall.citizen.integration.db.model.projection.PersonIdProjection;
+import se.sundsvall.citizen.service.mapper.CitizenMapper;
+
+/**
+ * Bulk import of citizens. The file is streamed and imported in chunks of the configured batch size, where each chunk
+ * costs one query for already existing personal numbers and one transaction of JDBC batched inserts. Rows that can not
+ * be imported are reported in the response without aborting the rest of the import. A chunk that fails to insert, for
+ * example because another request inserted one of its personal numbers in the meantime, is inserted again one row at a
+ * time so that only the failing rows are reported.
+ */
+@Service
+public class CitizenImportService {
+
+	private final CitizenRepository citizenRepository;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+	private final BatchProperties batchProperties;
+
+	public CitizenImportService(CitizenRepository citizenRepository, ObjectMapper objectMapper,
+		TransactionTemplate transactionTemplate, BatchProperties batchProperties) {
+		this.citizenRepository = citizenRepository;
+		this.objectMapper = objectMapper;
+		this.transactionTemplate = transactionTemplate;
+		this.batchProperties = batchProperties;
+	}
+
+	public CitizenImportResponse importNdjson(final InputStream inputStream) {
+		return importRows(CitizenImportReader.ndjson(inputStream, objectMapper));
+	}
+
+	public CitizenImportResponse importCsv(final InputStream inputStream) {
+		return importRows(CitizenImportReader.csv(inputStream, objectMapper));
+	}
+
+	private CitizenImportResponse importRows(final Iterator<CitizenImportReader.Row> rows) {
+		final var errors = new ArrayList<CitizenImportError>();
+		final var personalNumbers = new HashSet<String>();
+		final var chunk = new ArrayList<CitizenImportReader.Row>(batchProperties.chunkSize());
+		var imported = 0;
+
+		while (rows.hasNext()) {
+			final var row = rows.next();
+			if (row.error() != null) {
+				errors.add(toImportError(row, row.error()));
+			} else if (row.citizen().getPersonalNumber() == null || row.citizen().getPersonalNumber().isBlank()) {
+				errors.add(toImportError(row, ERROR_PERSONAL_NUMBER_REQUIRED));
+			} else if (!personalNumbers.add(row.citizen().getPersonalNumber())) {
+				errors.add(toImportError(row, format(ERROR_PERSON_ALREADY_EXISTS, row.citizen().getPersonalNumber())));
+			} else {
+				chunk.add(row);
+			}
+
+			if (chunk.size() == batchProperties.chunkSize()) {
+				imported += importChunk(chunk, errors);
+				chunk.clear();
+			}
+		}
+		imported += importChunk(chunk, errors);
+
+		return CitizenImportResponse.create()
+			.withImported(imported)
+			.withFailed(errors.size())
+			.withErrors(errors);
+	}
+
+	private int importChunk(final List<CitizenImportReader.Row> chunk, final List<CitizenImportError> errors) {
+		if (chunk.isEmpty()) {
+			return 0;
+		}
+
+		final var existing = citizenRepository.findAllByPersonalNumberIn(chunk.stream().map(row -> row.citizen().getPersonalNumber()).toList())
+			.stream()
+			.map(PersonIdProjection::getPersonalNumber)
+			.collect(toSet());
+
+		final var rows = new ArrayList<CitizenImportReader.Row>(chunk.size());
+		final var citizens = new ArrayList<CitizenEntity>(chunk.size());
+		for (final var row : chunk) {
+			if (existing.contains(row.citizen().getPersonalNumber())) {
+				errors.add(toImportError(row, format(ERROR_PERSON_ALREADY_EXISTS, row.citizen().getPersonalNumber())));
+				continue;
+			}
+			try {
+				citizens.add(CitizenMapper.toCitizenEntity(row.citizen()));
+				rows.add(row);
+			} catch (Exception e) {
+				errors.add(toImportError(row, format(ERROR_IMPORT_INVALID_ROW, e.getMessage())));
+			}
+		}
+
+		if (citizens.isEmpty()) {
+			return 0;
+		}
+
+		try {
+			// Inserts are sent as JDBC batches when the transaction is flushed, see hibernate.jdbc.batch_size
+			transactionTemplate.executeWithoutResult(status -> citizenRepository.saveAll(citizens));
+			return citizens.size();
+		} catch (Exception e) {
+			// A single failing row rolls back the whole chunk, so the rows are retried one by one to report only that row
+			return importRowByRow(rows, errors);
+		}
+	}
+
+	private int importRowByRow(final List<CitizenImportReader.Row> rows, final List<CitizenImportError> errors) {
+		var imported = 0;
+		for (final var row : rows) {
+			try {
+				// Mapped again, as the entities of the failed chunk were given ids that were never committed
+				final var citizen = CitizenMapper.toCitizenEntity(row.citizen());
+				transactionTemplate.executeWithoutResult(status -> citizenRepository.save(citizen));
+				imported++;
+			} catch (DataIntegrityViolationException e) {
+				errors.add(toImportError(row, CitizenService.isPersonalNumberDuplicate(e)
+					? format(ERROR_PERSON_ALREADY_EXISTS, row.citizen().getPersonalNumber())
+					: format(ERROR_BATCH_PROCESSING, e.getMessage())));
+			} catch (Exception e) {
+				errors.add(toImportError(row, format(ERROR_BATCH_PROCESSING, e.getMessage())));
+			}
+		}
+		return imported;
+	}
+
+	private static CitizenImportError toImportError(final CitizenImportReader.Row row, final String errorMessage) {
+		return CitizenImportError.create()
+			.withLine(row.line())
+			.withPersonalNumber(row.citizen() != null ? row.citizen().getPersonalNumber() : null)
+			.withErrorMessage(errorMessage);
+	}
+}
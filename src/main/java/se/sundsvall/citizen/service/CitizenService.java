@@ -1,143 +1,456 @@
 package se.sundsvall.citizen.service;
 
 import static java.lang.String.format;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
 import static org.zalando.problem.Status.BAD_REQUEST;
 import static org.zalando.problem.Status.CONFLICT;
 import static org.zalando.problem.Status.NOT_FOUND;
+import static org.zalando.problem.Status.SERVICE_UNAVAILABLE;
+import static se.sundsvall.citizen.configuration.CacheConfiguration.CITIZEN_CACHE;
+import static se.sundsvall.citizen.configuration.CacheConfiguration.CITIZEN_EVICTIONS_CACHE;
+import static se.sundsvall.citizen.service.CitizenServiceMetrics.OPERATION_METRIC;
+import static se.sundsvall.citizen.service.ServiceConstants.ERROR_BATCH_CITIZEN_NOT_FOUND;
+import static se.sundsvall.citizen.service.ServiceConstants.ERROR_BATCH_PARTY_TIMEOUT;
+import static se.sundsvall.citizen.service.ServiceConstants.ERROR_BATCH_PROCESSING;
 import static se.sundsvall.citizen.service.ServiceConstants.ERROR_CITIZEN_NOT_FOUND;
 import static se.sundsvall.citizen.service.ServiceConstants.ERROR_PERSONAL_NUMBER_NOT_FOUND;
+import static se.sundsvall.citizen.service.ServiceConstants.ERROR_PARTY_UNAVAILABLE;
+import static se.sundsvall.citizen.service.ServiceConstants.ERROR_PERSONAL_NUMBER_REQUIRED;
+import static se.sundsvall.citizen.service.ServiceConstants.ERROR_PERSON_ALREADY_EXISTS;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
-import jakarta.transaction.Transactional;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.zalando.problem.Problem;
 import se.sundsvall.citizen.api.model.CitizenExtended;
 import se.sundsvall.citizen.api.model.CitizenWithChangedAddress;
+import se.sundsvall.citizen.api.model.FindCitizenChangedAddressResponse;
+import se.sundsvall.citizen.api.model.MetaData;
 import se.sundsvall.citizen.api.model.ModelPostPerson;
 import se.sundsvall.citizen.api.model.PersonGuidBatch;
-import se.sundsvall.citizen.integration.db.CitizenAddressRepository;
+import se.sundsvall.citizen.api.model.PersonGuidBatchItem;
+import se.sundsvall.citizen.configuration.BatchProperties;
 import se.sundsvall.citizen.integration.db.CitizenRepository;
 import se.sundsvall.citizen.integration.db.model.CitizenEntity;
-import se.sundsvall.citizen.integration.db.specification.CitizenAddressSpecification;
+import se.sundsvall.citizen.integration.db.model.projection.CitizenKeyProjection;
+import se.sundsvall.citizen.integration.db.model.projection.PersonIdProjection;
 import se.sundsvall.citizen.integration.party.PartyIntegration;
-import se.sundsvall.citizen.service.mapper.CitizenAddressMapper;
+import se.sundsvall.citizen.integration.party.PartyUnavailableException;
 import se.sundsvall.citizen.service.mapper.CitizenMapper;
 
 @Service
-@Transactional
+@Transactional(readOnly = true)
+@Timed(value = OPERATION_METRIC, description = "Latency of citizen service operations", histogram = true)
 public class CitizenService {
 
+	private static final String PARTY_MUNICIPALITY_ID = "2281";
+	private static final String PARTY_TYPE = "PRIVATE";
+	private static final int DUPLICATE_KEY_ERROR_CODE = 1062;
+	private static final String PERSONAL_NUMBER_KEY = "personal_number";
+
+	private final ExecutorService partyExecutor = Executors.newVirtualThreadPerTaskExecutor();
+	private final Semaphore partyPermits;
 	private final CitizenRepository citizenRepository;
-	private final CitizenAddressRepository citizenAddressRepository;
 	private final ObjectMapper objectMapper;
 	private final PartyIntegration partyIntegration;
+	private final BatchProperties batchProperties;
+	private final CacheManager cacheManager;
+	private final CitizenServiceMetrics metrics;
+	private final TransactionTemplate readOnlyTransaction;
 
 	public CitizenService(CitizenRepository citizenRepository,
-		CitizenAddressRepository citizenAddressRepository,
-		ObjectMapper objectMapper, PartyIntegration partyIntegration) {
+		ObjectMapper objectMapper, PartyIntegration partyIntegration,
+		BatchProperties batchProperties, CacheManager cacheManager,
+		CitizenServiceMetrics metrics, PlatformTransactionManager transactionManager) {
 		this.citizenRepository = citizenRepository;
-		this.citizenAddressRepository = citizenAddressRepository;
 		this.objectMapper = objectMapper;
 		this.partyIntegration = partyIntegration;
+		this.batchProperties = batchProperties;
+		this.cacheManager = cacheManager;
+		this.metrics = metrics;
+		// Used by the methods that run without a surrounding transaction, so that their reads are routed to the replica
+		this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+		this.readOnlyTransaction.setReadOnly(true);
+		// Shared by all batches, so that the limit holds for the instance and not per request
+		this.partyPermits = new Semaphore(batchProperties.partyConcurrency());
+	}
+
+	@PreDestroy
+	void shutdown() {
+		partyExecutor.close();
 	}
 
 	public CitizenExtended getCitizenById(final UUID personId, final boolean showClassified) {
-		final var citizenEntity = citizenRepository.findById(personId.toString())
-			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, format(ERROR_CITIZEN_NOT_FOUND, personId)));
+		final var citizen = getCachedCitizen(personId);
 
-		if (!showClassified && citizenEntity.getClassified() != null) {
+		if (!showClassified && citizen.getClassified() != null) {
 			return null;
 		}
 
-		return CitizenMapper.toCitizenExtended(citizenEntity);
+		return citizen;
 	}
 
 	public List<CitizenExtended> getCitizensByIds(List<UUID> personIds, boolean showClassified) {
+		metrics.recordCitizensByIdsBatch(personIds.size());
+		final var distinctIds = personIds.stream()
+			.filter(Objects::nonNull)
+			.distinct()
+			.toList();
+
+		final var citizensById = new HashMap<UUID, CitizenEntity>(distinctIds.size());
+		partition(distinctIds, batchProperties.chunkSize()).forEach(chunk -> citizenRepository.findAllWithAddressesByPersonIds(chunk, showClassified)
+			.forEach(citizen -> citizensById.put(citizen.getPersonId(), citizen)));
+
+		// Preserve the order of the request
 		return personIds.stream()
-			.map(id -> citizenRepository.findById(id.toString())
-				.orElse(null))
+			.map(citizensById::get)
 			.filter(Objects::nonNull)
-			.filter(citizen -> showClassified || citizen.getClassified() == null)
 			.map(CitizenMapper::toCitizenExtended)
 			.toList();
 	}
 
 	public List<CitizenWithChangedAddress> getCitizensWithChangedAddress(final OffsetDateTime changedDateFrom) {
-		return citizenAddressRepository
-			.findAll(CitizenAddressSpecification.hasChangedAddressSince(changedDateFrom))
+		final var citizens = citizenRepository
+			.findAllWithChangedAddressSince(changedDateFrom)
 			.stream()
-			.map(CitizenAddressMapper::toCitizenWithChangedAddress)
+			.map(CitizenMapper::toCitizenWithChangedAddress)
 			.toList();
+
+		metrics.recordChangedAddressRows(citizens.size());
+		return citizens;
+	}
+
+	public FindCitizenChangedAddressResponse getCitizensWithChangedAddress(final OffsetDateTime changedDateFrom, final String cursor, final int limit) {
+		final var page = findChangedAddressPage(changedDateFrom, ChangedAddressCursor.decode(cursor), limit);
+		metrics.recordChangedAddressPageRows(page.citizens().size());
+
+		return FindCitizenChangedAddressResponse.create()
+			.withMetaData(MetaData.create()
+				.withLimit(limit)
+				.withCount(page.citizens().size()))
+			.withCitizens(page.citizens())
+			.withNextCursor(page.nextCursor() != null ? page.nextCursor().encode() : null);
+	}
+
+	/**
+	 * Writes all citizens with changed address as newline delimited JSON to the sent in output stream. The feed is read
+	 * page by page, each page in its own short read-only transaction, and every page is flushed before the next one is
+	 * fetched. Memory consumption is therefore bounded by the configured chunk size regardless of the size of the window,
+	 * and no database connection is held while writing to a slow client.
+	 *
+	 * @param  changedDateFrom from-date for move
+	 * @param  outputStream    stream to write the result to
+	 * @throws IOException     if writing to the output stream fails
+	 */
+	@Transactional(propagation = NOT_SUPPORTED)
+	public void streamCitizensWithChangedAddress(final OffsetDateTime changedDateFrom, final OutputStream outputStream) throws IOException {
+		ChangedAddressCursor cursor = null;
+		long rows = 0;
+		do {
+			final var pageCursor = cursor;
+			final var page = readOnlyTransaction.execute(status -> findChangedAddressPage(changedDateFrom, pageCursor, batchProperties.chunkSize()));
+			for (final var citizen : page.citizens()) {
+				outputStream.write(objectMapper.writeValueAsBytes(citizen));
+				outputStream.write('\n');
+			}
+			outputStream.flush();
+			rows += page.citizens().size();
+			cursor = page.nextCursor();
+		} while (cursor != null);
+
+		metrics.recordChangedAddressStreamRows(rows);
 	}
 
 	public String getPersonalNumberById(final UUID personId) {
-		return citizenRepository.findById(personId.toString())
-			.map(CitizenEntity::getPersonalNumber)
-			.orElseThrow(() -> Problem.valueOf(NOT_FOUND,
-				format(ERROR_CITIZEN_NOT_FOUND, personId)));
+		final var cached = cacheManager.getCache(CITIZEN_CACHE).get(personId, CitizenExtended.class);
+		if (cached != null) {
+			metrics.recordPersonalNumberLookup(true);
+			return cached.getPersonalNumber();
+		}
+
+		final var personalNumber = citizenRepository.findPersonalNumberByPersonId(personId)
+			.map(PersonIdProjection::getPersonalNumber);
+
+		metrics.recordPersonalNumberLookup(personalNumber.isPresent());
+		return personalNumber.orElseThrow(() -> Problem.valueOf(NOT_FOUND, format(ERROR_CITIZEN_NOT_FOUND, personId)));
 	}
 
+	/**
+	 * Runs without a surrounding transaction, so that no database connection is held while waiting for Party. The local
+	 * lookup runs in a read-only transaction of its own.
+	 */
+	@Transactional(propagation = NOT_SUPPORTED)
 	public String getPersonIdByPersonalNumber(final String personNumber, final String municipalityId) {
-		if (!Objects.equals(municipalityId, "2281")) {
-			final var citizenEntity = citizenRepository.findByPersonalNumber(personNumber)
-				.orElseThrow(() -> Problem.valueOf(NOT_FOUND,
-					format(ERROR_PERSONAL_NUMBER_NOT_FOUND)));
+		final var viaParty = Objects.equals(municipalityId, PARTY_MUNICIPALITY_ID);
+		metrics.recordPersonIdRoute(viaParty);
 
-			return citizenEntity.getPersonId();
+		final Optional<String> personId;
+		if (!viaParty) {
+			personId = readOnlyTransaction.execute(status -> citizenRepository.findPersonIdByPersonalNumber(personNumber))
+				.map(citizen -> citizen.getPersonId().toString());
 		} else {
 			// Gå mot Party
-			final String type = "PRIVATE";
-
-			return partyIntegration.getPartyId(personNumber, municipalityId, type)
-				.orElseThrow(() -> Problem.valueOf(NOT_FOUND,
-					format(ERROR_PERSONAL_NUMBER_NOT_FOUND)));
+			try {
+				personId = partyIntegration.getPartyId(personNumber, municipalityId, PARTY_TYPE);
+			} catch (final PartyUnavailableException e) {
+				throw Problem.valueOf(SERVICE_UNAVAILABLE, ERROR_PARTY_UNAVAILABLE);
+			}
 		}
+
+		metrics.recordPersonIdLookup(personId.isPresent());
+		return personId.orElseThrow(() -> Problem.valueOf(NOT_FOUND,
+			format(ERROR_PERSONAL_NUMBER_NOT_FOUND)));
 	}
 
 	public List<PersonGuidBatch> getPersonIdsInBatch(List<String> personalNumbers) {
+		metrics.recordPersonIdsBatch(personalNumbers.size());
+		final var personIds = new HashMap<String, UUID>(personalNumbers.size());
+		final var errors = new HashMap<String, String>();
+		findLocalPersonIds(distinct(personalNumbers), personIds, errors);
+
 		return personalNumbers.stream()
-			.map(personalNumber -> {
-				var result = PersonGuidBatch.create()
-					.withPersonNumber(personalNumber);
-
-				try {
-					var citizen = citizenRepository.findByPersonalNumber(personalNumber);
-					if (citizen.isPresent()) {
-						result.withPersonId(UUID.fromString(citizen.get().getPersonId()))
-							.withSuccess(true);
-					} else {
-						result.withSuccess(false)
-							.withErrorMessage("Citizen not found");
-					}
-				} catch (Exception e) {
-					result.withSuccess(false)
-						.withErrorMessage("Error processing request: " + e.getMessage());
-				}
-				return result;
-			})
+			.map(personalNumber -> toPersonGuidBatch(personalNumber, personIds.get(personalNumber), errors.get(personalNumber)))
+			.toList();
+	}
+
+	/**
+	 * Municipality aware variant of {@link #getPersonIdsInBatch(List)}. Personal numbers for municipality 2281 are looked up
+	 * in Party in parallel on virtual threads, with at most the configured number of concurrent calls across all batches
+	 * and a timeout per call, while all other numbers are looked up in the local database. The method does not run in a
+	 * transaction, to avoid holding a database connection while waiting for Party; each chunk of local lookups runs in a
+	 * read-only transaction of its own.
+	 *
+	 * @param  items personal numbers and their municipality
+	 * @return       one result per item, in the order of the request
+	 */
+	@Transactional(propagation = NOT_SUPPORTED)
+	public List<PersonGuidBatch> getPersonIdsInBatchByMunicipality(final List<PersonGuidBatchItem> items) {
+		metrics.recordPersonIdsByMunicipalityBatch(items.size());
+		final var partyLookups = submitPartyLookups(distinct(items.stream()
+			.filter(CitizenService::isPartyItem)
+			.map(PersonGuidBatchItem::getPersonalNumber)
+			.toList()));
+
+		// The local lookups run while Party is being called
+		final var localPersonIds = new HashMap<String, UUID>();
+		final var localErrors = new HashMap<String, String>();
+		findLocalPersonIds(distinct(items.stream()
+			.filter(item -> !isPartyItem(item))
+			.map(PersonGuidBatchItem::getPersonalNumber)
+			.toList()), localPersonIds, localErrors);
+
+		final var partyPersonIds = new HashMap<String, UUID>(partyLookups.size());
+		final var partyErrors = new HashMap<String, String>();
+		awaitPartyLookups(partyLookups, partyPersonIds, partyErrors);
+
+		return items.stream()
+			.map(item -> isPartyItem(item)
+				? toPersonGuidBatch(item.getPersonalNumber(), partyPersonIds.get(item.getPersonalNumber()), partyErrors.get(item.getPersonalNumber()))
+				: toPersonGuidBatch(item.getPersonalNumber(), localPersonIds.get(item.getPersonalNumber()), localErrors.get(item.getPersonalNumber())))
 			.toList();
 	}
 
+	@Transactional
 	public UUID createPerson(final ModelPostPerson person) {
 		if (person == null || person.getPersonalNumber() == null || person.getPersonalNumber().isBlank()) {
-			throw Problem.valueOf(BAD_REQUEST, "Personal number is required");
+			throw Problem.valueOf(BAD_REQUEST, ERROR_PERSONAL_NUMBER_REQUIRED);
 		}
 
-		// Check if person already exists
-		if (citizenRepository.findByPersonalNumber(person.getPersonalNumber()).isPresent()) {
-			throw Problem.valueOf(CONFLICT,
-				format("Person with personal number %s already exists", person.getPersonalNumber()));
+		final var citizenEntity = CitizenEntity.create()
+			.withPersonalNumber(person.getPersonalNumber());
+
+		// The unique index on personal_number is the existence check, so the insert is flushed here to surface a duplicate
+		try {
+			return citizenRepository.saveAndFlush(citizenEntity).getPersonId();
+		} catch (DataIntegrityViolationException e) {
+			if (isPersonalNumberDuplicate(e)) {
+				throw Problem.valueOf(CONFLICT, format(ERROR_PERSON_ALREADY_EXISTS, person.getPersonalNumber()));
+			}
+			throw e;
 		}
+	}
 
-		final var citizenEntity = CitizenEntity.create()
+	/**
+	 * Tells a duplicate personal number apart from other integrity violations, which are not caused by the request. The
+	 * unique key is named personal_number by the migrations and idx_citizens_personal_number by the entity mapping.
+	 */
+	static boolean isPersonalNumberDuplicate(final DataIntegrityViolationException e) {
+		return e.getCause() instanceof final ConstraintViolationException violation
+			&& violation.getErrorCode() == DUPLICATE_KEY_ERROR_CODE
+			&& violation.getConstraintName() != null
+			&& violation.getConstraintName().contains(PERSONAL_NUMBER_KEY);
+	}
 
-			.withPersonalNumber(person.getPersonalNumber());
+	/**
+	 * Read-through lookup of a mapped citizen. Entries are evicted by
+	 * {@link se.sundsvall.citizen.integration.db.listener.CitizenCacheEvictionListener} when the citizen is written. The
+	 * cache holds its own copy, and every hit returns a new copy, so that a caller changing the returned citizen can not
+	 * change what later callers get.
+	 * <p>
+	 * A citizen evicted within the repopulation delay is not cached, as it may have been read from a replica that has not
+	 * yet applied the write. The eviction is recorded before the entry is evicted, so checking it again after the put
+	 * removes an entry that raced with an eviction.
+	 */
+	private CitizenExtended getCachedCitizen(final UUID personId) {
+		final var cache = cacheManager.getCache(CITIZEN_CACHE);
+		final var cached = cache.get(personId, CitizenExtended.class);
+		if (cached != null) {
+			return CitizenMapper.copyOf(cached);
+		}
+
+		final var citizen = citizenRepository.findById(personId)
+			.map(CitizenMapper::toCitizenExtended)
+			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, format(ERROR_CITIZEN_NOT_FOUND, personId)));
+
+		final var evictions = cacheManager.getCache(CITIZEN_EVICTIONS_CACHE);
+		if (isRecentlyEvicted(evictions, personId)) {
+			return citizen;
+		}
+		cache.put(personId, CitizenMapper.copyOf(citizen));
+		if (isRecentlyEvicted(evictions, personId)) {
+			cache.evict(personId);
+		}
+		return citizen;
+	}
+
+	private static boolean isRecentlyEvicted(final Cache evictions, final UUID personId) {
+		return evictions != null && evictions.get(personId) != null;
+	}
+
+	private ChangedAddressPage findChangedAddressPage(final OffsetDateTime changedDateFrom, final ChangedAddressCursor cursor, final int limit) {
+		final var keys = cursor == null
+			? citizenRepository.findKeysWithChangedAddressSince(changedDateFrom, PageRequest.ofSize(limit))
+			: citizenRepository.findKeysWithChangedAddressSinceAfter(changedDateFrom, cursor.updatedAt(), cursor.personId(), PageRequest.ofSize(limit));
+
+		if (keys.isEmpty()) {
+			return new ChangedAddressPage(List.of(), null);
+		}
+
+		final var citizensById = new HashMap<UUID, CitizenEntity>(keys.size());
+		citizenRepository.findAllWithAddressesByPersonIds(keys.stream().map(CitizenKeyProjection::getPersonId).toList(), true)
+			.forEach(citizen -> citizensById.put(citizen.getPersonId(), citizen));
+
+		final var citizens = keys.stream()
+			.map(key -> citizensById.get(key.getPersonId()))
+			.filter(Objects::nonNull)
+			.map(CitizenMapper::toCitizenWithChangedAddress)
+			.toList();
+
+		return new ChangedAddressPage(citizens, keys.size() < limit ? null : ChangedAddressCursor.of(keys.get(keys.size() - 1)));
+	}
+
+	private void findLocalPersonIds(final List<String> personalNumbers, final Map<String, UUID> personIds, final Map<String, String> errors) {
+		partition(personalNumbers, batchProperties.chunkSize()).forEach(chunk -> {
+			try {
+				readOnlyTransaction.execute(status -> citizenRepository.findAllByPersonalNumberIn(chunk))
+					.forEach(citizen -> personIds.put(citizen.getPersonalNumber(), citizen.getPersonId()));
+			} catch (Exception e) {
+				chunk.forEach(personalNumber -> errors.put(personalNumber, format(ERROR_BATCH_PROCESSING, e.getMessage())));
+			}
+		});
+	}
+
+	private Map<String, Future<Optional<String>>> submitPartyLookups(final List<String> personalNumbers) {
+		final var lookups = new HashMap<String, Future<Optional<String>>>(personalNumbers.size());
+		personalNumbers.forEach(personalNumber -> lookups.put(personalNumber, partyExecutor.submit(() -> {
+			partyPermits.acquire();
+			// The timeout starts when the call is made, not while waiting for a permit
+			final var call = partyExecutor.submit(() -> partyIntegration.getPartyId(personalNumber, PARTY_MUNICIPALITY_ID, PARTY_TYPE));
+			try {
+				return call.get(batchProperties.partyTimeout().toMillis(), TimeUnit.MILLISECONDS);
+			} finally {
+				call.cancel(true);
+				partyPermits.release();
+			}
+		})));
+		return lookups;
+	}
+
+	private static void awaitPartyLookups(final Map<String, Future<Optional<String>>> lookups, final Map<String, UUID> personIds, final Map<String, String> errors) {
+		lookups.forEach((personalNumber, lookup) -> {
+			try {
+				lookup.get().map(UUID::fromString).ifPresent(personId -> personIds.put(personalNumber, personId));
+			} catch (IllegalArgumentException e) {
+				errors.put(personalNumber, format(ERROR_BATCH_PROCESSING, e.getMessage()));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				errors.put(personalNumber, format(ERROR_BATCH_PROCESSING, e.getMessage()));
+			} catch (ExecutionException e) {
+				// Failures of the call itself are wrapped once more by the lookup that waits for it
+				final var cause = e.getCause() instanceof ExecutionException callFailure ? callFailure.getCause() : e.getCause();
+				if (cause instanceof TimeoutException) {
+					errors.put(personalNumber, ERROR_BATCH_PARTY_TIMEOUT);
+				} else if (cause instanceof PartyUnavailableException) {
+					errors.put(personalNumber, ERROR_PARTY_UNAVAILABLE);
+				} else {
+					errors.put(personalNumber, format(ERROR_BATCH_PROCESSING, cause.getMessage()));
+				}
+			}
+		});
+	}
+
+	private static boolean isPartyItem(final PersonGuidBatchItem item) {
+		return Objects.equals(item.getMunicipalityId(), PARTY_MUNICIPALITY_ID);
+	}
+
+	private static List<String> distinct(final List<String> personalNumbers) {
+		return personalNumbers.stream()
+			.filter(Objects::nonNull)
+			.distinct()
+			.toList();
+	}
+
+	private static PersonGuidBatch toPersonGuidBatch(final String personalNumber, final UUID personId, final String error) {
+		final var result = PersonGuidBatch.create()
+			.withPersonNumber(personalNumber);
+
+		if (error != null) {
+			return result.withSuccess(false)
+				.withErrorMessage(error);
+		}
+		if (personId == null) {
+			return result.withSuccess(false)
+				.withErrorMessage(ERROR_BATCH_CITIZEN_NOT_FOUND);
+		}
+
+		return result.withPersonId(personId)
+			.withSuccess(true);
+	}
+
+	private static <T> List<List<T>> partition(final List<T> list, final int size) {
+		final var partitions = new ArrayList<List<T>>((list.size() + size - 1) / size);
+		for (int i = 0; i < list.size(); i += size) {
+			partitions.add(list.subList(i, Math.min(i + size, list.size())));
+		}
+		return partitions;
+	}
 
-		var savedEntity = citizenRepository.save(citizenEntity);
-		return UUID.fromString(savedEntity.getPersonId());
+	private record ChangedAddressPage(List<CitizenWithChangedAddress> citizens, ChangedAddressCursor nextCursor) {
 	}
 }
@@ -0,0 +1,119 @@
+package se.sundsvall.citizen.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * Counters and distributions recorded by {@link CitizenService}, next to the latency of every operation which is timed
+ * by its {@code @Timed} annotation. All meters are registered up front, so recording never looks a meter up.
+ */
+@Component
+public class CitizenServiceMetrics {
+
+	static final String OPERATION_METRIC = "citizen.service.operation";
+	static final String BATCH_SIZE_METRIC = "citizen.service.batch.size";
+	static final String LOOKUPS_METRIC = "citizen.service.lookups";
+	static final String CHANGED_ADDRESS_ROWS_METRIC = "citizen.service.changed.address.rows";
+	static final String PERSON_ID_ROUTE_METRIC = "citizen.service.person.id.route";
+
+	private static final String OPERATION_TAG = "operation";
+	private static final String RESULT_TAG = "result";
+	private static final String ROUTE_TAG = "route";
+
+	private final DistributionSummary citizensByIdsBatchSize;
+	private final DistributionSummary personIdsBatchSize;
+	private final DistributionSummary personIdsByMunicipalityBatchSize;
+	private final Counter personalNumberHits;
+	private final Counter personalNumberMisses;
+	private final Counter personIdHits;
+	private final Counter personIdMisses;
+	private final DistributionSummary changedAddressRows;
+	private final DistributionSummary changedAddressPageRows;
+	private final DistributionSummary changedAddressStreamRows;
+	private final Counter partyRoutes;
+	private final Counter localRoutes;
+
+	public CitizenServiceMetrics(final MeterRegistry meterRegistry) {
+		this.citizensByIdsBatchSize = batchSize(meterRegistry, "getCitizensByIds");
+		this.personIdsBatchSize = batchSize(meterRegistry, "getPersonIdsInBatch");
+		this.personIdsByMunicipalityBatchSize = batchSize(meterRegistry, "getPersonIdsInBatchByMunicipality");
+		this.personalNumberHits = lookups(meterRegistry, "getPersonalNumberById", "hit");
+		this.personalNumberMisses = lookups(meterRegistry, "getPersonalNumberById", "miss");
+		this.personIdHits = lookups(meterRegistry, "getPersonIdByPersonalNumber", "hit");
+		this.personIdMisses = lookups(meterRegistry, "getPersonIdByPersonalNumber", "miss");
+		this.changedAddressRows = changedAddressRows(meterRegistry, "getCitizensWithChangedAddress");
+		this.changedAddressPageRows = changedAddressRows(meterRegistry, "getCitizensWithChangedAddressPage");
+		this.changedAddressStreamRows = changedAddressRows(meterRegistry, "streamCitizensWithChangedAddress");
+		this.partyRoutes = personIdRoute(meterRegistry, "party");
+		this.localRoutes = personIdRoute(meterRegistry, "local");
+	}
+
+	void recordCitizensByIdsBatch(final int size) {
+		citizensByIdsBatchSize.record(size);
+	}
+
+	void recordPersonIdsBatch(final int size) {
+		personIdsBatchSize.record(size);
+	}
+
+	void recordPersonIdsByMunicipalityBatch(final int size) {
+		personIdsByMunicipalityBatchSize.record(size);
+	}
+
+	void recordPersonalNumberLookup(final boolean hit) {
+		(hit ? personalNumberHits : personalNumberMisses).increment();
+	}
+
+	void recordPersonIdLookup(final boolean hit) {
+		(hit ? personIdHits : personIdMisses).increment();
+	}
+
+	void recordChangedAddressRows(final int rows) {
+		changedAddressRows.record(rows);
+	}
+
+	void recordChangedAddressPageRows(final int rows) {
+		changedAddressPageRows.record(rows);
+	}
+
+	void recordChangedAddressStreamRows(final long rows) {
+		changedAddressStreamRows.record(rows);
+	}
+
+	void recordPersonIdRoute(final boolean party) {
+		(party ? partyRoutes : localRoutes).increment();
+	}
+
+	private static DistributionSummary batchSize(final MeterRegistry meterRegistry, final String operation) {
+		return DistributionSummary.builder(BATCH_SIZE_METRIC)
+			.description("Number of keys sent in to a batch operation")
+			.tag(OPERATION_TAG, operation)
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+
+	private static Counter lookups(final MeterRegistry meterRegistry, final String operation, final String result) {
+		return Counter.builder(LOOKUPS_METRIC)
+			.description("Personal number and person id lookups, by whether the citizen was found")
+			.tag(OPERATION_TAG, operation)
+			.tag(RESULT_TAG, result)
+			.register(meterRegistry);
+	}
+
+	private static DistributionSummary changedAddressRows(final MeterRegistry meterRegistry, final String operation) {
+		return DistributionSummary.builder(CHANGED_ADDRESS_ROWS_METRIC)
+			.description("Number of citizens returned by a changed address operation")
+			.tag(OPERATION_TAG, operation)
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+	}
+
+	private static Counter personIdRoute(final MeterRegistry meterRegistry, final String route) {
+		return Counter.builder(PERSON_ID_ROUTE_METRIC)
+			.description("Person id lookups by personal number, by whether they were routed to Party or the local database")
+			.tag(ROUTE_TAG, route)
+			.register(meterRegistry);
+	}
+}
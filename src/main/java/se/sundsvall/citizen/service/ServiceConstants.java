@@ -7,4 +7,13 @@ public class ServiceConstants {
 	static final String ERROR_CITIZEN_NOT_FOUND = "No citizen found with ID: %s";
 	static final String ERROR_PERSONAL_NUMBER_NOT_FOUND = "No citizen found with that personal number";
 	static final String ERROR_INVALID_CLASSIFICATION_CODE = "Invalid classification code";
+	static final String ERROR_BATCH_CITIZEN_NOT_FOUND = "Citizen not found";
+	static final String ERROR_BATCH_PROCESSING = "Error processing request: %s";
+	static final String ERROR_BATCH_PARTY_TIMEOUT = "Timed out waiting for Party";
+	static final String ERROR_PARTY_UNAVAILABLE = "Party is unavailable, try again later";
+	static final String ERROR_TOO_MANY_SUBSCRIBERS = "Too many subscribers to the address change stream, try again later";
+	static final String ERROR_INVALID_CURSOR = "Invalid cursor";
+	static final String ERROR_PERSONAL_NUMBER_REQUIRED = "Personal number is required";
+	static final String ERROR_PERSON_ALREADY_EXISTS = "Person with personal number %s already exists";
+	static final String ERROR_IMPORT_INVALID_ROW = "Invalid row: %s";
 }
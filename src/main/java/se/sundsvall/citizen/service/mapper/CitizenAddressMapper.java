@@ -1,59 +1,130 @@
 package se.sundsvall.citizen.service.mapper;
 
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
-import java.util.UUID;
 import se.sundsvall.citizen.api.model.CitizenAddress;
 import se.sundsvall.citizen.api.model.CitizenWithChangedAddress;
 import se.sundsvall.citizen.integration.db.model.CitizenAddressEntity;
+import se.sundsvall.citizen.integration.db.model.CitizenEntity;
 
 public class CitizenAddressMapper {
 
 	private CitizenAddressMapper() {}
 
 	public static CitizenWithChangedAddress toCitizenWithChangedAddress(CitizenAddressEntity entity) {
-		return Optional.ofNullable(entity)
-			.map(e -> CitizenWithChangedAddress.create()
-				.withPersonId(UUID.fromString(e.getCitizen().getPersonId()))
-				.withPersonNumber(e.getCitizen().getPersonalNumber())
-				.withClassified(e.getCitizen().getClassified())
-				.withGender(e.getCitizen().getGender())
-				.withGivenname(e.getCitizen().getGivenname())
-				.withLastname(e.getCitizen().getLastname())
-				.withAddresses(toCitizenAddresses(e.getCitizen().getAddresses())))
-			.orElse(null);
+		return entity != null ? CitizenMapper.toCitizenWithChangedAddress(entity.getCitizen()) : null;
 	}
 
 	public static List<CitizenAddress> toCitizenAddresses(List<CitizenAddressEntity> entities) {
-		return Optional.ofNullable(entities)
-			.map(list -> list.stream()
-				.map(CitizenAddressMapper::toCitizenAddress)
-				.toList())
-			.orElse(Collections.emptyList());
+		if (entities == null || entities.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		final var addresses = new ArrayList<CitizenAddress>(entities.size());
+		for (final var entity : entities) {
+			addresses.add(toCitizenAddress(entity));
+		}
+		return addresses;
+	}
+
+	public static List<CitizenAddress> copyOf(List<CitizenAddress> addresses) {
+		if (addresses == null) {
+			return null;
+		}
+
+		final var copies = new ArrayList<CitizenAddress>(addresses.size());
+		for (final var address : addresses) {
+			copies.add(copyOf(address));
+		}
+		return copies;
+	}
+
+	public static List<CitizenAddressEntity> toCitizenAddressEntities(List<CitizenAddress> addresses, CitizenEntity citizen) {
+		if (addresses == null) {
+			return new ArrayList<>();
+		}
+
+		final var entities = new ArrayList<CitizenAddressEntity>(addresses.size());
+		for (final var address : addresses) {
+			entities.add(toCitizenAddressEntity(address, citizen));
+		}
+		return entities;
+	}
+
+	private static CitizenAddressEntity toCitizenAddressEntity(CitizenAddress address, CitizenEntity citizen) {
+		return CitizenAddressEntity.create()
+			.withCitizen(citizen)
+			.withStatus(address.getStatus())
+			.withNrDate(address.getNrDate() != null ? OffsetDateTime.parse(address.getNrDate()) : null)
+			.withRealEstateDescription(address.getRealEstateDescription())
+			.withCo(address.getCo())
+			.withAddress(address.getAddress())
+			.withAddressArea(address.getAddressArea())
+			.withAddressNumber(address.getAddressNumber())
+			.withAddressLetter(address.getAddressLetter())
+			.withApartmentNumber(address.getApartmentNumber())
+			.withPostalCode(address.getPostalCode())
+			.withCity(address.getCity())
+			.withCounty(address.getCounty())
+			.withMunicipality(address.getMunicipality())
+			.withCountry(address.getCountry())
+			.withEmigrated(address.getEmigrated())
+			.withAddressType(address.getAddressType())
+			.withXCoordLocal(address.getXCoordLocal())
+			.withYCoordLocal(address.getYCoordLocal());
+	}
+
+	private static CitizenAddress copyOf(CitizenAddress address) {
+		if (address == null) {
+			return null;
+		}
+
+		return CitizenAddress.create()
+			.withStatus(address.getStatus())
+			.withNrDate(address.getNrDate())
+			.withRealEstateDescription(address.getRealEstateDescription())
+			.withCo(address.getCo())
+			.withAddress(address.getAddress())
+			.withAddressArea(address.getAddressArea())
+			.withAddressNumber(address.getAddressNumber())
+			.withAddressLetter(address.getAddressLetter())
+			.withApartmentNumber(address.getApartmentNumber())
+			.withPostalCode(address.getPostalCode())
+			.withCity(address.getCity())
+			.withCounty(address.getCounty())
+			.withMunicipality(address.getMunicipality())
+			.withCountry(address.getCountry())
+			.withEmigrated(address.getEmigrated())
+			.withAddressType(address.getAddressType())
+			.withXCoordLocal(address.getXCoordLocal())
+			.withYCoordLocal(address.getYCoordLocal());
 	}
 
 	private static CitizenAddress toCitizenAddress(CitizenAddressEntity entity) {
-		return Optional.ofNullable(entity)
-			.map(e -> CitizenAddress.create()
-				.withStatus(e.getStatus())
-				.withNrDate(e.getNrDate() != null ? e.getNrDate().toString() : null)  // Convert to String
-				.withRealEstateDescription(e.getRealEstateDescription())
-				.withCo(e.getCo())
-				.withAddress(e.getAddress())
-				.withAddressArea(e.getAddressArea())
-				.withAddressNumber(e.getAddressNumber())
-				.withAddressLetter(e.getAddressLetter())
-				.withApartmentNumber(e.getApartmentNumber())
-				.withPostalCode(e.getPostalCode())
-				.withCity(e.getCity())
-				.withCounty(e.getCounty())
-				.withMunicipality(e.getMunicipality())
-				.withCountry(e.getCountry())
-				.withEmigrated(e.getEmigrated())
-				.withAddressType(e.getAddressType())
-				.withXCoordLocal(e.getXCoordLocal())
-				.withYCoordLocal(e.getYCoordLocal()))
-			.orElse(null);
+		if (entity == null) {
+			return null;
+		}
+
+		return CitizenAddress.create()
+			.withStatus(entity.getStatus())
+			.withNrDate(DateFormatCache.format(entity.getNrDate()))
+			.withRealEstateDescription(entity.getRealEstateDescription())
+			.withCo(entity.getCo())
+			.withAddress(entity.getAddress())
+			.withAddressArea(entity.getAddressArea())
+			.withAddressNumber(entity.getAddressNumber())
+			.withAddressLetter(entity.getAddressLetter())
+			.withApartmentNumber(entity.getApartmentNumber())
+			.withPostalCode(entity.getPostalCode())
+			.withCity(entity.getCity())
+			.withCounty(entity.getCounty())
+			.withMunicipality(entity.getMunicipality())
+			.withCountry(entity.getCountry())
+			.withEmigrated(entity.getEmigrated())
+			.withAddressType(entity.getAddressType())
+			.withXCoordLocal(entity.getXCoordLocal())
+			.withYCoordLocal(entity.getYCoordLocal());
 	}
 }
@@ -0,0 +1,37 @@
+package se.sundsvall.citizen.service.mapper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import se.sundsvall.citizen.api.model.CitizenChange;
+import se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity;
+
+public class CitizenChangeMapper {
+
+	private CitizenChangeMapper() {}
+
+	public static List<CitizenChange> toCitizenChanges(List<CitizenChangeEventEntity> entities) {
+		if (entities == null || entities.isEmpty()) {
+			return Collections.emptyList();
+		}
+
+		final var changes = new ArrayList<CitizenChange>(entities.size());
+		for (final var entity : entities) {
+			changes.add(toCitizenChange(entity));
+		}
+		return changes;
+	}
+
+	public static CitizenChange toCitizenChange(CitizenChangeEventEntity entity) {
+		if (entity == null) {
+			return null;
+		}
+
+		return CitizenChange.create()
+			.withSequence(entity.getSequenceNumber())
+			.withPersonId(entity.getPersonId())
+			.withEntityType(entity.getEntityType() != null ? entity.getEntityType().name() : null)
+			.withChangeType(entity.getChangeType() != null ? entity.getChangeType().name() : null)
+			.withChangedAt(entity.getCreatedAt());
+	}
+}
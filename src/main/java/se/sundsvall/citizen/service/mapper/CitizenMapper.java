@@ -1,27 +1,110 @@
 package se.sundsvall.citizen.service.mapper;
 
-import java.util.Optional;
-import java.util.UUID;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import se.sundsvall.citizen.api.model.CitizenExtended;
+import se.sundsvall.citizen.api.model.CitizenImportCustodyChild;
+import se.sundsvall.citizen.api.model.CitizenImportRecord;
+import se.sundsvall.citizen.api.model.CitizenWithChangedAddress;
 import se.sundsvall.citizen.integration.db.model.CitizenEntity;
+import se.sundsvall.citizen.integration.db.model.CustodyChildrenPupilEntity;
 
+/**
+ * Maps citizens between entities and API models. The entity to API mappings are on the hot path of every batch
+ * request, and are therefore written with plain null checks and loops instead of Optional and streams.
+ */
 public class CitizenMapper {
 
 	private CitizenMapper() {}
 
 	public static CitizenExtended toCitizenExtended(final CitizenEntity entity) {
-		return Optional.ofNullable(entity)
-			.map(e -> CitizenExtended.create()
-				.withPersonId(UUID.fromString(e.getPersonId()))
-				.withGivenname(e.getGivenname())
-				.withLastname(e.getLastname())
-				.withGender(e.getGender())
-				.withCivilStatus(e.getCivilStatus())
-				.withNrDate(e.getNrDate() != null ? e.getNrDate().toString() : null)
-				.withPersonalNumber(e.getPersonalNumber())
-				.withClassified(e.getClassified())
-				.withProtectedNr(e.getProtectedNr())
-				.withAddresses(CitizenAddressMapper.toCitizenAddresses(e.getAddresses())))
-			.orElse(null);
+		if (entity == null) {
+			return null;
+		}
+
+		return CitizenExtended.create()
+			.withPersonId(entity.getPersonId())
+			.withGivenname(entity.getGivenname())
+			.withLastname(entity.getLastname())
+			.withGender(entity.getGender())
+			.withCivilStatus(entity.getCivilStatus())
+			.withNrDate(DateFormatCache.format(entity.getNrDate()))
+			.withPersonalNumber(entity.getPersonalNumber())
+			.withClassified(entity.getClassified())
+			.withProtectedNr(entity.getProtectedNr())
+			.withAddresses(CitizenAddressMapper.toCitizenAddresses(entity.getAddresses()));
+	}
+
+	/**
+	 * Deep copy of a mapped citizen, used to keep the cached instance out of reach of the callers.
+	 */
+	public static CitizenExtended copyOf(final CitizenExtended citizen) {
+		if (citizen == null) {
+			return null;
+		}
+
+		return CitizenExtended.create()
+			.withPersonId(citizen.getPersonId())
+			.withGivenname(citizen.getGivenname())
+			.withLastname(citizen.getLastname())
+			.withGender(citizen.getGender())
+			.withCivilStatus(citizen.getCivilStatus())
+			.withNrDate(citizen.getNrDate())
+			.withPersonalNumber(citizen.getPersonalNumber())
+			.withClassified(citizen.getClassified())
+			.withProtectedNr(citizen.getProtectedNr())
+			.withAddresses(CitizenAddressMapper.copyOf(citizen.getAddresses()));
+	}
+
+	public static CitizenWithChangedAddress toCitizenWithChangedAddress(final CitizenEntity entity) {
+		if (entity == null) {
+			return null;
+		}
+
+		return CitizenWithChangedAddress.create()
+			.withPersonId(entity.getPersonId())
+			.withPersonNumber(entity.getPersonalNumber())
+			.withClassified(entity.getClassified())
+			.withGender(entity.getGender())
+			.withGivenname(entity.getGivenname())
+			.withLastname(entity.getLastname())
+			.withAddresses(CitizenAddressMapper.toCitizenAddresses(entity.getAddresses()));
+	}
+
+	public static CitizenEntity toCitizenEntity(final CitizenImportRecord citizen) {
+		if (citizen == null) {
+			return null;
+		}
+
+		final var entity = CitizenEntity.create()
+			.withPersonalNumber(citizen.getPersonalNumber())
+			.withGivenname(citizen.getGivenname())
+			.withLastname(citizen.getLastname())
+			.withGender(citizen.getGender())
+			.withCivilStatus(citizen.getCivilStatus())
+			.withNrDate(citizen.getNrDate() != null ? OffsetDateTime.parse(citizen.getNrDate()) : null)
+			.withClassified(citizen.getClassified())
+			.withProtectedNr(citizen.getProtectedNr());
+		return entity
+			.withAddresses(CitizenAddressMapper.toCitizenAddressEntities(citizen.getAddresses(), entity))
+			.withCustodyChildren(toCustodyChildrenPupilEntities(citizen.getCustodyChildren(), entity));
+	}
+
+	private static List<CustodyChildrenPupilEntity> toCustodyChildrenPupilEntities(final List<CitizenImportCustodyChild> children, final CitizenEntity citizen) {
+		if (children == null) {
+			return new ArrayList<>();
+		}
+
+		final var entities = new ArrayList<CustodyChildrenPupilEntity>(children.size());
+		for (final var child : children) {
+			entities.add(CustodyChildrenPupilEntity.create()
+				.withCitizen(citizen)
+				.withPersonnumber(child.getPersonalNumber())
+				.withTypeOfSchool(child.getTypeOfSchool())
+				.withUnRegCode(child.getUnRegCode())
+				.withUnRegDate(child.getUnRegDate() != null ? OffsetDateTime.parse(child.getUnRegDate()) : null));
+		}
+		return entities;
 	}
 }
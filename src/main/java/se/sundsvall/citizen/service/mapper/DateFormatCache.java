@@ -0,0 +1,38 @@
+package se.sundsvall.citizen.service.mapper;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Caches the ISO-8601 text of recently formatted dates. Registration dates repeat a lot between citizens and addresses,
+ * so a hit saves both the formatting work and the new String. The cache is a fixed size table where a colliding date
+ * replaces the previous entry, and entries are immutable, so concurrent readers at worst format a date twice.
+ */
+final class DateFormatCache {
+
+	private static final int SIZE = 1024;
+	private static final Entry[] ENTRIES = new Entry[SIZE];
+
+	private DateFormatCache() {}
+
+	/**
+	 * @return the same text as {@link OffsetDateTime#toString()}, or null if date is null
+	 */
+	static String format(final OffsetDateTime date) {
+		if (date == null) {
+			return null;
+		}
+
+		final var index = date.hashCode() & (SIZE - 1);
+		final var entry = ENTRIES[index];
+		if (entry != null && entry.date.equals(date)) {
+			return entry.text;
+		}
+
+		final var text = date.toString();
+		ENTRIES[index] = new Entry(date, text);
+		return text;
+	}
+
+	private record Entry(OffsetDateTime date, String text) {
+	}
+}
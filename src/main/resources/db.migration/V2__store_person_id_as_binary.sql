@@ -0,0 +1,21 @@
+-- Store person_id as BINARY(16) instead of the VARCHAR(255) string representation of the UUID.
+-- The foreign keys are dropped while the referenced column is converted and recreated afterwards.
+ALTER TABLE citizen_addresses DROP FOREIGN KEY citizen_addresses_ibfk_1;
+ALTER TABLE custody_children_pupils DROP FOREIGN KEY custody_children_pupils_ibfk_1;
+
+ALTER TABLE citizens ADD COLUMN person_id_bin BINARY(16) AFTER person_id;
+UPDATE citizens SET person_id_bin = UNHEX(REPLACE(person_id, '-', ''));
+ALTER TABLE citizens DROP PRIMARY KEY, DROP COLUMN person_id;
+ALTER TABLE citizens CHANGE COLUMN person_id_bin person_id BINARY(16) NOT NULL FIRST, ADD PRIMARY KEY (person_id);
+
+ALTER TABLE citizen_addresses ADD COLUMN person_id_bin BINARY(16) AFTER person_id;
+UPDATE citizen_addresses SET person_id_bin = UNHEX(REPLACE(person_id, '-', ''));
+ALTER TABLE citizen_addresses DROP COLUMN person_id;
+ALTER TABLE citizen_addresses CHANGE COLUMN person_id_bin person_id BINARY(16),
+    ADD CONSTRAINT fk_citizen_addresses_person_id FOREIGN KEY (person_id) REFERENCES citizens (person_id);
+
+ALTER TABLE custody_children_pupils ADD COLUMN person_id_bin BINARY(16) AFTER person_id;
+UPDATE custody_children_pupils SET person_id_bin = UNHEX(REPLACE(person_id, '-', ''));
+ALTER TABLE custody_children_pupils DROP COLUMN person_id;
+ALTER TABLE custody_children_pupils CHANGE COLUMN person_id_bin person_id BINARY(16),
+    ADD CONSTRAINT fk_custody_children_pupils_person_id FOREIGN KEY (person_id) REFERENCES citizens (person_id);
@@ -0,0 +1,7 @@
+-- Filter on a compact flag instead of the classification payload, which is a wide VARCHAR.
+-- The flag is kept in step with classified by the application.
+ALTER TABLE citizens ADD COLUMN is_classified BOOLEAN NOT NULL DEFAULT FALSE AFTER classified;
+UPDATE citizens SET is_classified = TRUE WHERE classified IS NOT NULL;
+
+DROP INDEX IF EXISTS citizens_classified_index ON citizens;
+CREATE INDEX citizens_is_classified_index ON citizens (is_classified);
@@ -0,0 +1,12 @@
+-- Indexes for the changed address queries, which filter citizens on updated_at, page on (updated_at, person_id) and
+-- look up the addresses of each citizen by person_id.
+-- The composite index on citizens matches both the range, the keyset condition and the sort order, so pages are read
+-- in index order without a filesort. It makes the single column index on updated_at redundant.
+CREATE INDEX citizens_updated_at_person_id_index ON citizens (updated_at, person_id);
+DROP INDEX IF EXISTS citizens_updated_at_index ON citizens;
+
+-- The addresses are reached through person_id only, both in the existence check and when they are fetched. The
+-- composite index answers the existence check and carries updated_at for the time of the address change. It also
+-- backs the foreign key, which lets the index created implicitly for the foreign key be dropped.
+CREATE INDEX citizen_addresses_person_id_updated_at_index ON citizen_addresses (person_id, updated_at);
+DROP INDEX IF EXISTS fk_citizen_addresses_person_id ON citizen_addresses;
@@ -0,0 +1,10 @@
+-- Outbox of changes to citizens and their addresses, written in the same transaction as the change.
+-- Consumers read the entries following the last sequence number they have seen, which is a range read on the primary key.
+CREATE TABLE citizen_change_events
+(
+    sequence_number BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    person_id       BINARY(16)   NOT NULL,
+    entity_type     VARCHAR(16)  NOT NULL,
+    change_type     VARCHAR(16)  NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+) ENGINE = InnoDB;
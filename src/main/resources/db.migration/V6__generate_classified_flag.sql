@@ -0,0 +1,7 @@
+-- Let the database derive the flag from classified, so that no writer can leave the two out of step.
+-- A column can not be turned into a generated one in place, so it is dropped and added again in the same statement.
+ALTER TABLE citizens
+    DROP INDEX citizens_is_classified_index,
+    DROP COLUMN is_classified,
+    ADD COLUMN is_classified BOOLEAN AS (classified IS NOT NULL) PERSISTENT AFTER classified,
+    ADD INDEX citizens_is_classified_index (is_classified);
@@ -0,0 +1,10 @@
+-- Every secondary index of InnoDB ends with the primary key, so the single column index on updated_at already orders
+-- citizens with the same updated_at by person_id and serves the range, the keyset condition and the sort order of the
+-- changed address queries. The composite index of V4 duplicates it and is replaced by the index it replaced.
+CREATE INDEX IF NOT EXISTS citizens_updated_at_index ON citizens (updated_at);
+DROP INDEX IF EXISTS citizens_updated_at_person_id_index ON citizens;
+
+-- The addresses are only looked up by person_id, so updated_at is left out of their index. The index also backs the
+-- foreign key, and is created before the composite index is dropped.
+CREATE INDEX IF NOT EXISTS citizen_addresses_person_id_index ON citizen_addresses (person_id);
+DROP INDEX IF EXISTS citizen_addresses_person_id_updated_at_index ON citizen_addresses;
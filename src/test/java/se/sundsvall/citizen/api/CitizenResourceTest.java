@@ -1,28 +1,47 @@
 package se.sundsvall.citizen.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+import static org.springframework.http.MediaType.TEXT_EVENT_STREAM;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import se.sundsvall.citizen.Application;
 import se.sundsvall.citizen.api.model.CitizenAddress;
+import se.sundsvall.citizen.api.model.CitizenChange;
 import se.sundsvall.citizen.api.model.CitizenExtended;
+import se.sundsvall.citizen.api.model.CitizenImportError;
+import se.sundsvall.citizen.api.model.CitizenImportResponse;
 import se.sundsvall.citizen.api.model.CitizenWithChangedAddress;
+import se.sundsvall.citizen.api.model.FindCitizenChangedAddressResponse;
+import se.sundsvall.citizen.api.model.FindCitizenChangesResponse;
+import se.sundsvall.citizen.api.model.MetaData;
 import se.sundsvall.citizen.api.model.ModelPostPerson;
 import se.sundsvall.citizen.api.model.PersonGuidBatch;
+import se.sundsvall.citizen.api.model.PersonGuidBatchItem;
+import se.sundsvall.citizen.service.CitizenAddressChangeFeed;
+import se.sundsvall.citizen.service.CitizenChangeService;
+import se.sundsvall.citizen.service.CitizenImportService;
 import se.sundsvall.citizen.service.CitizenService;
 
 @SpringBootTest(classes = Application.class, webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -35,6 +54,15 @@ class CitizenResourceTest {
 	@MockitoBean
 	private CitizenService citizenServiceMock;
 
+	@MockitoBean
+	private CitizenImportService citizenImportServiceMock;
+
+	@MockitoBean
+	private CitizenChangeService citizenChangeServiceMock;
+
+	@MockitoBean
+	private CitizenAddressChangeFeed citizenAddressChangeFeedMock;
+
 	@Autowired
 	private WebTestClient webTestClient;
 
@@ -203,6 +231,199 @@ class CitizenResourceTest {
 		verify(citizenServiceMock).getCitizensWithChangedAddress(CURRENT_TIME);
 	}
 
+	@Test
+	void getCitizensWithChangedAddressPage() {
+		// Arrange
+		final var changedAddresses = FindCitizenChangedAddressResponse.create()
+			.withMetaData(MetaData.create().withLimit(10).withCount(1))
+			.withCitizens(List.of(CitizenWithChangedAddress.create()
+				.withPersonId(UUID.randomUUID())))
+			.withNextCursor("cursor");
+
+		when(citizenServiceMock.getCitizensWithChangedAddress(CURRENT_TIME, "previousCursor", 10))
+			.thenReturn(changedAddresses);
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(uriBuilder -> uriBuilder
+				.path(PATH + "/changedaddress/page")
+				.queryParam("changedDateFrom", CURRENT_TIME)
+				.queryParam("cursor", "previousCursor")
+				.queryParam("limit", 10)
+				.build())
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentType(APPLICATION_JSON)
+			.expectBody(FindCitizenChangedAddressResponse.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isEqualTo(changedAddresses);
+		verify(citizenServiceMock).getCitizensWithChangedAddress(CURRENT_TIME, "previousCursor", 10);
+	}
+
+	@Test
+	void getCitizensWithChangedAddressPage_BadRequest_InvalidLimit() {
+		// Act
+		webTestClient.get()
+			.uri(uriBuilder -> uriBuilder
+				.path(PATH + "/changedaddress/page")
+				.queryParam("changedDateFrom", CURRENT_TIME)
+				.queryParam("limit", 0)
+				.build())
+			.exchange()
+			.expectStatus().isBadRequest();
+
+		verifyNoInteractions(citizenServiceMock);
+	}
+
+	@Test
+	void getChanges() {
+		// Arrange
+		final var changes = FindCitizenChangesResponse.create()
+			.withMetaData(MetaData.create().withLimit(10).withCount(1))
+			.withChanges(List.of(CitizenChange.create()
+				.withSequence(43L)
+				.withPersonId(UUID.randomUUID())
+				.withEntityType("ADDRESS")
+				.withChangeType("UPDATED")))
+			.withLastSequence(43L);
+
+		when(citizenChangeServiceMock.getChanges(42L, 10))
+			.thenReturn(changes);
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(uriBuilder -> uriBuilder
+				.path(PATH + "/changes")
+				.queryParam("after", 42)
+				.queryParam("limit", 10)
+				.build())
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentType(APPLICATION_JSON)
+			.expectBody(FindCitizenChangesResponse.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isEqualTo(changes);
+		verify(citizenChangeServiceMock).getChanges(42L, 10);
+	}
+
+	@Test
+	void getChanges_Defaults() {
+		// Arrange
+		when(citizenChangeServiceMock.getChanges(0L, 100))
+			.thenReturn(FindCitizenChangesResponse.create().withLastSequence(0L));
+
+		// Act
+		webTestClient.get()
+			.uri(PATH + "/changes")
+			.exchange()
+			.expectStatus().isOk();
+
+		// Assert
+		verify(citizenChangeServiceMock).getChanges(0L, 100);
+	}
+
+	@Test
+	void getChanges_BadRequest_NegativeAfter() {
+		// Act
+		webTestClient.get()
+			.uri(uriBuilder -> uriBuilder
+				.path(PATH + "/changes")
+				.queryParam("after", -1)
+				.build())
+			.exchange()
+			.expectStatus().isBadRequest();
+
+		verifyNoInteractions(citizenChangeServiceMock);
+	}
+
+	@Test
+	void subscribeToChangedAddresses() throws Exception {
+		// Arrange
+		final var personId = UUID.fromString("b82bd8ac-1507-4d9a-958d-369261eecc15");
+		final var emitter = new SseEmitter();
+		// The feed sends the citizen serialized on a single line
+		emitter.send(SseEmitter.event()
+			.id("43")
+			.name("address-changed")
+			.data("{\"personId\":\"" + personId + "\"}"));
+		emitter.complete();
+
+		when(citizenAddressChangeFeedMock.subscribe(42L))
+			.thenReturn(emitter);
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(PATH + "/changedaddress/events")
+			.header("Last-Event-ID", "42")
+			.accept(TEXT_EVENT_STREAM)
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentTypeCompatibleWith(TEXT_EVENT_STREAM)
+			.expectBody(String.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response)
+			.contains("id:43\n")
+			.contains("event:address-changed\n")
+			.contains("data:{\"personId\":\"b82bd8ac-1507-4d9a-958d-369261eecc15\"}");
+		verify(citizenAddressChangeFeedMock).subscribe(42L);
+	}
+
+	@Test
+	void subscribeToChangedAddresses_WithoutLastEventId() throws Exception {
+		// Arrange
+		final var emitter = new SseEmitter();
+		emitter.complete();
+
+		when(citizenAddressChangeFeedMock.subscribe(null))
+			.thenReturn(emitter);
+
+		// Act
+		webTestClient.get()
+			.uri(PATH + "/changedaddress/events")
+			.accept(TEXT_EVENT_STREAM)
+			.exchange()
+			.expectStatus().isOk();
+
+		// Assert
+		verify(citizenAddressChangeFeedMock).subscribe(null);
+	}
+
+	@Test
+	void streamCitizensWithChangedAddress() throws Exception {
+		// Arrange
+		doAnswer(invocation -> {
+			invocation.<OutputStream>getArgument(1).write("{}\n".getBytes());
+			return null;
+		}).when(citizenServiceMock).streamCitizensWithChangedAddress(eq(CURRENT_TIME), any());
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(uriBuilder -> uriBuilder
+				.path(PATH + "/changedaddress/stream")
+				.queryParam("changedDateFrom", CURRENT_TIME)
+				.build())
+			.accept(APPLICATION_NDJSON)
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentType(APPLICATION_NDJSON)
+			.expectBody(String.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isEqualTo("{}\n");
+		verify(citizenServiceMock).streamCitizensWithChangedAddress(eq(CURRENT_TIME), any());
+	}
+
 	@Test
 	void getCitizensBatch() {
 		// Arrange
@@ -267,6 +488,52 @@ class CitizenResourceTest {
 		verify(citizenServiceMock).getPersonIdsInBatch(List.of(personalNumber));
 	}
 
+	@Test
+	void getPersonIdsBatchByMunicipality() {
+		// Arrange
+		final var item = PersonGuidBatchItem.create()
+			.withPersonalNumber("198001011234")
+			.withMunicipalityId("2281");
+		final var batchResponse = List.of(
+			PersonGuidBatch.create()
+				.withPersonNumber(item.getPersonalNumber())
+				.withPersonId(UUID.randomUUID())
+				.withSuccess(true));
+
+		when(citizenServiceMock.getPersonIdsInBatchByMunicipality(any()))
+			.thenReturn(batchResponse);
+
+		// Act
+		final var response = webTestClient.post()
+			.uri(PATH + "/guid/batch/municipality")
+			.contentType(APPLICATION_JSON)
+			.bodyValue(List.of(item))
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentType(APPLICATION_JSON)
+			.expectBody(List.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).hasSize(1);
+		verify(citizenServiceMock).getPersonIdsInBatchByMunicipality(List.of(item));
+	}
+
+	@Test
+	void getPersonIdsBatchByMunicipality_BadRequest_MissingMunicipality() {
+		// Act
+		webTestClient.post()
+			.uri(PATH + "/guid/batch/municipality")
+			.contentType(APPLICATION_JSON)
+			.bodyValue(List.of(PersonGuidBatchItem.create().withPersonalNumber("198001011234")))
+			.exchange()
+			.expectStatus().isBadRequest();
+
+		// Assert
+		verifyNoInteractions(citizenServiceMock);
+	}
+
 	@Test
 	void getCitizenById_BadRequest_InvalidUUID() {
 		// Act
@@ -285,4 +552,90 @@ class CitizenResourceTest {
 			.exchange()
 			.expectStatus().isBadRequest();
 	}
+
+	@Test
+	void importCitizensFromNdjson() {
+		// Arrange
+		final var content = """
+			{"personalNumber":"198001011234","givenname":"Anna"}
+			{"personalNumber":"198001021234","givenname":"Bertil"}
+			""";
+		final var importResponse = CitizenImportResponse.create()
+			.withImported(2)
+			.withFailed(0)
+			.withErrors(List.of());
+
+		when(citizenImportServiceMock.importNdjson(any())).thenAnswer(invocation -> {
+			assertThat(new String(invocation.<InputStream>getArgument(0).readAllBytes(), UTF_8)).isEqualTo(content);
+			return importResponse;
+		});
+
+		// Act
+		final var response = webTestClient.post()
+			.uri(PATH + "/import")
+			.contentType(APPLICATION_NDJSON)
+			.bodyValue(content)
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentType(APPLICATION_JSON)
+			.expectBody(CitizenImportResponse.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isEqualTo(importResponse);
+		verify(citizenImportServiceMock).importNdjson(any());
+		verifyNoInteractions(citizenServiceMock);
+	}
+
+	@Test
+	void importCitizensFromCsv() {
+		// Arrange
+		final var content = """
+			personalNumber;givenname
+			198001011234;Anna
+			not;valid;row
+			""";
+		final var importResponse = CitizenImportResponse.create()
+			.withImported(1)
+			.withFailed(1)
+			.withErrors(List.of(CitizenImportError.create()
+				.withLine(3)
+				.withErrorMessage("Invalid row: expected 2 columns but found 3")));
+
+		when(citizenImportServiceMock.importCsv(any())).thenAnswer(invocation -> {
+			assertThat(new String(invocation.<InputStream>getArgument(0).readAllBytes(), UTF_8)).isEqualTo(content);
+			return importResponse;
+		});
+
+		// Act
+		final var response = webTestClient.post()
+			.uri(PATH + "/import")
+			.contentType(MediaType.parseMediaType("text/csv"))
+			.bodyValue(content)
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentType(APPLICATION_JSON)
+			.expectBody(CitizenImportResponse.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isEqualTo(importResponse);
+		verify(citizenImportServiceMock).importCsv(any());
+	}
+
+	@Test
+	void importCitizens_UnsupportedMediaType() {
+		// Act
+		webTestClient.post()
+			.uri(PATH + "/import")
+			.contentType(APPLICATION_JSON)
+			.bodyValue("[]")
+			.exchange()
+			.expectStatus().isEqualTo(415);
+
+		// Assert
+		verifyNoInteractions(citizenImportServiceMock);
+	}
 }
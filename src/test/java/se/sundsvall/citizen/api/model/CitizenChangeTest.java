@@ -0,0 +1,62 @@
+package se.sundsvall.citizen.api.model;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class CitizenChangeTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(CitizenChange.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+		final var personId = UUID.randomUUID();
+		final var changedAt = OffsetDateTime.now();
+
+		final var change = CitizenChange.create()
+			.withSequence(4711L)
+			.withPersonId(personId)
+			.withEntityType("ADDRESS")
+			.withChangeType("UPDATED")
+			.withChangedAt(changedAt);
+
+		assertThat(change).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(change.getSequence()).isEqualTo(4711L);
+		assertThat(change.getPersonId()).isEqualTo(personId);
+		assertThat(change.getEntityType()).isEqualTo("ADDRESS");
+		assertThat(change.getChangeType()).isEqualTo("UPDATED");
+		assertThat(change.getChangedAt()).isEqualTo(changedAt);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(CitizenChange.create()).hasAllNullFieldsOrProperties();
+		assertThat(new CitizenChange()).hasAllNullFieldsOrProperties();
+	}
+}
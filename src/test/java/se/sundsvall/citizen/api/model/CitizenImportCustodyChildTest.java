@@ -0,0 +1,51 @@
+package se.sundsvall.citizen.api.model;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+import org.junit.jupiter.api.Test;
+
+class CitizenImportCustodyChildTest {
+
+	@Test
+	void testBean() {
+		assertThat(CitizenImportCustodyChild.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+
+	@Test
+	void testBuilderMethods() {
+		final var personalNumber = "201001011234";
+		final var typeOfSchool = "typeOfSchool";
+		final var unRegCode = "unRegCode";
+		final var unRegDate = "2025-01-29T11:20:53Z";
+
+		final var child = CitizenImportCustodyChild.create()
+			.withPersonalNumber(personalNumber)
+			.withTypeOfSchool(typeOfSchool)
+			.withUnRegCode(unRegCode)
+			.withUnRegDate(unRegDate);
+
+		assertThat(child).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(child.getPersonalNumber()).isEqualTo(personalNumber);
+		assertThat(child.getTypeOfSchool()).isEqualTo(typeOfSchool);
+		assertThat(child.getUnRegCode()).isEqualTo(unRegCode);
+		assertThat(child.getUnRegDate()).isEqualTo(unRegDate);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(CitizenImportCustodyChild.create()).hasAllNullFieldsOrProperties();
+	}
+}
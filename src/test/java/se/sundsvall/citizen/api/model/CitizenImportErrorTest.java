@@ -0,0 +1,48 @@
+package se.sundsvall.citizen.api.model;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+import org.junit.jupiter.api.Test;
+
+class CitizenImportErrorTest {
+
+	@Test
+	void testBean() {
+		assertThat(CitizenImportError.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+		final var line = 12L;
+		final var personalNumber = "198001011234";
+		final var errorMessage = "errorMessage";
+
+		final var error = CitizenImportError.create()
+			.withLine(line)
+			.withPersonalNumber(personalNumber)
+			.withErrorMessage(errorMessage);
+
+		assertThat(error).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(error.getLine()).isEqualTo(line);
+		assertThat(error.getPersonalNumber()).isEqualTo(personalNumber);
+		assertThat(error.getErrorMessage()).isEqualTo(errorMessage);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(CitizenImportError.create()).hasAllNullFieldsOrPropertiesExcept("line");
+		assertThat(CitizenImportError.create().getLine()).isZero();
+	}
+}
@@ -0,0 +1,69 @@
+package se.sundsvall.citizen.api.model;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CitizenImportRecordTest {
+
+	@Test
+	void testBean() {
+		assertThat(CitizenImportRecord.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+		final var personalNumber = "198001011234";
+		final var givenname = "givenname";
+		final var lastname = "lastname";
+		final var gender = "K";
+		final var civilStatus = "G";
+		final var nrDate = "2025-01-29T11:20:53Z";
+		final var classified = "J";
+		final var protectedNr = "N";
+		final var addresses = List.of(CitizenAddress.create());
+		final var custodyChildren = List.of(CitizenImportCustodyChild.create());
+
+		final var citizen = CitizenImportRecord.create()
+			.withPersonalNumber(personalNumber)
+			.withGivenname(givenname)
+			.withLastname(lastname)
+			.withGender(gender)
+			.withCivilStatus(civilStatus)
+			.withNrDate(nrDate)
+			.withClassified(classified)
+			.withProtectedNr(protectedNr)
+			.withAddresses(addresses)
+			.withCustodyChildren(custodyChildren);
+
+		assertThat(citizen).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(citizen.getPersonalNumber()).isEqualTo(personalNumber);
+		assertThat(citizen.getGivenname()).isEqualTo(givenname);
+		assertThat(citizen.getLastname()).isEqualTo(lastname);
+		assertThat(citizen.getGender()).isEqualTo(gender);
+		assertThat(citizen.getCivilStatus()).isEqualTo(civilStatus);
+		assertThat(citizen.getNrDate()).isEqualTo(nrDate);
+		assertThat(citizen.getClassified()).isEqualTo(classified);
+		assertThat(citizen.getProtectedNr()).isEqualTo(protectedNr);
+		assertThat(citizen.getAddresses()).isEqualTo(addresses);
+		assertThat(citizen.getCustodyChildren()).isEqualTo(custodyChildren);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(CitizenImportRecord.create()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -0,0 +1,50 @@
+package se.sundsvall.citizen.api.model;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class CitizenImportResponseTest {
+
+	@Test
+	void testBean() {
+		assertThat(CitizenImportResponse.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+		final var imported = 10;
+		final var failed = 1;
+		final var errors = List.of(CitizenImportError.create());
+
+		final var response = CitizenImportResponse.create()
+			.withImported(imported)
+			.withFailed(failed)
+			.withErrors(errors);
+
+		assertThat(response).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(response.getImported()).isEqualTo(imported);
+		assertThat(response.getFailed()).isEqualTo(failed);
+		assertThat(response.getErrors()).isEqualTo(errors);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(CitizenImportResponse.create()).hasAllNullFieldsOrPropertiesExcept("imported", "failed");
+		assertThat(CitizenImportResponse.create().getImported()).isZero();
+		assertThat(CitizenImportResponse.create().getFailed()).isZero();
+	}
+}
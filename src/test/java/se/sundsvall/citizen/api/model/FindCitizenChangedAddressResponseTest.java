@@ -42,7 +42,8 @@ class FindCitizenChangedAddressResponseTest {
 
 		final var findCitizenChangedAddressResponse = FindCitizenChangedAddressResponse.create()
 			.withMetaData(metaData)
-			.withCitizens(citizens);
+			.withCitizens(citizens)
+			.withNextCursor("nextCursor");
 
 		assertThat(findCitizenChangedAddressResponse).isNotNull().hasNoNullFieldsOrProperties();
 		assertThat(findCitizenChangedAddressResponse.getMetaData()).isEqualTo(metaData);
@@ -50,6 +51,7 @@ class FindCitizenChangedAddressResponseTest {
 			.isEqualTo(citizens)
 			.hasSize(2)
 			.containsExactly(citizen1, citizen2);
+		assertThat(findCitizenChangedAddressResponse.getNextCursor()).isEqualTo("nextCursor");
 	}
 
 	@Test
@@ -0,0 +1,52 @@
+package se.sundsvall.citizen.api.model;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class FindCitizenChangesResponseTest {
+
+	@Test
+	void testBean() {
+		assertThat(FindCitizenChangesResponse.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+		final var metaData = MetaData.create()
+			.withLimit(10)
+			.withCount(2);
+		final var change1 = CitizenChange.create().withSequence(1L);
+		final var change2 = CitizenChange.create().withSequence(2L);
+		final var changes = List.of(change1, change2);
+
+		final var response = FindCitizenChangesResponse.create()
+			.withMetaData(metaData)
+			.withChanges(changes)
+			.withLastSequence(2L);
+
+		assertThat(response).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(response.getMetaData()).isEqualTo(metaData);
+		assertThat(response.getChanges()).containsExactly(change1, change2);
+		assertThat(response.getLastSequence()).isEqualTo(2L);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(FindCitizenChangesResponse.create()).hasAllNullFieldsOrProperties();
+		assertThat(new FindCitizenChangesResponse()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -0,0 +1,44 @@
+package se.sundsvall.citizen.api.model;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+import org.junit.jupiter.api.Test;
+
+class PersonGuidBatchItemTest {
+
+	@Test
+	void testBean() {
+		assertThat(PersonGuidBatchItem.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+		final var personalNumber = "198001011234";
+		final var municipalityId = "2281";
+
+		final var item = PersonGuidBatchItem.create()
+			.withPersonalNumber(personalNumber)
+			.withMunicipalityId(municipalityId);
+
+		assertThat(item).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(item.getPersonalNumber()).isEqualTo(personalNumber);
+		assertThat(item.getMunicipalityId()).isEqualTo(municipalityId);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(PersonGuidBatchItem.create()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -0,0 +1,37 @@
+package se.sundsvall.citizen.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.context.properties.bind.validation.BindValidationException;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+class BatchPropertiesTest {
+
+	private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+		.withConfiguration(AutoConfigurations.of(ValidationAutoConfiguration.class))
+		.withUserConfiguration(BatchConfiguration.class);
+
+	@Test
+	void defaults() {
+		contextRunner.run(context -> assertThat(context.getBean(BatchProperties.class))
+			.isEqualTo(new BatchProperties(500, 50, Duration.ofSeconds(5))));
+	}
+
+	@Test
+	void chunkSizeMustBePositive() {
+		contextRunner.withPropertyValues("citizen.batch.chunk-size=0")
+			.run(context -> assertThat(context).getFailure().hasRootCauseInstanceOf(BindValidationException.class)
+				.rootCause().hasMessageContaining("chunkSize"));
+	}
+
+	@Test
+	void partyConcurrencyMustBePositive() {
+		contextRunner.withPropertyValues("citizen.batch.party-concurrency=-1")
+			.run(context -> assertThat(context).getFailure().hasRootCauseInstanceOf(BindValidationException.class)
+				.rootCause().hasMessageContaining("partyConcurrency"));
+	}
+}
@@ -0,0 +1,89 @@
+package se.sundsvall.citizen.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cache.jcache.ConfigSettings.CACHE_MANAGER;
+import static org.hibernate.cfg.AvailableSettings.CACHE_REGION_FACTORY;
+import static org.hibernate.cfg.AvailableSettings.USE_SECOND_LEVEL_CACHE;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class EntityCacheConfigurationTest {
+
+	private static final EntityCacheProperties PROPERTIES = new EntityCacheProperties(true,
+		new EntityCacheProperties.Region(1000, Duration.ofMinutes(10)),
+		new EntityCacheProperties.Region(2000, Duration.ofMinutes(20)),
+		new EntityCacheProperties.Region(3000, Duration.ofMinutes(30)));
+
+	private final EntityCacheConfiguration configuration = new EntityCacheConfiguration();
+
+	@Mock
+	private ObjectProvider<CacheManager> cacheManagerProviderMock;
+
+	@Mock
+	private CacheManager cacheManagerMock;
+
+	@Test
+	void entityCacheManager() {
+		try (final var cacheManager = configuration.entityCacheManager(PROPERTIES)) {
+			assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrder(
+				"citizens", "citizens.addresses", "citizens.custodyChildren", "citizen_addresses", "custody_children_pupils");
+
+			final var citizens = cacheManager.getCache("citizens").getConfiguration(CaffeineConfiguration.class);
+			assertThat(citizens.getMaximumSize()).isEqualTo(OptionalLong.of(1000));
+			assertThat(citizens.getExpireAfterWrite()).isEqualTo(OptionalLong.of(Duration.ofMinutes(10).toNanos()));
+			assertThat(citizens.isStatisticsEnabled()).isTrue();
+
+			final var addresses = cacheManager.getCache("citizens.addresses").getConfiguration(CaffeineConfiguration.class);
+			assertThat(addresses.getMaximumSize()).isEqualTo(OptionalLong.of(2000));
+			assertThat(addresses.getExpireAfterWrite()).isEqualTo(OptionalLong.of(Duration.ofMinutes(20).toNanos()));
+
+			final var custodyChildren = cacheManager.getCache("custody_children_pupils").getConfiguration(CaffeineConfiguration.class);
+			assertThat(custodyChildren.getMaximumSize()).isEqualTo(OptionalLong.of(3000));
+			assertThat(custodyChildren.getExpireAfterWrite()).isEqualTo(OptionalLong.of(Duration.ofMinutes(30).toNanos()));
+		}
+	}
+
+	@Test
+	void hibernatePropertiesWhenEnabled() {
+		// Arrange
+		final var hibernateProperties = new HashMap<String, Object>();
+		when(cacheManagerProviderMock.getObject()).thenReturn(cacheManagerMock);
+
+		// Act
+		configuration.entityCacheHibernatePropertiesCustomizer(PROPERTIES, cacheManagerProviderMock).customize(hibernateProperties);
+
+		// Assert
+		assertThat(hibernateProperties)
+			.containsEntry(USE_SECOND_LEVEL_CACHE, true)
+			.containsEntry(CACHE_REGION_FACTORY, "jcache")
+			.containsEntry(CACHE_MANAGER, cacheManagerMock);
+	}
+
+	@Test
+	void hibernatePropertiesWhenDisabled() {
+		// Arrange
+		final var properties = new EntityCacheProperties(false, PROPERTIES.citizens(), PROPERTIES.addresses(), PROPERTIES.custodyChildren());
+		final var hibernateProperties = new HashMap<String, Object>();
+
+		// Act
+		configuration.entityCacheHibernatePropertiesCustomizer(properties, cacheManagerProviderMock).customize(hibernateProperties);
+
+		// Assert
+		assertThat(hibernateProperties)
+			.containsEntry(USE_SECOND_LEVEL_CACHE, false)
+			.doesNotContainKeys(CACHE_REGION_FACTORY, CACHE_MANAGER);
+		verifyNoInteractions(cacheManagerProviderMock);
+	}
+}
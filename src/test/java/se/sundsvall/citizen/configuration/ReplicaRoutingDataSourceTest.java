@@ -0,0 +1,57 @@
+package se.sundsvall.citizen.configuration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+	@Mock
+	private DataSource primaryMock;
+
+	@Mock
+	private DataSource replicaMock;
+
+	@Mock
+	private Connection connectionMock;
+
+	@AfterEach
+	void tearDown() {
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+	}
+
+	@Test
+	void readOnlyTransactionRoutesToReplica() throws SQLException {
+		// Arrange
+		final var dataSource = new ReplicaRoutingDataSource(primaryMock, replicaMock);
+		dataSource.afterPropertiesSet();
+		TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+		when(replicaMock.getConnection()).thenReturn(connectionMock);
+
+		// Act & Assert
+		assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.Target.REPLICA);
+		assertThat(dataSource.getConnection()).isSameAs(connectionMock);
+	}
+
+	@Test
+	void readWriteTransactionRoutesToPrimary() throws SQLException {
+		// Arrange
+		final var dataSource = new ReplicaRoutingDataSource(primaryMock, replicaMock);
+		dataSource.afterPropertiesSet();
+		when(primaryMock.getConnection()).thenReturn(connectionMock);
+
+		// Act & Assert
+		assertThat(dataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.Target.PRIMARY);
+		assertThat(dataSource.getConnection()).isSameAs(connectionMock);
+	}
+}
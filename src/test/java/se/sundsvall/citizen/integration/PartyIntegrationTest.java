@@ -1,18 +1,30 @@
 package se.sundsvall.citizen.integration;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import se.sundsvall.citizen.integration.party.PartyClient;
 import se.sundsvall.citizen.integration.party.PartyIntegration;
+import se.sundsvall.citizen.integration.party.PartyUnavailableException;
+import se.sundsvall.citizen.integration.party.configuration.PartyIntegrationProperties;
 
 @ExtendWith(MockitoExtension.class)
 public class PartyIntegrationTest {
@@ -20,9 +32,23 @@ public class PartyIntegrationTest {
 	@Mock
 	private PartyClient mockPartyClient;
 
-	@InjectMocks
+	private SimpleMeterRegistry meterRegistry;
+
 	private PartyIntegration partyIntegration;
 
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		partyIntegration = new PartyIntegration(mockPartyClient, properties(1), meterRegistry);
+	}
+
+	private static PartyIntegrationProperties properties(final int initialLimit) {
+		return new PartyIntegrationProperties("http://something.com/party", Duration.ofSeconds(10), Duration.ofSeconds(30),
+			new Oauth2("http://something.com/token", "someClientId", "someClientSecret"),
+			new PartyIntegrationProperties.Cache(100, Duration.ofHours(1), Duration.ofMinutes(5)),
+			new PartyIntegrationProperties.Limiter(initialLimit, 1, 10, 0.5, Duration.ofSeconds(2)));
+	}
+
 	@Test
 	void getPartyId() {
 		final var personalNumber = "123456789";
@@ -38,6 +64,37 @@ public class PartyIntegrationTest {
 		verifyNoMoreInteractions(mockPartyClient);
 	}
 
+	@Test
+	void getPartyIdIsCached() {
+		final var personalNumber = "123456789";
+		final var municipalityId = "2281";
+		final var partyId = UUID.randomUUID().toString();
+
+		when(mockPartyClient.getPartyId(personalNumber, municipalityId, TYPE)).thenReturn(Optional.of(partyId));
+		// act
+		final var first = partyIntegration.getPartyId(personalNumber, municipalityId, TYPE);
+		final var second = partyIntegration.getPartyId(personalNumber, municipalityId, TYPE);
+		assertThat(first).contains(partyId);
+		assertThat(second).contains(partyId);
+		verify(mockPartyClient).getPartyId(personalNumber, municipalityId, TYPE);
+		verifyNoMoreInteractions(mockPartyClient);
+	}
+
+	@Test
+	void getPartyIdNotFoundIsCached() {
+		final var personalNumber = "123456789";
+		final var municipalityId = "2281";
+
+		when(mockPartyClient.getPartyId(personalNumber, municipalityId, TYPE)).thenReturn(Optional.empty());
+		// act
+		final var first = partyIntegration.getPartyId(personalNumber, municipalityId, TYPE);
+		final var second = partyIntegration.getPartyId(personalNumber, municipalityId, TYPE);
+		assertThat(first).isEmpty();
+		assertThat(second).isEmpty();
+		verify(mockPartyClient).getPartyId(personalNumber, municipalityId, TYPE);
+		verifyNoMoreInteractions(mockPartyClient);
+	}
+
 	@Test
 	void getPartyIdWithException() {
 		final var personalNumber = "123456789";
@@ -52,4 +109,119 @@ public class PartyIntegrationTest {
 		verify(mockPartyClient).getPartyId(personalNumber, municipalityId, type);
 		verifyNoMoreInteractions(mockPartyClient);
 	}
+
+	@Test
+	void getPartyIdWithExceptionIsNotCached() {
+		final var personalNumber = "123456789";
+		final var municipalityId = "2281";
+		final var partyId = UUID.randomUUID().toString();
+
+		when(mockPartyClient.getPartyId(personalNumber, municipalityId, TYPE))
+			.thenThrow(FeignException.FeignServerException.class)
+			.thenReturn(Optional.of(partyId));
+		// act
+		final var first = partyIntegration.getPartyId(personalNumber, municipalityId, TYPE);
+		final var second = partyIntegration.getPartyId(personalNumber, municipalityId, TYPE);
+		assertThat(first).isEmpty();
+		assertThat(second).contains(partyId);
+		verify(mockPartyClient, times(2)).getPartyId(personalNumber, municipalityId, TYPE);
+		verifyNoMoreInteractions(mockPartyClient);
+	}
+
+	@Test
+	void getPartyIdConcurrentLookupsAreCoalesced() throws Exception {
+		final var personalNumber = "123456789";
+		final var municipalityId = "2281";
+		final var partyId = UUID.randomUUID().toString();
+		final var callStarted = new CountDownLatch(1);
+		final var releaseCall = new CountDownLatch(1);
+
+		when(mockPartyClient.getPartyId(personalNumber, municipalityId, TYPE)).thenAnswer(invocation -> {
+			callStarted.countDown();
+			releaseCall.await(5, TimeUnit.SECONDS);
+			return Optional.of(partyId);
+		});
+
+		try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			// act
+			final var first = executor.submit(() -> partyIntegration.getPartyId(personalNumber, municipalityId, TYPE));
+			assertThat(callStarted.await(5, TimeUnit.SECONDS)).isTrue();
+			final var second = executor.submit(() -> partyIntegration.getPartyId(personalNumber, municipalityId, TYPE));
+			releaseCall.countDown();
+
+			assertThat(first.get(5, TimeUnit.SECONDS)).contains(partyId);
+			assertThat(second.get(5, TimeUnit.SECONDS)).contains(partyId);
+		}
+		verify(mockPartyClient).getPartyId(personalNumber, municipalityId, TYPE);
+		verifyNoMoreInteractions(mockPartyClient);
+	}
+
+	@Test
+	void getPartyIdRejectedByLimiter() throws Exception {
+		final var municipalityId = "2281";
+		final var callStarted = new CountDownLatch(1);
+		final var releaseCall = new CountDownLatch(1);
+
+		when(mockPartyClient.getPartyId("123456789", municipalityId, TYPE)).thenAnswer(invocation -> {
+			callStarted.countDown();
+			releaseCall.await(5, TimeUnit.SECONDS);
+			return Optional.of(UUID.randomUUID().toString());
+		});
+
+		try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			// act, the limit of one call is taken by the first lookup
+			final var first = executor.submit(() -> partyIntegration.getPartyId("123456789", municipalityId, TYPE));
+			assertThat(callStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+			assertThrows(PartyUnavailableException.class, () -> partyIntegration.getPartyId("987654321", municipalityId, TYPE));
+			releaseCall.countDown();
+			assertThat(first.get(5, TimeUnit.SECONDS)).isPresent();
+		}
+		assertThat(meterRegistry.get("party.calls.rejected").tag("reason", "limiter").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("party.limiter.in.flight").gauge().value()).isZero();
+		verify(mockPartyClient).getPartyId("123456789", municipalityId, TYPE);
+		verifyNoMoreInteractions(mockPartyClient);
+	}
+
+	@Test
+	void getPartyIdRejectedByBulkhead() {
+		final var personalNumber = "123456789";
+		final var municipalityId = "2281";
+
+		when(mockPartyClient.getPartyId(personalNumber, municipalityId, TYPE))
+			.thenThrow(BulkheadFullException.createBulkheadFullException(Bulkhead.ofDefaults("Party")));
+		// act
+		assertThrows(PartyUnavailableException.class, () -> partyIntegration.getPartyId(personalNumber, municipalityId, TYPE));
+		assertThat(meterRegistry.get("party.calls.rejected").tag("reason", "bulkhead").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("party.limiter.limit").gauge().value()).isEqualTo(1);
+		assertThat(meterRegistry.get("party.limiter.in.flight").gauge().value()).isZero();
+	}
+
+	@Test
+	void getPartyIdRejectedByCircuitBreaker() {
+		final var personalNumber = "123456789";
+		final var municipalityId = "2281";
+
+		when(mockPartyClient.getPartyId(personalNumber, municipalityId, TYPE))
+			.thenThrow(CallNotPermittedException.createCallNotPermittedException(CircuitBreaker.ofDefaults("Party")));
+		// act
+		assertThrows(PartyUnavailableException.class, () -> partyIntegration.getPartyId(personalNumber, municipalityId, TYPE));
+		assertThat(meterRegistry.get("party.calls.rejected").tag("reason", "circuit-breaker").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void getPartyIdLimitAdaptsToFailures() {
+		meterRegistry = new SimpleMeterRegistry();
+		partyIntegration = new PartyIntegration(mockPartyClient, properties(8), meterRegistry);
+		final var municipalityId = "2281";
+
+		when(mockPartyClient.getPartyId("123456789", municipalityId, TYPE)).thenThrow(FeignException.FeignServerException.class);
+		when(mockPartyClient.getPartyId("987654321", municipalityId, TYPE)).thenReturn(Optional.of(UUID.randomUUID().toString()));
+		// act
+		partyIntegration.getPartyId("123456789", municipalityId, TYPE);
+		assertThat(meterRegistry.get("party.limiter.limit").gauge().value()).isEqualTo(4);
+
+		partyIntegration.getPartyId("987654321", municipalityId, TYPE);
+		assertThat(meterRegistry.get("party.limiter.limit").gauge().value()).isEqualTo(4);
+	}
 }
@@ -9,8 +9,10 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.citizen.configuration.CacheConfiguration;
 import se.sundsvall.citizen.integration.db.model.CitizenAddressEntity;
 import se.sundsvall.citizen.integration.db.model.CitizenEntity;
 import se.sundsvall.citizen.integration.db.specification.CitizenAddressSpecification;
@@ -22,6 +24,7 @@ import se.sundsvall.citizen.integration.db.specification.CitizenAddressSpecifica
  */
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = NONE)
+@Import(CacheConfiguration.class)
 @ActiveProfiles("junit")
 @Sql(scripts = {
 	"/db/script/truncate.sql",
@@ -30,7 +33,7 @@ import se.sundsvall.citizen.integration.db.specification.CitizenAddressSpecifica
 class CitizenAddressRepositoryTest {
 
 	private static final String ENTITY_1_ID = "c305f904-c9bf-4144-8656-a797acc90b74";
-	private static final String CITIZEN_1_ID = "fb47e26c-1c27-11ee-be56-0242ac120002";
+	private static final UUID CITIZEN_1_ID = UUID.fromString("fb47e26c-1c27-11ee-be56-0242ac120002");
 	private static final OffsetDateTime BASE_TIME = OffsetDateTime.parse("2025-01-30T10:28:54Z");
 
 	@Autowired
@@ -134,7 +137,7 @@ class CitizenAddressRepositoryTest {
 	@Test
 	void save() {
 		final var citizen = CitizenEntity.create()
-			.withPersonId(UUID.randomUUID().toString())
+			.withPersonId(UUID.randomUUID())
 			.withPersonalNumber("20000101-1234")
 			.withGivenname("Test")
 			.withLastname("Testsson")
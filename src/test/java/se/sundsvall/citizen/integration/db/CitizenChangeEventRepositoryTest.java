@@ -0,0 +1,111 @@
+package se.sundsvall.citizen.integration.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
+import static se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity.ChangeType.CREATED;
+import static se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity.ChangeType.UPDATED;
+import static se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity.EntityType.ADDRESS;
+import static se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity.EntityType.CITIZEN;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.citizen.configuration.CacheConfiguration;
+import se.sundsvall.citizen.integration.db.model.CitizenAddressEntity;
+import se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity;
+import se.sundsvall.citizen.integration.db.model.CitizenEntity;
+
+/**
+ * Change event repository tests. The events are written by the entity listener when the transaction saving the citizens
+ * commits, so the tests do not run in a transaction of their own.
+ *
+ * @see /src/test/resources/db/script/CitizenRepositoryTest.sql for data setup.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = NONE)
+@Import(CacheConfiguration.class)
+@ActiveProfiles("junit")
+@Transactional(propagation = NOT_SUPPORTED)
+@Sql(scripts = {
+	"/db/script/truncate.sql",
+	"/db/script/CitizenRepositoryTest.sql"
+})
+class CitizenChangeEventRepositoryTest {
+
+	private static final UUID CITIZEN_1_ID = UUID.fromString("fb47e26c-1c27-11ee-be56-0242ac120002");
+
+	@Autowired
+	private CitizenRepository citizenRepository;
+
+	@Autowired
+	private CitizenChangeEventRepository changeEventRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Test
+	void saveWritesCreatedEvents() {
+		final var citizen = CitizenEntity.create().withPersonalNumber("19800103-1234");
+		citizen.withAddresses(new ArrayList<>(List.of(CitizenAddressEntity.create()
+			.withCitizen(citizen)
+			.withCity("SUNDSVALL"))));
+
+		// Not flushed before the commit, the events are written by the flush made on commit
+		final var personId = citizenRepository.save(citizen).getPersonId();
+
+		assertThat(changeEventRepository.findChangesAfter(0, PageRequest.ofSize(10)))
+			.extracting(CitizenChangeEventEntity::getPersonId, CitizenChangeEventEntity::getEntityType, CitizenChangeEventEntity::getChangeType)
+			.containsExactly(
+				tuple(personId, CITIZEN, CREATED),
+				tuple(personId, ADDRESS, CREATED));
+	}
+
+	@Test
+	void updateWritesUpdatedEvent() {
+		final var citizen = citizenRepository.findById(CITIZEN_1_ID).orElseThrow();
+
+		citizenRepository.saveAndFlush(citizen.withGivenname("Changed"));
+
+		assertThat(changeEventRepository.findChangesAfter(0, PageRequest.ofSize(10)))
+			.extracting(CitizenChangeEventEntity::getPersonId, CitizenChangeEventEntity::getEntityType, CitizenChangeEventEntity::getChangeType)
+			.containsExactly(tuple(CITIZEN_1_ID, CITIZEN, UPDATED));
+	}
+
+	@Test
+	void rollbackWritesNoEvents() {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+			citizenRepository.saveAndFlush(CitizenEntity.create().withPersonalNumber("19800103-1234"));
+			status.setRollbackOnly();
+		});
+
+		assertThat(changeEventRepository.findChangesAfter(0, PageRequest.ofSize(10))).isEmpty();
+	}
+
+	@Test
+	void findChangesAfter() {
+		for (int i = 0; i < 3; i++) {
+			citizenRepository.saveAndFlush(CitizenEntity.create().withPersonalNumber("1980010" + i + "-9999"));
+		}
+		final var all = changeEventRepository.findChangesAfter(0, PageRequest.ofSize(10));
+
+		final var result = changeEventRepository.findChangesAfter(all.getFirst().getSequenceNumber(), PageRequest.ofSize(1));
+
+		assertThat(all).hasSize(3).allSatisfy(event -> assertThat(event.getCreatedAt()).isNotNull());
+		assertThat(result)
+			.extracting(CitizenChangeEventEntity::getSequenceNumber)
+			.containsExactly(all.get(1).getSequenceNumber());
+	}
+}
@@ -0,0 +1,97 @@
+package se.sundsvall.citizen.integration.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
+
+import jakarta.persistence.EntityManagerFactory;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.citizen.configuration.CacheConfiguration;
+import se.sundsvall.citizen.configuration.EntityCacheConfiguration;
+import se.sundsvall.citizen.integration.db.model.CitizenEntity;
+
+/**
+ * Runs the repository with the second-level cache turned on. The test data is written with SQL scripts that bypass
+ * Hibernate, so the cache is cleared before every test. The tests do not run in a transaction, so that every
+ * repository call has a session of its own. The context is closed after the tests, as the JCache cache manager of the
+ * regions is shared by the JVM.
+ *
+ * @see /src/test/resources/db/script/CitizenRepositoryTest.sql for data setup.
+ */
+@DataJpaTest(properties = {
+	"citizen.entity-cache.enabled=true",
+	"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = NONE)
+@Import({
+	CacheConfiguration.class, EntityCacheConfiguration.class
+})
+@ActiveProfiles("junit")
+@Transactional(propagation = NOT_SUPPORTED)
+@DirtiesContext
+@Sql(scripts = {
+	"/db/script/truncate.sql",
+	"/db/script/CitizenRepositoryTest.sql"
+})
+class CitizenRepositoryEntityCacheTest {
+
+	private static final UUID CITIZEN_1_ID = UUID.fromString("fb47e26c-1c27-11ee-be56-0242ac120002");
+
+	@Autowired
+	private CitizenRepository citizenRepository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		entityManagerFactory.getCache().evictAll();
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void findByIdFromCache() {
+		// Arrange
+		assertThat(citizenRepository.findById(CITIZEN_1_ID)).isPresent();
+		assertThat(statistics.getPrepareStatementCount()).isOne();
+		statistics.clear();
+
+		// Act
+		final var result = citizenRepository.findById(CITIZEN_1_ID);
+
+		// Assert
+		assertThat(result).isPresent();
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(statistics.getSecondLevelCacheHitCount()).isOne();
+	}
+
+	@Test
+	void findByIdAfterWrite() {
+		// Arrange
+		final var citizen = citizenRepository.findById(CITIZEN_1_ID).orElseThrow();
+		citizenRepository.saveAndFlush(citizen.withGivenname("Changed"));
+		statistics.clear();
+
+		// Act
+		final var result = citizenRepository.findById(CITIZEN_1_ID);
+
+		// Assert
+		assertThat(result).map(CitizenEntity::getGivenname).contains("Changed");
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+}
@@ -0,0 +1,96 @@
+package se.sundsvall.citizen.integration.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.citizen.configuration.CacheConfiguration;
+import se.sundsvall.citizen.service.mapper.CitizenMapper;
+
+/**
+ * Counts the SQL statements needed to read and map citizens with their addresses, to guard against N+1 queries.
+ *
+ * @see /src/test/resources/db/script/CitizenRepositoryTest.sql for data setup.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = NONE)
+@Import(CacheConfiguration.class)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/script/truncate.sql",
+	"/db/script/CitizenRepositoryTest.sql"
+})
+class CitizenRepositoryStatementCountTest {
+
+	private static final UUID CITIZEN_1_ID = UUID.fromString("fb47e26c-1c27-11ee-be56-0242ac120002");
+	private static final UUID CITIZEN_2_ID = UUID.fromString("c31d362e-1c27-11ee-be56-0242ac120002");
+	private static final OffsetDateTime BASE_TIME = OffsetDateTime.parse("2025-01-29T09:03:09Z");
+
+	@Autowired
+	private CitizenRepository citizenRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+
+	@BeforeEach
+	void setUp() {
+		entityManager.clear();
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+	}
+
+	@Test
+	void findAllWithAddressesByPersonIds() {
+		final var citizens = citizenRepository.findAllWithAddressesByPersonIds(List.of(CITIZEN_1_ID, CITIZEN_2_ID), true)
+			.stream()
+			.map(CitizenMapper::toCitizenExtended)
+			.toList();
+
+		assertThat(citizens).hasSize(2);
+		assertThat(citizens.stream().mapToInt(citizen -> citizen.getAddresses().size()).sum()).isEqualTo(3);
+		assertThat(statistics.getPrepareStatementCount()).isOne();
+	}
+
+	@Test
+	void findAllWithChangedAddressSince() {
+		final var citizens = citizenRepository.findAllWithChangedAddressSince(BASE_TIME.minusYears(1))
+			.stream()
+			.map(CitizenMapper::toCitizenWithChangedAddress)
+			.toList();
+
+		assertThat(citizens).isNotEmpty();
+		assertThat(statistics.getPrepareStatementCount()).isOne();
+	}
+
+	@Test
+	void findAllByIdUsesBatchFetchingForAddresses() {
+		final var citizens = citizenRepository.findAllById(List.of(CITIZEN_1_ID, CITIZEN_2_ID))
+			.stream()
+			.map(CitizenMapper::toCitizenExtended)
+			.toList();
+
+		assertThat(citizens).hasSize(2);
+		assertThat(citizens.stream().mapToInt(citizen -> citizen.getAddresses().size()).sum()).isEqualTo(3);
+		// One statement for the citizens and one for the addresses of both citizens
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+	}
+}
@@ -1,18 +1,26 @@
 package se.sundsvall.citizen.integration.db;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
 
 import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.citizen.configuration.CacheConfiguration;
 import se.sundsvall.citizen.integration.db.model.CitizenEntity;
+import se.sundsvall.citizen.integration.db.model.projection.CitizenKeyProjection;
 
 /**
  * Citizen repository tests.
@@ -21,6 +29,7 @@ import se.sundsvall.citizen.integration.db.model.CitizenEntity;
  */
 @DataJpaTest
 @AutoConfigureTestDatabase(replace = NONE)
+@Import(CacheConfiguration.class)
 @ActiveProfiles("junit")
 @Sql(scripts = {
 	"/db/script/truncate.sql",
@@ -28,8 +37,8 @@ import se.sundsvall.citizen.integration.db.model.CitizenEntity;
 })
 class CitizenRepositoryTest {
 
-	private static final String CITIZEN_1_ID = "fb47e26c-1c27-11ee-be56-0242ac120002";
-	private static final String CITIZEN_2_ID = "c31d362e-1c27-11ee-be56-0242ac120002";
+	private static final UUID CITIZEN_1_ID = UUID.fromString("fb47e26c-1c27-11ee-be56-0242ac120002");
+	private static final UUID CITIZEN_2_ID = UUID.fromString("c31d362e-1c27-11ee-be56-0242ac120002");
 	private static final String PERSONAL_NUMBER_1 = "19800101-1234";
 	private static final String PERSONAL_NUMBER_2 = "19800102-5678";
 	private static final OffsetDateTime BASE_TIME = OffsetDateTime.parse("2025-01-29T09:03:09Z");
@@ -52,7 +61,7 @@ class CitizenRepositoryTest {
 
 	@Test
 	void findById_NotFound() {
-		final var result = citizenRepository.findById("non-existent-id");
+		final var result = citizenRepository.findById(UUID.randomUUID());
 
 		assertThat(result).isNotPresent();
 	}
@@ -76,6 +85,49 @@ class CitizenRepositoryTest {
 		assertThat(result).isNotPresent();
 	}
 
+	@Test
+	void findAllByPersonalNumberIn() {
+		final var result = citizenRepository.findAllByPersonalNumberIn(List.of(PERSONAL_NUMBER_1, "non-existent-number"));
+
+		assertThat(result)
+			.hasSize(1)
+			.first()
+			.satisfies(projection -> {
+				assertThat(projection.getPersonId()).isEqualTo(CITIZEN_1_ID);
+				assertThat(projection.getPersonalNumber()).isEqualTo(PERSONAL_NUMBER_1);
+			});
+	}
+
+	@Test
+	void findPersonIdByPersonalNumber() {
+		final var result = citizenRepository.findPersonIdByPersonalNumber(PERSONAL_NUMBER_1);
+
+		assertThat(result).hasValueSatisfying(citizen -> {
+			assertThat(citizen.getPersonId()).isEqualTo(CITIZEN_1_ID);
+			assertThat(citizen.getPersonalNumber()).isEqualTo(PERSONAL_NUMBER_1);
+		});
+	}
+
+	@Test
+	void findPersonIdByPersonalNumber_NotFound() {
+		assertThat(citizenRepository.findPersonIdByPersonalNumber("19000101-0000")).isEmpty();
+	}
+
+	@Test
+	void findPersonalNumberByPersonId() {
+		final var result = citizenRepository.findPersonalNumberByPersonId(CITIZEN_1_ID);
+
+		assertThat(result).hasValueSatisfying(citizen -> {
+			assertThat(citizen.getPersonId()).isEqualTo(CITIZEN_1_ID);
+			assertThat(citizen.getPersonalNumber()).isEqualTo(PERSONAL_NUMBER_1);
+		});
+	}
+
+	@Test
+	void findPersonalNumberByPersonId_NotFound() {
+		assertThat(citizenRepository.findPersonalNumberByPersonId(UUID.randomUUID())).isEmpty();
+	}
+
 	@Test
 	void findAllByParameters_ShowClassified() {
 		final var pageable = PageRequest.of(0, 10, Sort.by("personId"));
@@ -95,6 +147,63 @@ class CitizenRepositoryTest {
 		assertThat(result.getContent()).isEmpty();
 	}
 
+	@Test
+	void findAllWithAddressesByPersonIds_ShowClassified() {
+		final var result = citizenRepository.findAllWithAddressesByPersonIds(List.of(CITIZEN_1_ID, CITIZEN_2_ID, UUID.randomUUID()), true);
+
+		assertThat(result)
+			.extracting(CitizenEntity::getPersonId)
+			.containsExactlyInAnyOrder(CITIZEN_1_ID, CITIZEN_2_ID);
+	}
+
+	@Test
+	void findAllWithAddressesByPersonIds_HideClassified() {
+		final var result = citizenRepository.findAllWithAddressesByPersonIds(List.of(CITIZEN_1_ID, CITIZEN_2_ID), false);
+
+		assertThat(result)
+			.extracting(CitizenEntity::getPersonId)
+			.containsExactly(CITIZEN_1_ID);
+	}
+
+	@Test
+	void findAllWithChangedAddressSince() {
+		final var result = citizenRepository.findAllWithChangedAddressSince(BASE_TIME.minusDays(1));
+
+		assertThat(result)
+			.extracting(CitizenEntity::getPersonId)
+			.containsExactly(CITIZEN_2_ID, CITIZEN_1_ID);
+		assertThat(result.get(1).getAddresses()).hasSize(2);
+	}
+
+	@Test
+	void findAllWithChangedAddressSince_NoResults() {
+		assertThat(citizenRepository.findAllWithChangedAddressSince(BASE_TIME.plusDays(1))).isEmpty();
+	}
+
+	@Test
+	void findKeysWithChangedAddressSince() {
+		final var firstPage = citizenRepository.findKeysWithChangedAddressSince(BASE_TIME.minusDays(1), PageRequest.ofSize(1));
+
+		assertThat(firstPage)
+			.extracting(CitizenKeyProjection::getPersonId)
+			.containsExactly(CITIZEN_2_ID);
+
+		final var last = firstPage.get(0);
+		final var secondPage = citizenRepository.findKeysWithChangedAddressSinceAfter(BASE_TIME.minusDays(1), last.getUpdatedAt(), last.getPersonId(), PageRequest.ofSize(1));
+
+		assertThat(secondPage)
+			.extracting(CitizenKeyProjection::getPersonId)
+			.containsExactly(CITIZEN_1_ID);
+
+		final var next = secondPage.get(0);
+		assertThat(citizenRepository.findKeysWithChangedAddressSinceAfter(BASE_TIME.minusDays(1), next.getUpdatedAt(), next.getPersonId(), PageRequest.ofSize(1))).isEmpty();
+	}
+
+	@Test
+	void findKeysWithChangedAddressSince_NoResults() {
+		assertThat(citizenRepository.findKeysWithChangedAddressSince(BASE_TIME.plusDays(1), PageRequest.ofSize(10))).isEmpty();
+	}
+
 	@Test
 	void save() {
 		final var citizenEntity = CitizenEntity.create()
@@ -106,6 +215,7 @@ class CitizenRepositoryTest {
 		final var savedEntity = citizenRepository.save(citizenEntity);
 
 		assertThat(savedEntity.getPersonId()).isNotNull();
+		assertThat(savedEntity.getPersonId().version()).isEqualTo(7);
 		assertThat(savedEntity.getPersonalNumber()).isEqualTo("20000101-1234");
 		assertThat(savedEntity.getGivenname()).isEqualTo("Test");
 		assertThat(savedEntity.getLastname()).isEqualTo("Testsson");
@@ -114,4 +224,44 @@ class CitizenRepositoryTest {
 		final var retrievedEntity = citizenRepository.findById(savedEntity.getPersonId());
 		assertThat(retrievedEntity).isPresent();
 	}
+
+	@Test
+	void saveAndFlush_DuplicatePersonalNumber() {
+		final var citizenEntity = CitizenEntity.create()
+			.withPersonalNumber(PERSONAL_NUMBER_1);
+
+		// CitizenService relies on the error code and the key name to answer with 409 Conflict
+		assertThatThrownBy(() -> citizenRepository.saveAndFlush(citizenEntity))
+			.isInstanceOf(DataIntegrityViolationException.class)
+			.cause()
+			.isInstanceOfSatisfying(ConstraintViolationException.class, violation -> {
+				assertThat(violation.getErrorCode()).isEqualTo(1062);
+				assertThat(violation.getConstraintName()).contains("personal_number");
+			});
+	}
+
+	@Test
+	void saveAndFlush_SetsClassifiedFlag() {
+		final var citizenEntity = citizenRepository.saveAndFlush(CitizenEntity.create()
+			.withPersonalNumber("19800103-1234")
+			.withClassified("CLASSIFIED"));
+
+		assertThat(citizenEntity.isClassifiedFlag()).isTrue();
+		assertThat(citizenRepository.findAllWithAddressesByPersonIds(List.of(citizenEntity.getPersonId()), false)).isEmpty();
+		assertThat(citizenRepository.findAllWithAddressesByPersonIds(List.of(citizenEntity.getPersonId()), true))
+			.extracting(CitizenEntity::getPersonId)
+			.containsExactly(citizenEntity.getPersonId());
+	}
+
+	@Test
+	void saveAndFlush_ClearsClassifiedFlag() {
+		final var citizenEntity = citizenRepository.findById(CITIZEN_2_ID).orElseThrow();
+		assertThat(citizenEntity.isClassifiedFlag()).isTrue();
+
+		citizenRepository.saveAndFlush(citizenEntity.withClassified(null));
+
+		assertThat(citizenRepository.findAllWithAddressesByPersonIds(List.of(CITIZEN_2_ID), false))
+			.extracting(CitizenEntity::getPersonId)
+			.containsExactly(CITIZEN_2_ID);
+	}
 }
@@ -0,0 +1,43 @@
+package se.sundsvall.citizen.integration.db.generator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidGeneratorTest {
+
+	@Test
+	void generate() {
+		// Act
+		final var result = TimeOrderedUuidGenerator.generate();
+
+		// Assert
+		assertThat(result.version()).isEqualTo(7);
+		assertThat(result.variant()).isEqualTo(2);
+	}
+
+	@Test
+	void generateIsOrderedByTime() throws InterruptedException {
+		// Arrange
+		final var first = TimeOrderedUuidGenerator.generate();
+		Thread.sleep(2);
+
+		// Act
+		final var second = TimeOrderedUuidGenerator.generate();
+
+		// Assert
+		assertThat(Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits())).isNegative();
+	}
+
+	@Test
+	void generateIsUnique() {
+		// Act
+		final var result = IntStream.range(0, 10_000)
+			.mapToObj(i -> TimeOrderedUuidGenerator.generate())
+			.toList();
+
+		// Assert
+		assertThat(result).doesNotHaveDuplicates();
+	}
+}
@@ -0,0 +1,84 @@
+package se.sundsvall.citizen.integration.db.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.citizen.configuration.CacheConfiguration.CITIZEN_CACHE;
+import static se.sundsvall.citizen.configuration.CacheConfiguration.CITIZEN_EVICTIONS_CACHE;
+
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import se.sundsvall.citizen.integration.db.model.CitizenAddressEntity;
+import se.sundsvall.citizen.integration.db.model.CitizenEntity;
+import se.sundsvall.citizen.integration.db.model.CustodyChildrenPupilEntity;
+
+@ExtendWith(MockitoExtension.class)
+class CitizenCacheEvictionListenerTest {
+
+	private static final UUID PERSON_ID = UUID.randomUUID();
+
+	private final ConcurrentMapCache cache = new ConcurrentMapCache(CITIZEN_CACHE);
+
+	@Mock
+	private CacheManager cacheManagerMock;
+
+	@InjectMocks
+	private CitizenCacheEvictionListener listener;
+
+	@BeforeEach
+	void setup() {
+		cache.put(PERSON_ID, "cachedCitizen");
+	}
+
+	@Test
+	void onWriteCitizen() {
+		when(cacheManagerMock.getCache(CITIZEN_CACHE)).thenReturn(cache);
+
+		listener.onWrite(CitizenEntity.create().withPersonId(PERSON_ID));
+
+		assertThat(cache.get(PERSON_ID)).isNull();
+	}
+
+	@Test
+	void onWriteCitizenRecordsEviction() {
+		final var evictions = new ConcurrentMapCache(CITIZEN_EVICTIONS_CACHE);
+		when(cacheManagerMock.getCache(CITIZEN_CACHE)).thenReturn(cache);
+		when(cacheManagerMock.getCache(CITIZEN_EVICTIONS_CACHE)).thenReturn(evictions);
+
+		listener.onWrite(CitizenEntity.create().withPersonId(PERSON_ID));
+
+		assertThat(cache.get(PERSON_ID)).isNull();
+		assertThat(evictions.get(PERSON_ID)).isNotNull();
+	}
+
+	@Test
+	void onWriteAddress() {
+		when(cacheManagerMock.getCache(CITIZEN_CACHE)).thenReturn(cache);
+
+		listener.onWrite(CitizenAddressEntity.create().withCitizen(CitizenEntity.create().withPersonId(PERSON_ID)));
+
+		assertThat(cache.get(PERSON_ID)).isNull();
+	}
+
+	@Test
+	void onWriteOtherCitizen() {
+		when(cacheManagerMock.getCache(CITIZEN_CACHE)).thenReturn(cache);
+
+		listener.onWrite(CitizenEntity.create().withPersonId(UUID.randomUUID()));
+
+		assertThat(cache.get(PERSON_ID)).isNotNull();
+	}
+
+	@Test
+	void onWriteUnrelatedEntity() {
+		listener.onWrite(CustodyChildrenPupilEntity.create());
+
+		assertThat(cache.get(PERSON_ID)).isNotNull();
+	}
+}
@@ -0,0 +1,178 @@
+package se.sundsvall.citizen.integration.db.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import jakarta.persistence.EntityManager;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.ActionQueue;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import se.sundsvall.citizen.integration.db.model.CitizenAddressEntity;
+import se.sundsvall.citizen.integration.db.model.CitizenEntity;
+import se.sundsvall.citizen.integration.db.model.CustodyChildrenPupilEntity;
+
+@ExtendWith(MockitoExtension.class)
+class CitizenChangeEventListenerTest {
+
+	private static final UUID PERSON_ID = UUID.randomUUID();
+	private static final byte[] PERSON_ID_BYTES = ByteBuffer.allocate(16)
+		.putLong(PERSON_ID.getMostSignificantBits())
+		.putLong(PERSON_ID.getLeastSignificantBits())
+		.array();
+
+	@Mock
+	private JdbcTemplate jdbcTemplateMock;
+
+	@Mock
+	private EntityManager entityManagerMock;
+
+	@Mock
+	private SessionImplementor sessionMock;
+
+	@Mock
+	private ActionQueue actionQueueMock;
+
+	@Captor
+	private ArgumentCaptor<BeforeTransactionCompletionProcess> beforeCompletionCaptor;
+
+	@Captor
+	private ArgumentCaptor<AfterTransactionCompletionProcess> afterCompletionCaptor;
+
+	@Captor
+	private ArgumentCaptor<List<Object[]>> eventsCaptor;
+
+	private CitizenChangeEventListener listener;
+
+	@BeforeEach
+	void setUp() {
+		// Created here, as the session mock is an entity manager as well
+		listener = new CitizenChangeEventListener(jdbcTemplateMock, entityManagerMock);
+		lenient().when(entityManagerMock.unwrap(SessionImplementor.class)).thenReturn(sessionMock);
+		lenient().when(sessionMock.isTransactionInProgress()).thenReturn(true);
+		lenient().when(sessionMock.getActionQueue()).thenReturn(actionQueueMock);
+	}
+
+	@Test
+	void onPersistCitizen() {
+		listener.onPersist(CitizenEntity.create().withPersonId(PERSON_ID));
+
+		assertThat(completeTransaction()).singleElement().isEqualTo(new Object[] {
+			PERSON_ID_BYTES, "CITIZEN", "CREATED"
+		});
+	}
+
+	@Test
+	void onUpdateCitizen() {
+		listener.onUpdate(CitizenEntity.create().withPersonId(PERSON_ID));
+
+		assertThat(completeTransaction()).singleElement().isEqualTo(new Object[] {
+			PERSON_ID_BYTES, "CITIZEN", "UPDATED"
+		});
+	}
+
+	@Test
+	void onPersistAddress() {
+		listener.onPersist(CitizenAddressEntity.create().withCitizen(CitizenEntity.create().withPersonId(PERSON_ID)));
+
+		assertThat(completeTransaction()).singleElement().isEqualTo(new Object[] {
+			PERSON_ID_BYTES, "ADDRESS", "CREATED"
+		});
+	}
+
+	@Test
+	void onUpdateAddress() {
+		listener.onUpdate(CitizenAddressEntity.create().withCitizen(CitizenEntity.create().withPersonId(PERSON_ID)));
+
+		assertThat(completeTransaction()).singleElement().isEqualTo(new Object[] {
+			PERSON_ID_BYTES, "ADDRESS", "UPDATED"
+		});
+	}
+
+	@Test
+	void eventsOfTransactionAreInsertedInOneBatch() {
+		// Act
+		listener.onPersist(CitizenEntity.create().withPersonId(PERSON_ID));
+		listener.onPersist(CitizenAddressEntity.create().withCitizen(CitizenEntity.create().withPersonId(PERSON_ID)));
+		listener.onUpdate(CitizenAddressEntity.create().withCitizen(CitizenEntity.create().withPersonId(PERSON_ID)));
+
+		// Assert
+		verify(actionQueueMock).registerProcess(any(BeforeTransactionCompletionProcess.class));
+		verify(actionQueueMock).registerProcess(any(AfterTransactionCompletionProcess.class));
+		verifyNoInteractions(jdbcTemplateMock);
+		assertThat(completeTransaction())
+			.extracting(event -> event[1] + " " + event[2])
+			.containsExactly("CITIZEN CREATED", "ADDRESS CREATED", "ADDRESS UPDATED");
+	}
+
+	@Test
+	void eventsOfRolledBackTransactionAreDropped() {
+		// Arrange
+		listener.onPersist(CitizenEntity.create().withPersonId(PERSON_ID));
+		verify(actionQueueMock).registerProcess(afterCompletionCaptor.capture());
+
+		// Act
+		afterCompletionCaptor.getValue().doAfterTransactionCompletion(false, sessionMock);
+		listener.onPersist(CitizenEntity.create().withPersonId(PERSON_ID));
+
+		// Assert
+		verify(actionQueueMock, times(2)).registerProcess(beforeCompletionCaptor.capture());
+		beforeCompletionCaptor.getAllValues().getLast().doBeforeTransactionCompletion(sessionMock);
+		verify(jdbcTemplateMock).batchUpdate(anyString(), eventsCaptor.capture());
+		assertThat(eventsCaptor.getValue()).hasSize(1);
+	}
+
+	@Test
+	void onPersistWithoutTransaction() {
+		when(sessionMock.isTransactionInProgress()).thenReturn(false);
+
+		listener.onPersist(CitizenEntity.create().withPersonId(PERSON_ID));
+
+		verify(jdbcTemplateMock).update(anyString(), eq(PERSON_ID_BYTES), eq("CITIZEN"), eq("CREATED"));
+		verifyNoInteractions(actionQueueMock);
+	}
+
+	@Test
+	void onPersistAddressWithoutCitizen() {
+		listener.onPersist(CitizenAddressEntity.create());
+
+		verifyNoInteractions(jdbcTemplateMock, entityManagerMock);
+	}
+
+	@Test
+	void onPersistUnrelatedEntity() {
+		listener.onPersist(CustodyChildrenPupilEntity.create());
+
+		verifyNoInteractions(jdbcTemplateMock, entityManagerMock);
+	}
+
+	/**
+	 * Runs the before completion process registered by the listener, as Hibernate does on commit.
+	 *
+	 * @return the events inserted by the process
+	 */
+	private List<Object[]> completeTransaction() {
+		verify(actionQueueMock).registerProcess(beforeCompletionCaptor.capture());
+		beforeCompletionCaptor.getValue().doBeforeTransactionCompletion(sessionMock);
+		verify(jdbcTemplateMock).batchUpdate(anyString(), eventsCaptor.capture());
+		return eventsCaptor.getValue();
+	}
+}
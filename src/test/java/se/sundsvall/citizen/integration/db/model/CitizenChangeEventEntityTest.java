@@ -0,0 +1,65 @@
+package se.sundsvall.citizen.integration.db.model;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.AllOf.allOf;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity.ChangeType;
+import se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity.EntityType;
+
+class CitizenChangeEventEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(CitizenChangeEventEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+		final var sequenceNumber = 4711L;
+		final var personId = UUID.randomUUID();
+		final var createdAt = OffsetDateTime.now();
+
+		final var entity = CitizenChangeEventEntity.create()
+			.withSequenceNumber(sequenceNumber)
+			.withPersonId(personId)
+			.withEntityType(EntityType.ADDRESS)
+			.withChangeType(ChangeType.UPDATED)
+			.withCreatedAt(createdAt);
+
+		assertThat(entity).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(entity.getSequenceNumber()).isEqualTo(sequenceNumber);
+		assertThat(entity.getPersonId()).isEqualTo(personId);
+		assertThat(entity.getEntityType()).isEqualTo(EntityType.ADDRESS);
+		assertThat(entity.getChangeType()).isEqualTo(ChangeType.UPDATED);
+		assertThat(entity.getCreatedAt()).isEqualTo(createdAt);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(CitizenChangeEventEntity.create()).hasAllNullFieldsOrProperties();
+		assertThat(new CitizenChangeEventEntity()).hasAllNullFieldsOrProperties();
+	}
+}
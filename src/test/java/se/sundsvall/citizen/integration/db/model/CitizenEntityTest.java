@@ -1,10 +1,10 @@
 package se.sundsvall.citizen.integration.db.model;
 
 import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
-import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
-import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
-import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
-import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEqualsExcluding;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCodeExcluding;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToStringExcluding;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSettersExcluding;
 import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
 import static java.time.OffsetDateTime.now;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -27,17 +27,18 @@ class CitizenEntityTest {
 
 	@Test
 	void testBean() {
+		// The classified flag is generated by the database and has no setter
 		assertThat(CitizenEntity.class, allOf(
 			hasValidBeanConstructor(),
-			hasValidGettersAndSetters(),
-			hasValidBeanHashCode(),
-			hasValidBeanEquals(),
-			hasValidBeanToString()));
+			hasValidGettersAndSettersExcluding("classifiedFlag"),
+			hasValidBeanHashCodeExcluding("classifiedFlag"),
+			hasValidBeanEqualsExcluding("classifiedFlag"),
+			hasValidBeanToStringExcluding("classifiedFlag")));
 	}
 
 	@Test
 	void testBuilderMethods() {
-		final var personId = UUID.randomUUID().toString();
+		final var personId = UUID.randomUUID();
 		final var personalNumber = "personalNumber";
 		final var givenname = "givenname";
 		final var lastname = "lastname";
@@ -75,6 +76,7 @@ class CitizenEntityTest {
 		assertThat(entity.getCivilStatus()).isEqualTo(civilStatus);
 		assertThat(entity.getNrDate()).isEqualTo(nrDate);
 		assertThat(entity.getClassified()).isEqualTo(classified);
+		assertThat(entity.isClassifiedFlag()).isTrue();
 		assertThat(entity.getProtectedNr()).isEqualTo(protectedNr);
 		assertThat(entity.getCreatedAt()).isEqualTo(createdAt);
 		assertThat(entity.getUpdatedAt()).isEqualTo(updatedAt);
@@ -82,12 +84,23 @@ class CitizenEntityTest {
 		assertThat(entity.getCustodyChildren()).isEqualTo(custodyChildren);
 	}
 
+	@Test
+	void testClassifiedFlagFollowsClassified() {
+		final var entity = CitizenEntity.create().withClassified("classified");
+		assertThat(entity.isClassifiedFlag()).isTrue();
+
+		entity.setClassified(null);
+		assertThat(entity.isClassifiedFlag()).isFalse();
+	}
+
 	@Test
 	void testNoDirtOnCreatedBean() {
 		assertThat(CitizenEntity.create())
-			.hasAllNullFieldsOrPropertiesExcept("addresses", "custodyChildren");
+			.hasAllNullFieldsOrPropertiesExcept("addresses", "custodyChildren", "classifiedFlag")
+			.extracting(CitizenEntity::isClassifiedFlag).isEqualTo(false);
 		assertThat(new CitizenEntity())
-			.hasAllNullFieldsOrPropertiesExcept("addresses", "custodyChildren");
+			.hasAllNullFieldsOrPropertiesExcept("addresses", "custodyChildren", "classifiedFlag")
+			.extracting(CitizenEntity::isClassifiedFlag).isEqualTo(false);
 	}
 
 }
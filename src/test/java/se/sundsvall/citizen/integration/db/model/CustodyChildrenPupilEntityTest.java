@@ -23,7 +23,7 @@ class CustodyChildrenPupilEntityTest {
 		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
 		registerValueGenerator(() -> {
 			var citizen = new CitizenEntity();
-			citizen.setPersonId(UUID.randomUUID().toString());
+			citizen.setPersonId(UUID.randomUUID());
 			return citizen;
 		}, CitizenEntity.class);
 	}
@@ -42,7 +42,7 @@ class CustodyChildrenPupilEntityTest {
 		// Specific test for toString behavior
 		var entity = CustodyChildrenPupilEntity.create()
 			.withId("testId")
-			.withCitizen(CitizenEntity.create().withPersonId("citizenId"))
+			.withCitizen(CitizenEntity.create().withPersonId(UUID.fromString("fb47e26c-1c27-11ee-be56-0242ac120002")))
 			.withPersonnumber("12345")
 			.withTypeOfSchool("school")
 			.withUnRegCode("code")
@@ -50,7 +50,7 @@ class CustodyChildrenPupilEntityTest {
 			.withCreatedAt(OffsetDateTime.parse("2025-01-29T10:18:33Z"))
 			.withUpdatedAt(OffsetDateTime.parse("2025-01-29T10:18:33Z"));
 
-		String expected = "CustodyChildrenPupilEntity [id=testId, citizen=citizenId, " +
+		String expected = "CustodyChildrenPupilEntity [id=testId, citizen=fb47e26c-1c27-11ee-be56-0242ac120002, " +
 			"personnumber=12345, typeOfSchool=school, unRegCode=code, " +
 			"unRegDate=2025-01-29T10:18:33Z, createdAt=2025-01-29T10:18:33Z, " +
 			"updatedAt=2025-01-29T10:18:33Z]";
@@ -0,0 +1,98 @@
+package se.sundsvall.citizen.integration.party;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import se.sundsvall.citizen.integration.party.configuration.PartyIntegrationProperties;
+
+class AdaptiveConcurrencyLimiterTest {
+
+	private static final Duration LATENCY_THRESHOLD = Duration.ofSeconds(1);
+	private static final long FAST = Duration.ofMillis(10).toNanos();
+	private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+	private static AdaptiveConcurrencyLimiter limiter(final int initialLimit, final int minLimit, final int maxLimit) {
+		return new AdaptiveConcurrencyLimiter(new PartyIntegrationProperties.Limiter(initialLimit, minLimit, maxLimit, 0.5, LATENCY_THRESHOLD));
+	}
+
+	@Test
+	void tryAcquireRejectsAboveLimit() {
+		// Arrange
+		final var limiter = limiter(2, 1, 10);
+
+		// Act & Assert
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.tryAcquire()).isFalse();
+		assertThat(limiter.getInFlight()).isEqualTo(2);
+
+		limiter.onIgnored();
+		assertThat(limiter.tryAcquire()).isTrue();
+		assertThat(limiter.getLimit()).isEqualTo(2);
+	}
+
+	@Test
+	void onSuccessIncreasesLimitWhenInUse() {
+		// Arrange
+		final var limiter = limiter(2, 1, 3);
+
+		// Act
+		limiter.tryAcquire();
+		limiter.onSuccess(FAST);
+		limiter.tryAcquire();
+		limiter.onSuccess(FAST);
+
+		// Assert
+		assertThat(limiter.getLimit()).isEqualTo(3);
+		assertThat(limiter.getInFlight()).isZero();
+	}
+
+	@Test
+	void onSuccessKeepsLimitWhenMostlyUnused() {
+		// Arrange
+		final var limiter = limiter(8, 1, 10);
+
+		// Act
+		limiter.tryAcquire();
+		limiter.onSuccess(FAST);
+
+		// Assert
+		assertThat(limiter.getLimit()).isEqualTo(8);
+	}
+
+	@Test
+	void onSuccessDecreasesLimitWhenSlow() {
+		// Arrange
+		final var limiter = limiter(8, 1, 10);
+
+		// Act
+		limiter.tryAcquire();
+		limiter.onSuccess(SLOW);
+
+		// Assert
+		assertThat(limiter.getLimit()).isEqualTo(4);
+	}
+
+	@Test
+	void onDroppedDecreasesLimitDownToMinimum() {
+		// Arrange
+		final var limiter = limiter(8, 3, 10);
+
+		// Act
+		for (int i = 0; i < 3; i++) {
+			limiter.tryAcquire();
+			limiter.onDropped();
+		}
+
+		// Assert
+		assertThat(limiter.getLimit()).isEqualTo(3);
+		assertThat(limiter.getInFlight()).isZero();
+	}
+
+	@Test
+	void initialLimitIsBounded() {
+		assertThat(limiter(20, 1, 10).getLimit()).isEqualTo(10);
+		assertThat(limiter(1, 2, 10).getLimit()).isEqualTo(2);
+	}
+}
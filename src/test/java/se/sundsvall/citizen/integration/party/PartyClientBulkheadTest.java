@@ -0,0 +1,87 @@
+package se.sundsvall.citizen.integration.party;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static se.sundsvall.citizen.integration.party.configuration.PartyIntegrationConfiguration.INTEGRATION_NAME;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.springboot3.bulkhead.autoconfigure.BulkheadAutoConfiguration;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Verifies that the {@code @Bulkhead} annotation of {@link PartyClient} is applied, by calling a client that behaves
+ * like the Feign proxy through the bulkhead aspect of resilience4j.
+ */
+@SpringBootTest(classes = PartyClientBulkheadTest.BulkheadTestConfiguration.class, webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+	"resilience4j.bulkhead.instances.Party.max-concurrent-calls=1",
+	"resilience4j.bulkhead.instances.Party.max-wait-duration=0"
+})
+class PartyClientBulkheadTest {
+
+	private static final CountDownLatch CALL_STARTED = new CountDownLatch(1);
+	private static final CountDownLatch RELEASE_CALL = new CountDownLatch(1);
+
+	@Autowired
+	private PartyClient partyClient;
+
+	@Autowired
+	private BulkheadRegistry bulkheadRegistry;
+
+	@SpringBootConfiguration
+	@ImportAutoConfiguration({
+		AopAutoConfiguration.class, BulkheadAutoConfiguration.class
+	})
+	static class BulkheadTestConfiguration {
+
+		@Bean
+		PartyClient partyClient() {
+			// A JDK proxy of the interface, like the one Feign creates, that blocks until it is released
+			return (PartyClient) Proxy.newProxyInstance(PartyClient.class.getClassLoader(), new Class<?>[] {
+				PartyClient.class
+			}, (proxy, method, args) -> {
+				return switch (method.getName()) {
+					case "getPartyId" -> {
+						CALL_STARTED.countDown();
+						RELEASE_CALL.await(10, TimeUnit.SECONDS);
+						yield Optional.of("partyId");
+					}
+					case "equals" -> proxy == args[0];
+					case "hashCode" -> System.identityHashCode(proxy);
+					default -> PartyClient.class.getSimpleName();
+				};
+			});
+		}
+	}
+
+	@Test
+	void callIsRejectedWhenBulkheadIsFull() throws Exception {
+		// Arrange
+		try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			final var blockingCall = executor.submit(() -> partyClient.getPartyId("198001011234", "2281", "PRIVATE"));
+			assertThat(CALL_STARTED.await(10, TimeUnit.SECONDS)).isTrue();
+
+			// Act
+			final var exception = assertThrows(BulkheadFullException.class, () -> partyClient.getPartyId("198001021234", "2281", "PRIVATE"));
+
+			// Assert
+			assertThat(exception.getMessage()).contains(INTEGRATION_NAME);
+			assertThat(bulkheadRegistry.bulkhead(INTEGRATION_NAME).getMetrics().getAvailableConcurrentCalls()).isZero();
+
+			RELEASE_CALL.countDown();
+			assertThat(blockingCall.get(10, TimeUnit.SECONDS)).contains("partyId");
+			assertThat(bulkheadRegistry.bulkhead(INTEGRATION_NAME).getMetrics().getAvailableConcurrentCalls()).isOne();
+		}
+	}
+}
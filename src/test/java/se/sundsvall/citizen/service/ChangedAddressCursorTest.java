@@ -0,0 +1,42 @@
+package se.sundsvall.citizen.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.zalando.problem.Status.BAD_REQUEST;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.zalando.problem.ThrowableProblem;
+
+class ChangedAddressCursorTest {
+
+	@Test
+	void encodeAndDecode() {
+		final var cursor = new ChangedAddressCursor(OffsetDateTime.parse("2025-01-29T09:32:35.123456+01:00"), UUID.fromString("fb47e26c-1c27-11ee-be56-0242ac120002"));
+
+		final var result = ChangedAddressCursor.decode(cursor.encode());
+
+		assertThat(result).isEqualTo(cursor);
+	}
+
+	@ParameterizedTest
+	@NullAndEmptySource
+	void decodeWithoutCursor(final String cursor) {
+		assertThat(ChangedAddressCursor.decode(cursor)).isNull();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"not-base-64!", "bm90LWEtY3Vyc29y"
+	})
+	void decodeInvalidCursor(final String cursor) {
+		final var exception = assertThrows(ThrowableProblem.class, () -> ChangedAddressCursor.decode(cursor));
+
+		assertThat(exception.getStatus()).isEqualTo(BAD_REQUEST);
+		assertThat(exception.getMessage()).contains("Invalid cursor");
+	}
+}
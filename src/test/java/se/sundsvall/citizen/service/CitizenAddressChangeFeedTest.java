@@ -0,0 +1,207 @@
+package se.sundsvall.citizen.service;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.zalando.problem.Status.SERVICE_UNAVAILABLE;
+import static se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity.ChangeType.UPDATED;
+import static se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity.EntityType.ADDRESS;
+import static se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity.EntityType.CITIZEN;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.zalando.problem.ThrowableProblem;
+import se.sundsvall.citizen.configuration.BatchProperties;
+import se.sundsvall.citizen.configuration.ChangeFeedProperties;
+import se.sundsvall.citizen.integration.db.CitizenRepository;
+import se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity;
+import se.sundsvall.citizen.integration.db.model.CitizenEntity;
+
+@ExtendWith(MockitoExtension.class)
+class CitizenAddressChangeFeedTest {
+
+	private static final int CHUNK_SIZE = 500;
+	private static final long VERIFY_TIMEOUT = 5_000;
+
+	@Mock
+	private CitizenChangeService citizenChangeServiceMock;
+
+	@Mock
+	private CitizenRepository citizenRepositoryMock;
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private CitizenAddressChangeFeed feed;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		feed = createFeed(1);
+		lenient().when(citizenChangeServiceMock.findVisibleChanges(anyLong(), anyInt())).thenReturn(Collections.emptyList());
+	}
+
+	@AfterEach
+	void tearDown() {
+		feed.shutdown();
+	}
+
+	private CitizenAddressChangeFeed createFeed(final int maxSubscribers) {
+		return new CitizenAddressChangeFeed(citizenChangeServiceMock, citizenRepositoryMock,
+			new ChangeFeedProperties(Duration.ofSeconds(30), Duration.ofMillis(10), Duration.ofSeconds(15), Duration.ofMinutes(30), maxSubscribers),
+			new BatchProperties(CHUNK_SIZE, 50, Duration.ofSeconds(5)), new ObjectMapper(), meterRegistry);
+	}
+
+	@Test
+	void subscribeResumesAfterLastEventId() {
+		// Arrange
+		final var personId = UUID.randomUUID();
+		when(citizenChangeServiceMock.findVisibleChanges(42L, CHUNK_SIZE)).thenReturn(List.of(
+			event(43L, personId, ADDRESS),
+			event(44L, UUID.randomUUID(), CITIZEN),
+			event(45L, personId, ADDRESS)));
+		when(citizenRepositoryMock.findAllWithAddressesByPersonIds(Set.of(personId), true))
+			.thenReturn(List.of(CitizenEntity.create().withPersonId(personId)));
+
+		// Act
+		final var emitter = feed.subscribe(42L);
+
+		// Assert
+		assertThat(emitter).isNotNull();
+		verify(citizenRepositoryMock, timeout(VERIFY_TIMEOUT)).findAllWithAddressesByPersonIds(Set.of(personId), true);
+		verify(citizenChangeServiceMock, timeout(VERIFY_TIMEOUT).atLeastOnce()).findVisibleChanges(45L, CHUNK_SIZE);
+		assertThat(meterRegistry.get("citizen.address.feed.subscribers").gauge().value()).isOne();
+	}
+
+	@Test
+	void subscribeWithoutLastEventIdStartsAtLatestChange() {
+		// Arrange
+		when(citizenChangeServiceMock.getLastSequence()).thenReturn(100L);
+
+		// Act
+		feed.subscribe(null);
+
+		// Assert
+		verify(citizenChangeServiceMock, timeout(VERIFY_TIMEOUT).atLeastOnce()).findVisibleChanges(100L, CHUNK_SIZE);
+	}
+
+	@Test
+	void subscribeWithOnlyCitizenChangesSendsNothing() {
+		// Arrange
+		when(citizenChangeServiceMock.findVisibleChanges(1L, CHUNK_SIZE)).thenReturn(List.of(event(2L, UUID.randomUUID(), CITIZEN)));
+
+		// Act
+		feed.subscribe(1L);
+
+		// Assert
+		verify(citizenChangeServiceMock, timeout(VERIFY_TIMEOUT).atLeastOnce()).findVisibleChanges(2L, CHUNK_SIZE);
+		verifyNoInteractions(citizenRepositoryMock);
+	}
+
+	@Test
+	void subscribersShareOnePoller() throws Exception {
+		// Arrange
+		feed.shutdown();
+		meterRegistry = new SimpleMeterRegistry();
+		feed = createFeed(2);
+		final var personId = UUID.randomUUID();
+		final var releaseRead = new CountDownLatch(1);
+		// The first read, made before the second subscriber is added, finds nothing
+		when(citizenChangeServiceMock.findVisibleChanges(42L, CHUNK_SIZE))
+			.thenAnswer(invocation -> {
+				releaseRead.await(VERIFY_TIMEOUT, MILLISECONDS);
+				return Collections.emptyList();
+			})
+			.thenReturn(List.of(event(43L, personId, ADDRESS)));
+		when(citizenRepositoryMock.findAllWithAddressesByPersonIds(Set.of(personId), true))
+			.thenReturn(List.of(CitizenEntity.create().withPersonId(personId)));
+
+		// Act
+		feed.subscribe(42L);
+		feed.subscribe(42L);
+		releaseRead.countDown();
+
+		// Assert
+		verify(citizenChangeServiceMock, timeout(VERIFY_TIMEOUT).atLeastOnce()).findVisibleChanges(43L, CHUNK_SIZE);
+		verify(citizenChangeServiceMock, times(2)).findVisibleChanges(42L, CHUNK_SIZE);
+		verify(citizenRepositoryMock).findAllWithAddressesByPersonIds(Set.of(personId), true);
+		assertThat(feed.getSubscriberCount()).isEqualTo(2);
+	}
+
+	@Test
+	void shutdownDoesNotInterruptRead() throws Exception {
+		// Arrange
+		final var readStarted = new CountDownLatch(1);
+		final var releaseRead = new CountDownLatch(1);
+		final var interrupted = new CompletableFuture<Boolean>();
+		when(citizenChangeServiceMock.findVisibleChanges(1L, CHUNK_SIZE)).thenAnswer(invocation -> {
+			readStarted.countDown();
+			releaseRead.await(VERIFY_TIMEOUT, MILLISECONDS);
+			interrupted.complete(Thread.currentThread().isInterrupted());
+			return Collections.emptyList();
+		});
+		feed.subscribe(1L);
+		assertThat(readStarted.await(VERIFY_TIMEOUT, MILLISECONDS)).isTrue();
+
+		// Act
+		feed.shutdown();
+		releaseRead.countDown();
+
+		// Assert
+		assertThat(interrupted.get(VERIFY_TIMEOUT, MILLISECONDS)).isFalse();
+		assertThat(feed.getSubscriberCount()).isZero();
+	}
+
+	@Test
+	void subscribeRejectedWhenTooManySubscribers() {
+		// Arrange
+		feed.subscribe(1L);
+
+		// Act & Assert
+		assertThatThrownBy(() -> feed.subscribe(1L))
+			.isInstanceOf(ThrowableProblem.class)
+			.satisfies(problem -> assertThat(((ThrowableProblem) problem).getStatus()).isEqualTo(SERVICE_UNAVAILABLE));
+		assertThat(feed.getSubscriberCount()).isOne();
+	}
+
+	@Test
+	void shutdownClosesSubscriptions() {
+		// Arrange
+		feed.subscribe(1L);
+
+		// Act
+		feed.shutdown();
+
+		// Assert
+		assertThat(feed.getSubscriberCount()).isZero();
+		assertThat(feed.subscribe(1L)).isNotNull();
+	}
+
+	private static CitizenChangeEventEntity event(final long sequenceNumber, final UUID personId, final CitizenChangeEventEntity.EntityType entityType) {
+		return CitizenChangeEventEntity.create()
+			.withSequenceNumber(sequenceNumber)
+			.withPersonId(personId)
+			.withEntityType(entityType)
+			.withChangeType(UPDATED);
+	}
+}
@@ -1,7 +1,6 @@
 package se.sundsvall.citizen.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -16,18 +15,16 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.jpa.domain.Specification;
 import se.sundsvall.citizen.api.model.CitizenWithChangedAddress;
-import se.sundsvall.citizen.integration.db.CitizenAddressRepository;
-import se.sundsvall.citizen.integration.db.model.CitizenAddressEntity;
-import se.sundsvall.citizen.integration.db.specification.CitizenAddressSpecification;
-import se.sundsvall.citizen.service.mapper.CitizenAddressMapper;
+import se.sundsvall.citizen.integration.db.CitizenRepository;
+import se.sundsvall.citizen.integration.db.model.CitizenEntity;
+import se.sundsvall.citizen.service.mapper.CitizenMapper;
 
 @ExtendWith(MockitoExtension.class)
 class CitizenAddressServiceTest {
 
 	@Mock
-	private CitizenAddressRepository citizenAddressRepositoryMock;
+	private CitizenRepository citizenRepositoryMock;
 
 	@InjectMocks
 	private CitizenAddressService citizenAddressService;
@@ -36,23 +33,17 @@ class CitizenAddressServiceTest {
 	void getCitizensWithChangedAddress() {
 		// Arrange
 		final var changedDateFrom = OffsetDateTime.parse("2025-01-29T08:52:05Z");
-		final var citizenAddressEntity = new CitizenAddressEntity();
+		final var citizenEntity = new CitizenEntity();
 		final var expectedCitizenWithChangedAddress = new CitizenWithChangedAddress();
 
-		try (MockedStatic<CitizenAddressSpecification> specMock = Mockito.mockStatic(CitizenAddressSpecification.class);
-			MockedStatic<CitizenAddressMapper> mapperMock = Mockito.mockStatic(CitizenAddressMapper.class)) {
+		// Mock the repository response
+		when(citizenRepositoryMock.findAllWithChangedAddressSince(changedDateFrom))
+			.thenReturn(List.of(citizenEntity));
 
-			// Mock the specification
-			Specification<CitizenAddressEntity> mockSpec = (root, query, cb) -> cb.conjunction();
-			specMock.when(() -> CitizenAddressSpecification.hasChangedAddressSince(changedDateFrom))
-				.thenReturn(mockSpec);
-
-			// Mock the repository response
-			when(citizenAddressRepositoryMock.findAll(any(Specification.class)))
-				.thenReturn(List.of(citizenAddressEntity));
+		try (MockedStatic<CitizenMapper> mapperMock = Mockito.mockStatic(CitizenMapper.class)) {
 
 			// Mock the mapper
-			mapperMock.when(() -> CitizenAddressMapper.toCitizenWithChangedAddress(any()))
+			mapperMock.when(() -> CitizenMapper.toCitizenWithChangedAddress(citizenEntity))
 				.thenReturn(expectedCitizenWithChangedAddress);
 
 			// Act
@@ -64,9 +55,8 @@ class CitizenAddressServiceTest {
 				.hasSize(1)
 				.containsExactly(expectedCitizenWithChangedAddress);
 
-			verify(citizenAddressRepositoryMock).findAll(any(Specification.class));
-			mapperMock.verify(() -> CitizenAddressMapper.toCitizenWithChangedAddress(same(citizenAddressEntity)));
-			specMock.verify(() -> CitizenAddressSpecification.hasChangedAddressSince(same(changedDateFrom)));
+			verify(citizenRepositoryMock).findAllWithChangedAddressSince(same(changedDateFrom));
+			mapperMock.verify(() -> CitizenMapper.toCitizenWithChangedAddress(same(citizenEntity)));
 		}
 	}
 
@@ -75,26 +65,18 @@ class CitizenAddressServiceTest {
 		// Arrange
 		final var changedDateFrom = OffsetDateTime.parse("2025-01-29T08:52:05Z");
 
-		try (MockedStatic<CitizenAddressSpecification> specMock = Mockito.mockStatic(CitizenAddressSpecification.class)) {
-			// Mock the specification
-			Specification<CitizenAddressEntity> mockSpec = (root, query, cb) -> cb.conjunction();
-			specMock.when(() -> CitizenAddressSpecification.hasChangedAddressSince(changedDateFrom))
-				.thenReturn(mockSpec);
-
-			// Mock the repository response
-			when(citizenAddressRepositoryMock.findAll(any(Specification.class)))
-				.thenReturn(Collections.emptyList());
+		// Mock the repository response
+		when(citizenRepositoryMock.findAllWithChangedAddressSince(changedDateFrom))
+			.thenReturn(Collections.emptyList());
 
-			// Act
-			final var result = citizenAddressService.getCitizensWithChangedAddress(changedDateFrom);
+		// Act
+		final var result = citizenAddressService.getCitizensWithChangedAddress(changedDateFrom);
 
-			// Assert
-			assertThat(result)
-				.isNotNull()
-				.isEmpty();
+		// Assert
+		assertThat(result)
+			.isNotNull()
+			.isEmpty();
 
-			verify(citizenAddressRepositoryMock).findAll(any(Specification.class));
-			specMock.verify(() -> CitizenAddressSpecification.hasChangedAddressSince(same(changedDateFrom)));
-		}
+		verify(citizenRepositoryMock).findAllWithChangedAddressSince(same(changedDateFrom));
 	}
 }
@@ -0,0 +1,172 @@
+package se.sundsvall.citizen.service;
+
+import static java.time.OffsetDateTime.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import se.sundsvall.citizen.api.model.CitizenChange;
+import se.sundsvall.citizen.configuration.ChangeFeedProperties;
+import se.sundsvall.citizen.integration.db.CitizenChangeEventRepository;
+import se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity;
+import se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity.ChangeType;
+import se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity.EntityType;
+
+@ExtendWith(MockitoExtension.class)
+class CitizenChangeServiceTest {
+
+	private static final Duration GAP_TIMEOUT = Duration.ofMillis(200);
+
+	@Mock
+	private CitizenChangeEventRepository changeEventRepositoryMock;
+
+	private CitizenChangeService citizenChangeService;
+
+	@BeforeEach
+	void setUp() {
+		citizenChangeService = new CitizenChangeService(changeEventRepositoryMock, new ChangeFeedProperties(GAP_TIMEOUT, Duration.ofSeconds(1), Duration.ofSeconds(15), Duration.ofMinutes(30), 100));
+	}
+
+	@Test
+	void getChanges() {
+		// Arrange
+		final var personId = UUID.randomUUID();
+		final var createdAt = now().minusMinutes(1);
+		when(changeEventRepositoryMock.findChangesAfter(10L, PageRequest.ofSize(2))).thenReturn(List.of(
+			event(11L, personId).withCreatedAt(createdAt),
+			event(12L, personId).withCreatedAt(createdAt)));
+
+		// Act
+		final var result = citizenChangeService.getChanges(10L, 2);
+
+		// Assert
+		assertThat(result.getChanges()).extracting(CitizenChange::getSequence).containsExactly(11L, 12L);
+		assertThat(result.getChanges()).allSatisfy(change -> {
+			assertThat(change.getPersonId()).isEqualTo(personId);
+			assertThat(change.getEntityType()).isEqualTo("ADDRESS");
+			assertThat(change.getChangeType()).isEqualTo("UPDATED");
+			assertThat(change.getChangedAt()).isEqualTo(createdAt);
+		});
+		assertThat(result.getLastSequence()).isEqualTo(12L);
+		assertThat(result.getMetaData().getLimit()).isEqualTo(2);
+		assertThat(result.getMetaData().getCount()).isEqualTo(2);
+		verify(changeEventRepositoryMock).findChangesAfter(10L, PageRequest.ofSize(2));
+		verifyNoMoreInteractions(changeEventRepositoryMock);
+	}
+
+	@Test
+	void getChanges_HoldsBackChangesAfterGap() {
+		// Arrange
+		final var personId = UUID.randomUUID();
+		when(changeEventRepositoryMock.findChangesAfter(10L, PageRequest.ofSize(100))).thenReturn(List.of(
+			event(11L, personId),
+			event(13L, personId),
+			event(14L, personId)));
+
+		// Act
+		final var result = citizenChangeService.getChanges(10L, 100);
+
+		// Assert
+		assertThat(result.getChanges()).extracting(CitizenChange::getSequence).containsExactly(11L);
+		assertThat(result.getLastSequence()).isEqualTo(11L);
+	}
+
+	@Test
+	void getChanges_NoChanges() {
+		// Arrange
+		when(changeEventRepositoryMock.findChangesAfter(10L, PageRequest.ofSize(100))).thenReturn(Collections.emptyList());
+
+		// Act
+		final var result = citizenChangeService.getChanges(10L, 100);
+
+		// Assert
+		assertThat(result.getChanges()).isEmpty();
+		assertThat(result.getLastSequence()).isEqualTo(10L);
+		assertThat(result.getMetaData().getCount()).isZero();
+	}
+
+	@Test
+	void getLastSequence() {
+		// Arrange
+		when(changeEventRepositoryMock.findFirstByOrderBySequenceNumberDesc())
+			.thenReturn(Optional.of(CitizenChangeEventEntity.create().withSequenceNumber(4711L)));
+
+		// Act & Assert
+		assertThat(citizenChangeService.getLastSequence()).isEqualTo(4711L);
+	}
+
+	@Test
+	void getLastSequence_NoChanges() {
+		// Arrange
+		when(changeEventRepositoryMock.findFirstByOrderBySequenceNumberDesc()).thenReturn(Optional.empty());
+
+		// Act & Assert
+		assertThat(citizenChangeService.getLastSequence()).isZero();
+	}
+
+	@Test
+	void findVisibleChanges() {
+		// Arrange
+		final var personId = UUID.randomUUID();
+		when(changeEventRepositoryMock.findChangesAfter(10L, PageRequest.ofSize(100))).thenReturn(List.of(
+			event(11L, personId),
+			event(12L, personId)));
+
+		// Act
+		final var result = citizenChangeService.findVisibleChanges(10L, 100);
+
+		// Assert
+		assertThat(result).extracting(CitizenChangeEventEntity::getSequenceNumber).containsExactly(11L, 12L);
+	}
+
+	@Test
+	void findVisibleChanges_FirstChangeMissing() {
+		// Arrange
+		when(changeEventRepositoryMock.findChangesAfter(10L, PageRequest.ofSize(100))).thenReturn(List.of(event(12L, UUID.randomUUID())));
+
+		// Act
+		final var result = citizenChangeService.findVisibleChanges(10L, 100);
+
+		// Assert
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	void findVisibleChanges_SkipsGapAfterTimeout() throws Exception {
+		// Arrange
+		final var personId = UUID.randomUUID();
+		when(changeEventRepositoryMock.findChangesAfter(10L, PageRequest.ofSize(100))).thenReturn(List.of(
+			event(11L, personId),
+			event(13L, personId),
+			event(16L, personId)));
+		assertThat(citizenChangeService.findVisibleChanges(10L, 100)).extracting(CitizenChangeEventEntity::getSequenceNumber).containsExactly(11L);
+		Thread.sleep(GAP_TIMEOUT.plusMillis(50));
+
+		// Act
+		final var result = citizenChangeService.findVisibleChanges(10L, 100);
+
+		// Assert
+		// The gap before 16 is first seen by the second read, and is held back until it times out as well
+		assertThat(result).extracting(CitizenChangeEventEntity::getSequenceNumber).containsExactly(11L, 13L);
+	}
+
+	private static CitizenChangeEventEntity event(final long sequenceNumber, final UUID personId) {
+		return CitizenChangeEventEntity.create()
+			.withSequenceNumber(sequenceNumber)
+			.withPersonId(personId)
+			.withEntityType(EntityType.ADDRESS)
+			.withChangeType(ChangeType.UPDATED);
+	}
+}
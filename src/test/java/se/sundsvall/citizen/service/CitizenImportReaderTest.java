@@ -0,0 +1,134 @@
+package se.sundsvall.citizen.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Test;
+
+class CitizenImportReaderTest {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	void ndjson() {
+		// Arrange
+		final var content = """
+			{"personalNumber":"198001011234","givenname":"Anna","addresses":[{"city":"Sundsvall"}]}
+
+			{"personalNumber":"198001021234","givenname":"Bertil"}
+			""";
+
+		// Act
+		final var rows = readAll(CitizenImportReader.ndjson(toInputStream(content), objectMapper));
+
+		// Assert
+		assertThat(rows).extracting(CitizenImportReader.Row::line, row -> row.citizen().getPersonalNumber(), row -> row.citizen().getGivenname())
+			.containsExactly(
+				tuple(1L, "198001011234", "Anna"),
+				tuple(3L, "198001021234", "Bertil"));
+		assertThat(rows.getFirst().citizen().getAddresses()).hasSize(1);
+		assertThat(rows).allSatisfy(row -> assertThat(row.error()).isNull());
+	}
+
+	@Test
+	void ndjson_InvalidRow() {
+		// Arrange
+		final var content = """
+			{"personalNumber":"198001011234"}
+			not json
+			{"personalNumber":"198001021234"}
+			""";
+
+		// Act
+		final var rows = readAll(CitizenImportReader.ndjson(toInputStream(content), objectMapper));
+
+		// Assert
+		assertThat(rows).hasSize(3);
+		assertThat(rows.get(1).line()).isEqualTo(2L);
+		assertThat(rows.get(1).citizen()).isNull();
+		assertThat(rows.get(1).error()).startsWith("Invalid row: ");
+		assertThat(rows.get(2).citizen().getPersonalNumber()).isEqualTo("198001021234");
+	}
+
+	@Test
+	void csv() {
+		// Arrange
+		final var content = """
+			personalNumber,givenname,lastname,classified
+			198001011234,Anna,"Svensson, Andersson",
+			198001021234,"Bertil \"\"Berra\"\"\",Karlsson,J
+			""";
+
+		// Act
+		final var rows = readAll(CitizenImportReader.csv(toInputStream(content), objectMapper));
+
+		// Assert
+		assertThat(rows).extracting(CitizenImportReader.Row::line, row -> row.citizen().getPersonalNumber(), row -> row.citizen().getGivenname(),
+			row -> row.citizen().getLastname(), row -> row.citizen().getClassified())
+			.containsExactly(
+				tuple(2L, "198001011234", "Anna", "Svensson, Andersson", null),
+				tuple(3L, "198001021234", "Bertil \"Berra\"", "Karlsson", "J"));
+	}
+
+	@Test
+	void csv_SemicolonSeparated() {
+		// Arrange
+		final var content = """
+			personalNumber;givenname
+			198001011234;Anna, Maria
+			""";
+
+		// Act
+		final var rows = readAll(CitizenImportReader.csv(toInputStream(content), objectMapper));
+
+		// Assert
+		assertThat(rows).singleElement().satisfies(row -> {
+			assertThat(row.citizen().getPersonalNumber()).isEqualTo("198001011234");
+			assertThat(row.citizen().getGivenname()).isEqualTo("Anna, Maria");
+		});
+	}
+
+	@Test
+	void csv_WrongNumberOfColumns() {
+		// Arrange
+		final var content = """
+			personalNumber,givenname
+			198001011234,Anna,Svensson
+			""";
+
+		// Act
+		final var rows = readAll(CitizenImportReader.csv(toInputStream(content), objectMapper));
+
+		// Assert
+		assertThat(rows).singleElement().satisfies(row -> {
+			assertThat(row.line()).isEqualTo(2L);
+			assertThat(row.citizen()).isNull();
+			assertThat(row.error()).isEqualTo("Invalid row: expected 2 columns but found 3");
+		});
+	}
+
+	@Test
+	void next_NoMoreRows() {
+		final var reader = CitizenImportReader.ndjson(toInputStream(""), objectMapper);
+
+		assertThat(reader.hasNext()).isFalse();
+		assertThatThrownBy(reader::next).isInstanceOf(NoSuchElementException.class);
+	}
+
+	private static List<CitizenImportReader.Row> readAll(final CitizenImportReader reader) {
+		final var rows = new ArrayList<CitizenImportReader.Row>();
+		reader.forEachRemaining(rows::add);
+		return rows;
+	}
+
+	private static ByteArrayInputStream toInputStream(final String content) {
+		return new ByteArrayInputStream(content.getBytes(UTF_8));
+	}
+}
@@ -0,0 +1,250 @@
+package se.sundsvall.citizen.service;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import org.hibernate.exception.ConstraintViolationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.citizen.api.model.CitizenImportError;
+import se.sundsvall.citizen.configuration.BatchProperties;
+import se.sundsvall.citizen.integration.db.CitizenRepository;
+import se.sundsvall.citizen.integration.db.model.CitizenEntity;
+import se.sundsvall.citizen.integration.db.model.CustodyChildrenPupilEntity;
+import se.sundsvall.citizen.integration.db.model.projection.PersonIdProjection;
+
+@ExtendWith(MockitoExtension.class)
+class CitizenImportServiceTest {
+
+	@Mock
+	private CitizenRepository citizenRepositoryMock;
+
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper();
+
+	@Mock
+	private TransactionTemplate transactionTemplateMock;
+
+	@Spy
+	private BatchProperties batchProperties = new BatchProperties(2, 50, Duration.ofSeconds(5));
+
+	@InjectMocks
+	private CitizenImportService citizenImportService;
+
+	@Captor
+	private ArgumentCaptor<Collection<String>> personalNumbersCaptor;
+
+	@Captor
+	private ArgumentCaptor<List<CitizenEntity>> citizensCaptor;
+
+	@Captor
+	private ArgumentCaptor<CitizenEntity> citizenCaptor;
+
+	@Test
+	void importNdjson() {
+		// Arrange
+		final var content = """
+			{"personalNumber":"198001011234","givenname":"Anna"}
+			{"personalNumber":"198001021234","givenname":"Bertil"}
+			{"personalNumber":"198001031234","givenname":"Cecilia","addresses":[{"city":"Sundsvall"}],"custodyChildren":[{"personalNumber":"201001011234"}]}
+			""";
+		mockTransactionTemplate();
+
+		// Act
+		final var result = citizenImportService.importNdjson(toInputStream(content));
+
+		// Assert
+		assertThat(result.getImported()).isEqualTo(3);
+		assertThat(result.getFailed()).isZero();
+		assertThat(result.getErrors()).isEmpty();
+
+		verify(citizenRepositoryMock, times(2)).findAllByPersonalNumberIn(personalNumbersCaptor.capture());
+		assertThat(personalNumbersCaptor.getAllValues()).containsExactly(
+			List.of("198001011234", "198001021234"),
+			List.of("198001031234"));
+		verify(citizenRepositoryMock, times(2)).saveAll(citizensCaptor.capture());
+		assertThat(citizensCaptor.getAllValues().stream().flatMap(List::stream).toList())
+			.extracting(CitizenEntity::getPersonalNumber, CitizenEntity::getGivenname)
+			.containsExactly(
+				tuple("198001011234", "Anna"),
+				tuple("198001021234", "Bertil"),
+				tuple("198001031234", "Cecilia"));
+		assertThat(citizensCaptor.getAllValues().getLast().getFirst().getAddresses()).hasSize(1);
+		assertThat(citizensCaptor.getAllValues().getLast().getFirst().getCustodyChildren())
+			.extracting(CustodyChildrenPupilEntity::getPersonnumber)
+			.containsExactly("201001011234");
+		verify(transactionTemplateMock, times(2)).executeWithoutResult(any());
+		verifyNoMoreInteractions(citizenRepositoryMock, transactionTemplateMock);
+	}
+
+	@Test
+	void importCsv() {
+		// Arrange
+		final var content = """
+			personalNumber;givenname;lastname
+			198001011234;Anna;Svensson
+			""";
+		mockTransactionTemplate();
+
+		// Act
+		final var result = citizenImportService.importCsv(toInputStream(content));
+
+		// Assert
+		assertThat(result.getImported()).isEqualTo(1);
+		assertThat(result.getFailed()).isZero();
+		verify(citizenRepositoryMock).saveAll(citizensCaptor.capture());
+		assertThat(citizensCaptor.getValue()).singleElement()
+			.extracting(CitizenEntity::getPersonalNumber, CitizenEntity::getGivenname, CitizenEntity::getLastname)
+			.containsExactly("198001011234", "Anna", "Svensson");
+	}
+
+	@Test
+	void importNdjson_RowErrors() {
+		// Arrange
+		final var existing = mockPersonIdProjection("198001021234");
+		final var content = """
+			not json
+			{"givenname":"No personal number"}
+			{"personalNumber":"198001011234"}
+			{"personalNumber":"198001011234"}
+			{"personalNumber":"198001021234"}
+			{"personalNumber":"198001031234","nrDate":"not a date"}
+			""";
+		when(citizenRepositoryMock.findAllByPersonalNumberIn(anyList()))
+			.thenReturn(List.of(existing))
+			.thenReturn(List.of());
+		mockTransactionTemplate();
+
+		// Act
+		final var result = citizenImportService.importNdjson(toInputStream(content));
+
+		// Assert
+		assertThat(result.getImported()).isEqualTo(1);
+		assertThat(result.getFailed()).isEqualTo(5);
+		assertThat(result.getErrors())
+			.extracting(CitizenImportError::getLine, CitizenImportError::getPersonalNumber)
+			.containsExactly(
+				tuple(1L, null),
+				tuple(2L, null),
+				tuple(4L, "198001011234"),
+				tuple(5L, "198001021234"),
+				tuple(6L, "198001031234"));
+		assertThat(result.getErrors().get(1).getErrorMessage()).isEqualTo("Personal number is required");
+		assertThat(result.getErrors().get(2).getErrorMessage()).isEqualTo("Person with personal number 198001011234 already exists");
+		assertThat(result.getErrors().get(3).getErrorMessage()).isEqualTo("Person with personal number 198001021234 already exists");
+		assertThat(result.getErrors().get(4).getErrorMessage()).startsWith("Invalid row: ");
+
+		verify(citizenRepositoryMock).saveAll(citizensCaptor.capture());
+		assertThat(citizensCaptor.getValue()).extracting(CitizenEntity::getPersonalNumber).containsExactly("198001011234");
+	}
+
+	@Test
+	void importNdjson_ChunkFails() {
+		// Arrange
+		final var content = """
+			{"personalNumber":"198001011234"}
+			{"personalNumber":"198001021234"}
+			{"personalNumber":"198001031234"}
+			{"personalNumber":"198001041234"}
+			""";
+		final var duplicate = integrityViolation(1062, "Duplicate entry '198001011234' for key 'personal_number'", "personal_number");
+		final var tooLong = integrityViolation(1406, "Data too long for column 'given_name' at row 1", null);
+		doThrow(duplicate)
+			.doThrow(duplicate)
+			.doAnswer(this::runInTransaction)
+			.doThrow(tooLong)
+			.doThrow(tooLong)
+			.doAnswer(this::runInTransaction)
+			.when(transactionTemplateMock).executeWithoutResult(any());
+
+		// Act
+		final var result = citizenImportService.importNdjson(toInputStream(content));
+
+		// Assert
+		assertThat(result.getImported()).isEqualTo(2);
+		assertThat(result.getFailed()).isEqualTo(2);
+		assertThat(result.getErrors())
+			.extracting(CitizenImportError::getLine, CitizenImportError::getPersonalNumber, CitizenImportError::getErrorMessage)
+			.containsExactly(
+				tuple(1L, "198001011234", "Person with personal number 198001011234 already exists"),
+				tuple(3L, "198001031234", "Error processing request: Data too long for column 'given_name' at row 1"));
+
+		verify(citizenRepositoryMock, times(2)).save(citizenCaptor.capture());
+		assertThat(citizenCaptor.getAllValues())
+			.extracting(CitizenEntity::getPersonalNumber)
+			.containsExactly("198001021234", "198001041234");
+		verify(transactionTemplateMock, times(6)).executeWithoutResult(any());
+	}
+
+	@Test
+	void importNdjson_Empty() {
+		// Act
+		final var result = citizenImportService.importNdjson(toInputStream(""));
+
+		// Assert
+		assertThat(result.getImported()).isZero();
+		assertThat(result.getFailed()).isZero();
+		assertThat(result.getErrors()).isEmpty();
+		verifyNoInteractions(citizenRepositoryMock, transactionTemplateMock);
+	}
+
+	private void mockTransactionTemplate() {
+		doAnswer(this::runInTransaction).when(transactionTemplateMock).executeWithoutResult(any());
+	}
+
+	private Object runInTransaction(final InvocationOnMock invocation) {
+		invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+		return null;
+	}
+
+	private static DataIntegrityViolationException integrityViolation(final int errorCode, final String message, final String constraintName) {
+		final var sqlException = new SQLIntegrityConstraintViolationException(message, "23000", errorCode);
+		return new DataIntegrityViolationException(message, new ConstraintViolationException(message, sqlException, constraintName));
+	}
+
+	private static PersonIdProjection mockPersonIdProjection(final String personalNumber) {
+		return new PersonIdProjection() {
+			@Override
+			public UUID getPersonId() {
+				return UUID.randomUUID();
+			}
+
+			@Override
+			public String getPersonalNumber() {
+				return personalNumber;
+			}
+		};
+	}
+
+	private static ByteArrayInputStream toInputStream(final String content) {
+		return new ByteArrayInputStream(content.getBytes(UTF_8));
+	}
+}
@@ -0,0 +1,76 @@
+package se.sundsvall.citizen.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class CitizenServiceMetricsTest {
+
+	private SimpleMeterRegistry meterRegistry;
+
+	private CitizenServiceMetrics metrics;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		metrics = new CitizenServiceMetrics(meterRegistry);
+	}
+
+	@Test
+	void recordBatchSizes() {
+		// Act
+		metrics.recordCitizensByIdsBatch(10);
+		metrics.recordCitizensByIdsBatch(30);
+		metrics.recordPersonIdsBatch(5);
+		metrics.recordPersonIdsByMunicipalityBatch(7);
+
+		// Assert
+		final var citizensByIds = meterRegistry.get("citizen.service.batch.size").tag("operation", "getCitizensByIds").summary();
+		assertThat(citizensByIds.count()).isEqualTo(2);
+		assertThat(citizensByIds.totalAmount()).isEqualTo(40);
+		assertThat(meterRegistry.get("citizen.service.batch.size").tag("operation", "getPersonIdsInBatch").summary().totalAmount()).isEqualTo(5);
+		assertThat(meterRegistry.get("citizen.service.batch.size").tag("operation", "getPersonIdsInBatchByMunicipality").summary().totalAmount()).isEqualTo(7);
+	}
+
+	@Test
+	void recordLookups() {
+		// Act
+		metrics.recordPersonalNumberLookup(true);
+		metrics.recordPersonalNumberLookup(true);
+		metrics.recordPersonalNumberLookup(false);
+		metrics.recordPersonIdLookup(false);
+
+		// Assert
+		assertThat(meterRegistry.get("citizen.service.lookups").tags("operation", "getPersonalNumberById", "result", "hit").counter().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("citizen.service.lookups").tags("operation", "getPersonalNumberById", "result", "miss").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("citizen.service.lookups").tags("operation", "getPersonIdByPersonalNumber", "result", "hit").counter().count()).isZero();
+		assertThat(meterRegistry.get("citizen.service.lookups").tags("operation", "getPersonIdByPersonalNumber", "result", "miss").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void recordChangedAddressRows() {
+		// Act
+		metrics.recordChangedAddressRows(3);
+		metrics.recordChangedAddressPageRows(100);
+		metrics.recordChangedAddressStreamRows(12_345);
+
+		// Assert
+		assertThat(meterRegistry.get("citizen.service.changed.address.rows").tag("operation", "getCitizensWithChangedAddress").summary().totalAmount()).isEqualTo(3);
+		assertThat(meterRegistry.get("citizen.service.changed.address.rows").tag("operation", "getCitizensWithChangedAddressPage").summary().totalAmount()).isEqualTo(100);
+		assertThat(meterRegistry.get("citizen.service.changed.address.rows").tag("operation", "streamCitizensWithChangedAddress").summary().totalAmount()).isEqualTo(12_345);
+	}
+
+	@Test
+	void recordPersonIdRoutes() {
+		// Act
+		metrics.recordPersonIdRoute(true);
+		metrics.recordPersonIdRoute(false);
+		metrics.recordPersonIdRoute(false);
+
+		// Assert
+		assertThat(meterRegistry.get("citizen.service.person.id.route").tag("route", "party").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("citizen.service.person.id.route").tag("route", "local").counter().count()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,120 @@
+package se.sundsvall.citizen.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace.NONE;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.io.ByteArrayOutputStream;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.citizen.api.model.PersonGuidBatch;
+import se.sundsvall.citizen.api.model.PersonGuidBatchItem;
+import se.sundsvall.citizen.configuration.BatchProperties;
+import se.sundsvall.citizen.configuration.CacheConfiguration;
+import se.sundsvall.citizen.configuration.ReplicaDataSourceConfiguration;
+import se.sundsvall.citizen.integration.party.PartyIntegration;
+
+/**
+ * Verifies that the methods of {@link CitizenService} that run without a surrounding transaction read from the replica.
+ * The replica is configured with the url of the test database, and its data source is spied on to see which one the
+ * connections come from.
+ *
+ * @see /src/test/resources/db/script/CitizenRepositoryTest.sql for data setup.
+ */
+@DataJpaTest(properties = {
+	"citizen.datasource.replica.url=${spring.datasource.url}",
+	"citizen.datasource.replica.username=${spring.datasource.username:}",
+	"citizen.datasource.replica.password=${spring.datasource.password:}"
+})
+@AutoConfigureTestDatabase(replace = NONE)
+@Import({
+	ReplicaDataSourceConfiguration.class, CacheConfiguration.class, CitizenService.class
+})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@EnableConfigurationProperties(BatchProperties.class)
+@ActiveProfiles("junit")
+@Transactional(propagation = NOT_SUPPORTED)
+@Sql(scripts = {
+	"/db/script/truncate.sql",
+	"/db/script/CitizenRepositoryTest.sql"
+})
+class CitizenServiceReplicaRoutingTest {
+
+	private static final String PERSONAL_NUMBER = "19800101-1234";
+	private static final String PERSON_ID = "fb47e26c-1c27-11ee-be56-0242ac120002";
+
+	@MockitoSpyBean(name = "primaryDataSource")
+	private HikariDataSource primaryDataSourceSpy;
+
+	@MockitoSpyBean(name = "replicaDataSource")
+	private HikariDataSource replicaDataSourceSpy;
+
+	@MockitoBean
+	private PartyIntegration partyIntegrationMock;
+
+	@MockitoBean
+	private CitizenServiceMetrics metricsMock;
+
+	@Autowired
+	private CitizenService citizenService;
+
+	@BeforeEach
+	void setup() {
+		// The test data is written through the primary
+		clearInvocations(primaryDataSourceSpy, replicaDataSourceSpy);
+	}
+
+	@Test
+	void getPersonIdByPersonalNumber() throws Exception {
+		// Act
+		final var result = citizenService.getPersonIdByPersonalNumber(PERSONAL_NUMBER, "2260");
+
+		// Assert
+		assertThat(result).isEqualTo(PERSON_ID);
+		verify(replicaDataSourceSpy, atLeastOnce()).getConnection();
+		verify(primaryDataSourceSpy, never()).getConnection();
+	}
+
+	@Test
+	void getPersonIdsInBatchByMunicipality() throws Exception {
+		// Act
+		final var result = citizenService.getPersonIdsInBatchByMunicipality(List.of(
+			PersonGuidBatchItem.create().withPersonalNumber(PERSONAL_NUMBER).withMunicipalityId("2260")));
+
+		// Assert
+		assertThat(result).extracting(PersonGuidBatch::isSuccess).containsExactly(true);
+		verify(replicaDataSourceSpy, atLeastOnce()).getConnection();
+		verify(primaryDataSourceSpy, never()).getConnection();
+	}
+
+	@Test
+	void streamCitizensWithChangedAddress() throws Exception {
+		// Act
+		final var outputStream = new ByteArrayOutputStream();
+		citizenService.streamCitizensWithChangedAddress(OffsetDateTime.parse("2000-01-01T00:00:00Z"), outputStream);
+
+		// Assert
+		assertThat(outputStream.toString()).contains(PERSON_ID);
+		verify(replicaDataSourceSpy, atLeastOnce()).getConnection();
+		verify(primaryDataSourceSpy, never()).getConnection();
+	}
+}
@@ -1,41 +1,63 @@
 package se.sundsvall.citizen.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.zalando.problem.Status.BAD_REQUEST;
 import static org.zalando.problem.Status.CONFLICT;
 import static org.zalando.problem.Status.NOT_FOUND;
+import static org.zalando.problem.Status.SERVICE_UNAVAILABLE;
+import static se.sundsvall.citizen.configuration.CacheConfiguration.CITIZEN_CACHE;
+import static se.sundsvall.citizen.configuration.CacheConfiguration.CITIZEN_EVICTIONS_CACHE;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayOutputStream;
+import java.sql.SQLIntegrityConstraintViolationException;
+import java.time.Duration;
 import java.time.OffsetDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.Mockito;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.data.domain.PageRequest;
 import org.zalando.problem.ThrowableProblem;
 import se.sundsvall.citizen.api.model.CitizenExtended;
 import se.sundsvall.citizen.api.model.CitizenWithChangedAddress;
 import se.sundsvall.citizen.api.model.ModelPostPerson;
-import se.sundsvall.citizen.integration.db.CitizenAddressRepository;
+import se.sundsvall.citizen.api.model.PersonGuidBatch;
+import se.sundsvall.citizen.api.model.PersonGuidBatchItem;
+import se.sundsvall.citizen.configuration.BatchProperties;
 import se.sundsvall.citizen.integration.db.CitizenRepository;
-import se.sundsvall.citizen.integration.db.model.CitizenAddressEntity;
 import se.sundsvall.citizen.integration.db.model.CitizenEntity;
-import se.sundsvall.citizen.integration.db.specification.CitizenAddressSpecification;
+import se.sundsvall.citizen.integration.db.model.projection.CitizenKeyProjection;
+import se.sundsvall.citizen.integration.db.model.projection.PersonIdProjection;
 import se.sundsvall.citizen.integration.party.PartyIntegration;
-import se.sundsvall.citizen.service.mapper.CitizenAddressMapper;
+import se.sundsvall.citizen.integration.party.PartyUnavailableException;
 import se.sundsvall.citizen.service.mapper.CitizenMapper;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,10 +67,19 @@ class CitizenServiceTest {
 	private CitizenRepository citizenRepositoryMock;
 
 	@Mock
-	private CitizenAddressRepository citizenAddressRepositoryMock;
+	private ObjectMapper objectMapperMock;
+
+	@Spy
+	private BatchProperties batchProperties = new BatchProperties(500, 50, Duration.ofSeconds(5));
 
 	@Mock
-	private ObjectMapper objectMapperMock;
+	private CacheManager cacheManagerMock;
+
+	@Mock
+	private CitizenServiceMetrics metricsMock;
+
+	@Mock
+	private PlatformTransactionManager transactionManagerMock;
 
 	@InjectMocks
 	private CitizenService citizenService;
@@ -59,13 +90,14 @@ class CitizenServiceTest {
 	@Test
 	void getCitizenById() {
 		// Arrange
+		final var cache = mockCitizenCache();
 		final var personId = UUID.randomUUID();
-		final var citizenEntity = CitizenEntity.create().withPersonId(personId.toString());
+		final var citizenEntity = CitizenEntity.create().withPersonId(personId);
 		final var expectedCitizen = new CitizenExtended();
 
-		when(citizenRepositoryMock.findById(personId.toString())).thenReturn(Optional.of(citizenEntity));
+		when(citizenRepositoryMock.findById(personId)).thenReturn(Optional.of(citizenEntity));
 
-		try (MockedStatic<CitizenMapper> mapperMock = Mockito.mockStatic(CitizenMapper.class)) {
+		try (MockedStatic<CitizenMapper> mapperMock = Mockito.mockStatic(CitizenMapper.class, Mockito.CALLS_REAL_METHODS)) {
 			mapperMock.when(() -> CitizenMapper.toCitizenExtended(any())).thenReturn(expectedCitizen);
 
 			// Act
@@ -73,7 +105,8 @@ class CitizenServiceTest {
 
 			// Assert
 			assertThat(result).isSameAs(expectedCitizen);
-			verify(citizenRepositoryMock).findById(personId.toString());
+			assertThat(cache.get(personId, CitizenExtended.class)).isEqualTo(expectedCitizen).isNotSameAs(expectedCitizen);
+			verify(citizenRepositoryMock).findById(personId);
 			mapperMock.verify(() -> CitizenMapper.toCitizenExtended(same(citizenEntity)));
 		}
 	}
@@ -81,8 +114,9 @@ class CitizenServiceTest {
 	@Test
 	void getCitizenById_NotFound() {
 		// Arrange
+		final var cache = mockCitizenCache();
 		final var personId = UUID.randomUUID();
-		when(citizenRepositoryMock.findById(personId.toString())).thenReturn(Optional.empty());
+		when(citizenRepositoryMock.findById(personId)).thenReturn(Optional.empty());
 
 		// Act & Assert
 		final var exception = assertThrows(ThrowableProblem.class,
@@ -90,24 +124,94 @@ class CitizenServiceTest {
 
 		assertThat(exception.getStatus()).isEqualTo(NOT_FOUND);
 		assertThat(exception.getMessage()).contains(String.format("No citizen found with ID: %s", personId));
+		assertThat(cache.getNativeCache()).isEmpty();
+		verifyNoInteractions(metricsMock);
 	}
 
 	@Test
 	void getCitizenById_ClassifiedHidden() {
 		// Arrange
+		final var cache = mockCitizenCache();
 		final var personId = UUID.randomUUID();
 		final var citizenEntity = CitizenEntity.create()
-			.withPersonId(personId.toString())
+			.withPersonId(personId)
 			.withClassified("CLASSIFIED");
 
-		when(citizenRepositoryMock.findById(personId.toString())).thenReturn(Optional.of(citizenEntity));
+		when(citizenRepositoryMock.findById(personId)).thenReturn(Optional.of(citizenEntity));
 
 		// Act
 		final var result = citizenService.getCitizenById(personId, false);
 
 		// Assert
 		assertThat(result).isNull();
-		verify(citizenRepositoryMock).findById(personId.toString());
+		assertThat(cache.get(personId, CitizenExtended.class)).isNotNull();
+		verify(citizenRepositoryMock).findById(personId);
+	}
+
+	@Test
+	void getCitizenById_FromCache() {
+		// Arrange
+		final var personId = UUID.randomUUID();
+		final var cachedCitizen = CitizenExtended.create().withPersonId(personId);
+		mockCitizenCache().put(personId, cachedCitizen);
+
+		// Act
+		final var result = citizenService.getCitizenById(personId, false);
+
+		// Assert
+		assertThat(result).isEqualTo(cachedCitizen).isNotSameAs(cachedCitizen);
+		verifyNoInteractions(citizenRepositoryMock);
+	}
+
+	@Test
+	void getCitizenById_ChangingResultDoesNotChangeCache() {
+		// Arrange
+		final var cache = mockCitizenCache();
+		final var personId = UUID.randomUUID();
+		when(citizenRepositoryMock.findById(personId)).thenReturn(Optional.of(CitizenEntity.create()
+			.withPersonId(personId)
+			.withGivenname("Anna")));
+
+		// Act
+		citizenService.getCitizenById(personId, true).setGivenname("Changed");
+		citizenService.getCitizenById(personId, true).setGivenname("Changed again");
+
+		// Assert
+		assertThat(cache.get(personId, CitizenExtended.class).getGivenname()).isEqualTo("Anna");
+		assertThat(citizenService.getCitizenById(personId, true).getGivenname()).isEqualTo("Anna");
+		verify(citizenRepositoryMock).findById(personId);
+	}
+
+	@Test
+	void getCitizenById_RecentlyEvicted() {
+		// Arrange
+		final var cache = mockCitizenCache();
+		final var evictions = new ConcurrentMapCache(CITIZEN_EVICTIONS_CACHE, false);
+		final var personId = UUID.randomUUID();
+		evictions.put(personId, Boolean.TRUE);
+		when(cacheManagerMock.getCache(CITIZEN_EVICTIONS_CACHE)).thenReturn(evictions);
+		when(citizenRepositoryMock.findById(personId)).thenReturn(Optional.of(CitizenEntity.create().withPersonId(personId)));
+
+		// Act
+		final var result = citizenService.getCitizenById(personId, true);
+
+		// Assert
+		assertThat(result.getPersonId()).isEqualTo(personId);
+		assertThat(cache.getNativeCache()).isEmpty();
+		verify(citizenRepositoryMock).findById(personId);
+	}
+
+	@Test
+	void getCitizenById_ClassifiedHiddenFromCache() {
+		// Arrange
+		final var personId = UUID.randomUUID();
+		final var cachedCitizen = CitizenExtended.create().withPersonId(personId).withClassified("CLASSIFIED");
+		mockCitizenCache().put(personId, cachedCitizen);
+
+		// Act & Assert
+		assertThat(citizenService.getCitizenById(personId, false)).isNull();
+		assertThat(citizenService.getCitizenById(personId, true)).isEqualTo(cachedCitizen);
+		verifyNoInteractions(citizenRepositoryMock);
 	}
 
 	@Test
@@ -115,13 +219,14 @@ class CitizenServiceTest {
 		// Arrange
 		final var personId1 = UUID.randomUUID();
 		final var personId2 = UUID.randomUUID();
-		final var citizenEntity1 = CitizenEntity.create().withPersonId(personId1.toString());
-		final var citizenEntity2 = CitizenEntity.create().withPersonId(personId2.toString());
+		final var citizenEntity1 = CitizenEntity.create().withPersonId(personId1);
+		final var citizenEntity2 = CitizenEntity.create().withPersonId(personId2);
 		final var expectedCitizen1 = new CitizenExtended();
 		final var expectedCitizen2 = new CitizenExtended();
 
-		when(citizenRepositoryMock.findById(personId1.toString())).thenReturn(Optional.of(citizenEntity1));
-		when(citizenRepositoryMock.findById(personId2.toString())).thenReturn(Optional.of(citizenEntity2));
+		// Repository returns the entities in another order than requested
+		when(citizenRepositoryMock.findAllWithAddressesByPersonIds(List.of(personId1, personId2), true))
+			.thenReturn(List.of(citizenEntity2, citizenEntity1));
 
 		try (MockedStatic<CitizenMapper> mapperMock = Mockito.mockStatic(CitizenMapper.class)) {
 			mapperMock.when(() -> CitizenMapper.toCitizenExtended(citizenEntity1)).thenReturn(expectedCitizen1);
@@ -134,27 +239,65 @@ class CitizenServiceTest {
 			assertThat(result)
 				.hasSize(2)
 				.containsExactly(expectedCitizen1, expectedCitizen2);
+			verify(citizenRepositoryMock).findAllWithAddressesByPersonIds(List.of(personId1, personId2), true);
+			verify(metricsMock).recordCitizensByIdsBatch(2);
+			verifyNoMoreInteractions(citizenRepositoryMock, metricsMock);
 		}
 	}
 
+	@Test
+	void getCitizensByIds_NotFoundOrClassified() {
+		// Arrange
+		final var personId1 = UUID.randomUUID();
+		final var personId2 = UUID.randomUUID();
+		final var citizenEntity1 = CitizenEntity.create().withPersonId(personId1);
+
+		when(citizenRepositoryMock.findAllWithAddressesByPersonIds(List.of(personId1, personId2), false))
+			.thenReturn(List.of(citizenEntity1));
+
+		// Act
+		final var result = citizenService.getCitizensByIds(List.of(personId1, personId2), false);
+
+		// Assert
+		assertThat(result)
+			.hasSize(1)
+			.extracting(CitizenExtended::getPersonId)
+			.containsExactly(personId1);
+	}
+
+	@Test
+	void getCitizensByIds_Chunked() {
+		// Arrange
+		final var personIds = IntStream.range(0, 501)
+			.mapToObj(i -> UUID.randomUUID())
+			.toList();
+
+		when(citizenRepositoryMock.findAllWithAddressesByPersonIds(any(), eq(true)))
+			.thenAnswer(invocation -> invocation.<List<UUID>>getArgument(0).stream()
+				.map(id -> CitizenEntity.create().withPersonId(id))
+				.toList());
+
+		// Act
+		final var result = citizenService.getCitizensByIds(personIds, true);
+
+		// Assert
+		assertThat(result)
+			.extracting(CitizenExtended::getPersonId)
+			.containsExactlyElementsOf(personIds);
+		verify(citizenRepositoryMock, times(2)).findAllWithAddressesByPersonIds(any(), eq(true));
+	}
+
 	@Test
 	void getCitizensWithChangedAddress() {
 		// Arrange
 		final var changedDateFrom = OffsetDateTime.now();
-		final var citizenAddressEntity = new CitizenAddressEntity();
+		final var citizenEntity = CitizenEntity.create();
 		final var expectedChangedAddress = new CitizenWithChangedAddress();
 
-		try (MockedStatic<CitizenAddressSpecification> specMock = Mockito.mockStatic(CitizenAddressSpecification.class);
-			MockedStatic<CitizenAddressMapper> mapperMock = Mockito.mockStatic(CitizenAddressMapper.class)) {
+		when(citizenRepositoryMock.findAllWithChangedAddressSince(changedDateFrom)).thenReturn(List.of(citizenEntity));
 
-			Specification<CitizenAddressEntity> mockSpec = (root, query, cb) -> cb.conjunction();
-			specMock.when(() -> CitizenAddressSpecification.hasChangedAddressSince(changedDateFrom))
-				.thenReturn(mockSpec);
-
-			when(citizenAddressRepositoryMock.findAll(any(Specification.class)))
-				.thenReturn(List.of(citizenAddressEntity));
-
-			mapperMock.when(() -> CitizenAddressMapper.toCitizenWithChangedAddress(any()))
+		try (MockedStatic<CitizenMapper> mapperMock = Mockito.mockStatic(CitizenMapper.class)) {
+			mapperMock.when(() -> CitizenMapper.toCitizenWithChangedAddress(citizenEntity))
 				.thenReturn(expectedChangedAddress);
 
 			// Act
@@ -165,6 +308,8 @@ class CitizenServiceTest {
 				.isNotNull()
 				.hasSize(1)
 				.containsExactly(expectedChangedAddress);
+			verify(citizenRepositoryMock).findAllWithChangedAddressSince(changedDateFrom);
+			verify(metricsMock).recordChangedAddressRows(1);
 		}
 	}
 
@@ -173,45 +318,125 @@ class CitizenServiceTest {
 		// Arrange
 		final var changedDateFrom = OffsetDateTime.now();
 
-		try (MockedStatic<CitizenAddressSpecification> specMock = Mockito.mockStatic(CitizenAddressSpecification.class)) {
-			Specification<CitizenAddressEntity> mockSpec = (root, query, cb) -> cb.conjunction();
-			specMock.when(() -> CitizenAddressSpecification.hasChangedAddressSince(changedDateFrom))
-				.thenReturn(mockSpec);
+		when(citizenRepositoryMock.findAllWithChangedAddressSince(changedDateFrom)).thenReturn(Collections.emptyList());
 
-			when(citizenAddressRepositoryMock.findAll(any(Specification.class)))
-				.thenReturn(Collections.emptyList());
+		// Act
+		final var result = citizenService.getCitizensWithChangedAddress(changedDateFrom);
 
-			// Act
-			final var result = citizenService.getCitizensWithChangedAddress(changedDateFrom);
+		// Assert
+		assertThat(result).isEmpty();
+	}
 
-			// Assert
-			assertThat(result).isEmpty();
-		}
+	@Test
+	void getCitizensWithChangedAddressPage() {
+		// Arrange
+		final var changedDateFrom = OffsetDateTime.parse("2025-01-29T09:32:35Z");
+		final var personId1 = UUID.randomUUID();
+		final var personId2 = UUID.randomUUID();
+		final var key1 = citizenKeyProjection(personId1, changedDateFrom);
+		final var key2 = citizenKeyProjection(personId2, changedDateFrom.plusSeconds(1));
+
+		when(citizenRepositoryMock.findKeysWithChangedAddressSince(changedDateFrom, PageRequest.ofSize(2))).thenReturn(List.of(key1, key2));
+		when(citizenRepositoryMock.findAllWithAddressesByPersonIds(List.of(personId1, personId2), true))
+			.thenReturn(List.of(CitizenEntity.create().withPersonId(personId2), CitizenEntity.create().withPersonId(personId1)));
+
+		// Act
+		final var result = citizenService.getCitizensWithChangedAddress(changedDateFrom, null, 2);
+
+		// Assert
+		assertThat(result.getCitizens())
+			.extracting(CitizenWithChangedAddress::getPersonId)
+			.containsExactly(personId1, personId2);
+		assertThat(result.getMetaData().getLimit()).isEqualTo(2);
+		assertThat(result.getMetaData().getCount()).isEqualTo(2);
+		assertThat(result.getNextCursor()).isEqualTo(new ChangedAddressCursor(changedDateFrom.plusSeconds(1), personId2).encode());
+	}
+
+	@Test
+	void getCitizensWithChangedAddressPage_LastPage() {
+		// Arrange
+		final var changedDateFrom = OffsetDateTime.parse("2025-01-29T09:32:35Z");
+		final var cursor = new ChangedAddressCursor(changedDateFrom, UUID.randomUUID());
+		final var personId = UUID.randomUUID();
+
+		when(citizenRepositoryMock.findKeysWithChangedAddressSinceAfter(changedDateFrom, cursor.updatedAt(), cursor.personId(), PageRequest.ofSize(2)))
+			.thenReturn(List.of(citizenKeyProjection(personId, changedDateFrom)));
+		when(citizenRepositoryMock.findAllWithAddressesByPersonIds(List.of(personId), true))
+			.thenReturn(List.of(CitizenEntity.create().withPersonId(personId)));
+
+		// Act
+		final var result = citizenService.getCitizensWithChangedAddress(changedDateFrom, cursor.encode(), 2);
+
+		// Assert
+		assertThat(result.getCitizens())
+			.extracting(CitizenWithChangedAddress::getPersonId)
+			.containsExactly(personId);
+		assertThat(result.getNextCursor()).isNull();
+	}
+
+	@Test
+	void getCitizensWithChangedAddressPage_NoResults() {
+		// Arrange
+		final var changedDateFrom = OffsetDateTime.parse("2025-01-29T09:32:35Z");
+
+		when(citizenRepositoryMock.findKeysWithChangedAddressSince(changedDateFrom, PageRequest.ofSize(10))).thenReturn(List.of());
+
+		// Act
+		final var result = citizenService.getCitizensWithChangedAddress(changedDateFrom, null, 10);
+
+		// Assert
+		assertThat(result.getCitizens()).isEmpty();
+		assertThat(result.getNextCursor()).isNull();
+		verifyNoMoreInteractions(citizenRepositoryMock);
+	}
+
+	@Test
+	void streamCitizensWithChangedAddress() throws Exception {
+		// Arrange
+		final var changedDateFrom = OffsetDateTime.parse("2025-01-29T09:32:35Z");
+		final var personId = UUID.randomUUID();
+		final var outputStream = new ByteArrayOutputStream();
+
+		when(citizenRepositoryMock.findKeysWithChangedAddressSince(changedDateFrom, PageRequest.ofSize(500)))
+			.thenReturn(List.of(citizenKeyProjection(personId, changedDateFrom)));
+		when(citizenRepositoryMock.findAllWithAddressesByPersonIds(List.of(personId), true))
+			.thenReturn(List.of(CitizenEntity.create().withPersonId(personId)));
+		when(objectMapperMock.writeValueAsBytes(any())).thenReturn("{}".getBytes());
+
+		// Act
+		citizenService.streamCitizensWithChangedAddress(changedDateFrom, outputStream);
+
+		// Assert
+		assertThat(outputStream).hasToString("{}\n");
+		verify(objectMapperMock).writeValueAsBytes(any(CitizenWithChangedAddress.class));
+		verify(metricsMock).recordChangedAddressStreamRows(1);
 	}
 
 	@Test
 	void getPersonalNumberById() {
 		// Arrange
+		final var cache = mockCitizenCache();
 		final var personId = UUID.randomUUID();
-		final var citizenEntity = CitizenEntity.create()
-			.withPersonId(personId.toString())
-			.withPersonalNumber("198001011234");
 
-		when(citizenRepositoryMock.findById(personId.toString())).thenReturn(Optional.of(citizenEntity));
+		when(citizenRepositoryMock.findPersonalNumberByPersonId(personId)).thenReturn(Optional.of(personIdProjection(personId, "198001011234")));
 
 		// Act
 		final var result = citizenService.getPersonalNumberById(personId);
 
 		// Assert
 		assertThat(result).isEqualTo("198001011234");
-		verify(citizenRepositoryMock).findById(personId.toString());
+		assertThat(cache.getNativeCache()).isEmpty();
+		verify(citizenRepositoryMock).findPersonalNumberByPersonId(personId);
+		verify(metricsMock).recordPersonalNumberLookup(true);
+		verifyNoMoreInteractions(citizenRepositoryMock);
 	}
 
 	@Test
 	void getPersonalNumberById_NotFound() {
 		// Arrange
+		final var cache = mockCitizenCache();
 		final var personId = UUID.randomUUID();
-		when(citizenRepositoryMock.findById(personId.toString())).thenReturn(Optional.empty());
+		when(citizenRepositoryMock.findPersonalNumberByPersonId(personId)).thenReturn(Optional.empty());
 
 		// Act & Assert
 		final var exception = assertThrows(ThrowableProblem.class,
@@ -219,24 +444,41 @@ class CitizenServiceTest {
 
 		assertThat(exception.getStatus()).isEqualTo(NOT_FOUND);
 		assertThat(exception.getMessage()).contains(String.format("No citizen found with ID: %s", personId));
+		assertThat(cache.getNativeCache()).isEmpty();
+	}
+
+	@Test
+	void getPersonalNumberById_FromCache() {
+		// Arrange
+		final var personId = UUID.randomUUID();
+		mockCitizenCache().put(personId, CitizenExtended.create().withPersonId(personId).withPersonalNumber("198001011234"));
+
+		// Act
+		final var result = citizenService.getPersonalNumberById(personId);
+
+		// Assert
+		assertThat(result).isEqualTo("198001011234");
+		verifyNoInteractions(citizenRepositoryMock);
 	}
 
 	@Test
 	void getPersonIdByPersonalNumber() {
 		// Arrange
 		final var personalNumber = "198001011234";
-		final var personId = UUID.randomUUID().toString();
+		final var personId = UUID.randomUUID();
 		final var municipalityId = "1440";
-		final var citizenEntity = CitizenEntity.create().withPersonId(personId);
 
-		when(citizenRepositoryMock.findByPersonalNumber(personalNumber)).thenReturn(Optional.of(citizenEntity));
+		when(citizenRepositoryMock.findPersonIdByPersonalNumber(personalNumber)).thenReturn(Optional.of(personIdProjection(personId, personalNumber)));
 
 		// Act
 		final var result = citizenService.getPersonIdByPersonalNumber(personalNumber, municipalityId);
 
 		// Assert
-		assertThat(result).isEqualTo(personId);
-		verify(citizenRepositoryMock).findByPersonalNumber(personalNumber);
+		assertThat(result).isEqualTo(personId.toString());
+		verify(citizenRepositoryMock).findPersonIdByPersonalNumber(personalNumber);
+		verify(metricsMock).recordPersonIdRoute(false);
+		verify(metricsMock).recordPersonIdLookup(true);
+		verifyNoMoreInteractions(citizenRepositoryMock);
 	}
 
 	@Test
@@ -254,6 +496,26 @@ class CitizenServiceTest {
 		// Assert
 		assertThat(result).isEqualTo(personId);
 		verify(partyIntegrationMock).getPartyId(personalNumber, municipalityId, type);
+		verify(metricsMock).recordPersonIdRoute(true);
+		verify(metricsMock).recordPersonIdLookup(true);
+	}
+
+	@Test
+	void getPersonIdByPersonalNumberInSundsvall_PartyUnavailable() {
+		// Arrange
+		final var personalNumber = "198001011234";
+		final var municipalityId = "2281";
+
+		when(partyIntegrationMock.getPartyId(personalNumber, municipalityId, "PRIVATE"))
+			.thenThrow(new PartyUnavailableException("Call to Party rejected by bulkhead", null));
+
+		// Act & Assert
+		final var exception = assertThrows(ThrowableProblem.class,
+			() -> citizenService.getPersonIdByPersonalNumber(personalNumber, municipalityId));
+
+		assertThat(exception.getStatus()).isEqualTo(SERVICE_UNAVAILABLE);
+		assertThat(exception.getMessage()).contains("Party is unavailable, try again later");
+		verifyNoInteractions(citizenRepositoryMock);
 	}
 
 	@Test
@@ -261,7 +523,7 @@ class CitizenServiceTest {
 		// Arrange
 		final var personalNumber = "198001011234";
 		final var municipalityId = "2181";
-		when(citizenRepositoryMock.findByPersonalNumber(personalNumber)).thenReturn(Optional.empty());
+		when(citizenRepositoryMock.findPersonIdByPersonalNumber(personalNumber)).thenReturn(Optional.empty());
 
 		// Act & Assert
 		final var exception = assertThrows(ThrowableProblem.class,
@@ -270,6 +532,7 @@ class CitizenServiceTest {
 		assertThat(exception.getStatus()).isEqualTo(NOT_FOUND);
 		assertThat(exception.getMessage())
 			.contains("No citizen found with that personal number");
+		verify(metricsMock).recordPersonIdLookup(false);
 	}
 
 	@Test
@@ -277,9 +540,9 @@ class CitizenServiceTest {
 		// Arrange
 		final var personalNumber = "198001011234";
 		final var personId = UUID.randomUUID();
-		final var citizenEntity = CitizenEntity.create().withPersonId(personId.toString());
 
-		when(citizenRepositoryMock.findByPersonalNumber(personalNumber)).thenReturn(Optional.of(citizenEntity));
+		when(citizenRepositoryMock.findAllByPersonalNumberIn(List.of(personalNumber)))
+			.thenReturn(List.of(personIdProjection(personId, personalNumber)));
 
 		// Act
 		final var result = citizenService.getPersonIdsInBatch(List.of(personalNumber));
@@ -294,13 +557,16 @@ class CitizenServiceTest {
 				assertThat(batch.isSuccess()).isTrue();
 				assertThat(batch.getErrorMessage()).isNull();
 			});
+		verify(citizenRepositoryMock).findAllByPersonalNumberIn(List.of(personalNumber));
+		verify(metricsMock).recordPersonIdsBatch(1);
+		verifyNoMoreInteractions(citizenRepositoryMock);
 	}
 
 	@Test
 	void getPersonIdsInBatch_NotFound() {
 		// Arrange
 		final var personalNumber = "198001011234";
-		when(citizenRepositoryMock.findByPersonalNumber(personalNumber)).thenReturn(Optional.empty());
+		when(citizenRepositoryMock.findAllByPersonalNumberIn(List.of(personalNumber))).thenReturn(Collections.emptyList());
 
 		// Act
 		final var result = citizenService.getPersonIdsInBatch(List.of(personalNumber));
@@ -317,33 +583,223 @@ class CitizenServiceTest {
 			});
 	}
 
+	@Test
+	void getPersonIdsInBatch_KeepsInputOrder() {
+		// Arrange
+		final var personalNumber1 = "198001011234";
+		final var personalNumber2 = "198001021234";
+		final var personalNumber3 = "198001031234";
+		final var personId1 = UUID.randomUUID();
+		final var personId3 = UUID.randomUUID();
+
+		when(citizenRepositoryMock.findAllByPersonalNumberIn(List.of(personalNumber1, personalNumber2, personalNumber3)))
+			.thenReturn(List.of(personIdProjection(personId3, personalNumber3), personIdProjection(personId1, personalNumber1)));
+
+		// Act
+		final var result = citizenService.getPersonIdsInBatch(List.of(personalNumber1, personalNumber2, personalNumber3, personalNumber1));
+
+		// Assert
+		assertThat(result)
+			.extracting(PersonGuidBatch::getPersonNumber, PersonGuidBatch::getPersonId, PersonGuidBatch::isSuccess)
+			.containsExactly(
+				tuple(personalNumber1, personId1, true),
+				tuple(personalNumber2, null, false),
+				tuple(personalNumber3, personId3, true),
+				tuple(personalNumber1, personId1, true));
+	}
+
+	@Test
+	void getPersonIdsInBatch_Chunked() {
+		// Arrange
+		final var personalNumbers = IntStream.range(0, 1001)
+			.mapToObj(i -> String.format("1980%08d", i))
+			.toList();
+
+		when(citizenRepositoryMock.findAllByPersonalNumberIn(any()))
+			.thenAnswer(invocation -> invocation.<List<String>>getArgument(0).stream()
+				.map(personalNumber -> personIdProjection(UUID.randomUUID(), personalNumber))
+				.toList());
+
+		// Act
+		final var result = citizenService.getPersonIdsInBatch(personalNumbers);
+
+		// Assert
+		assertThat(result)
+			.hasSize(1001)
+			.allMatch(PersonGuidBatch::isSuccess)
+			.extracting(PersonGuidBatch::getPersonNumber)
+			.containsExactlyElementsOf(personalNumbers);
+		verify(citizenRepositoryMock, times(3)).findAllByPersonalNumberIn(any());
+	}
+
+	@Test
+	void getPersonIdsInBatch_Error() {
+		// Arrange
+		final var personalNumber = "198001011234";
+		when(citizenRepositoryMock.findAllByPersonalNumberIn(List.of(personalNumber))).thenThrow(new IllegalStateException("Boom"));
+
+		// Act
+		final var result = citizenService.getPersonIdsInBatch(List.of(personalNumber));
+
+		// Assert
+		assertThat(result)
+			.hasSize(1)
+			.first()
+			.satisfies(batch -> {
+				assertThat(batch.getPersonNumber()).isEqualTo(personalNumber);
+				assertThat(batch.getPersonId()).isNull();
+				assertThat(batch.isSuccess()).isFalse();
+				assertThat(batch.getErrorMessage()).isEqualTo("Error processing request: Boom");
+			});
+	}
+
+	@Test
+	void getPersonIdsInBatchByMunicipality() {
+		// Arrange
+		final var localPersonalNumber = "198001011234";
+		final var partyPersonalNumber = "198001021234";
+		final var missingPartyPersonalNumber = "198001031234";
+		final var localPersonId = UUID.randomUUID();
+		final var partyPersonId = UUID.randomUUID();
+		final var items = List.of(
+			PersonGuidBatchItem.create().withPersonalNumber(partyPersonalNumber).withMunicipalityId("2281"),
+			PersonGuidBatchItem.create().withPersonalNumber(localPersonalNumber).withMunicipalityId("2260"),
+			PersonGuidBatchItem.create().withPersonalNumber(missingPartyPersonalNumber).withMunicipalityId("2281"));
+
+		when(citizenRepositoryMock.findAllByPersonalNumberIn(List.of(localPersonalNumber)))
+			.thenReturn(List.of(personIdProjection(localPersonId, localPersonalNumber)));
+		when(partyIntegrationMock.getPartyId(partyPersonalNumber, "2281", "PRIVATE")).thenReturn(Optional.of(partyPersonId.toString()));
+		when(partyIntegrationMock.getPartyId(missingPartyPersonalNumber, "2281", "PRIVATE")).thenReturn(Optional.empty());
+
+		// Act
+		final var result = citizenService.getPersonIdsInBatchByMunicipality(items);
+
+		// Assert
+		assertThat(result)
+			.extracting(PersonGuidBatch::getPersonNumber, PersonGuidBatch::getPersonId, PersonGuidBatch::isSuccess, PersonGuidBatch::getErrorMessage)
+			.containsExactly(
+				tuple(partyPersonalNumber, partyPersonId, true, null),
+				tuple(localPersonalNumber, localPersonId, true, null),
+				tuple(missingPartyPersonalNumber, null, false, "Citizen not found"));
+		verify(citizenRepositoryMock).findAllByPersonalNumberIn(List.of(localPersonalNumber));
+		verify(partyIntegrationMock).getPartyId(partyPersonalNumber, "2281", "PRIVATE");
+		verify(partyIntegrationMock).getPartyId(missingPartyPersonalNumber, "2281", "PRIVATE");
+		verifyNoMoreInteractions(citizenRepositoryMock, partyIntegrationMock);
+	}
+
+	@Test
+	void getPersonIdsInBatchByMunicipality_PartyTimeout() {
+		// Arrange
+		final var service = new CitizenService(citizenRepositoryMock, objectMapperMock, partyIntegrationMock,
+			new BatchProperties(500, 1, Duration.ofMillis(50)), cacheManagerMock, metricsMock, transactionManagerMock);
+		final var slowPersonalNumber = "198001011234";
+		final var fastPersonalNumber = "198001021234";
+		final var personId = UUID.randomUUID();
+		final var items = List.of(
+			PersonGuidBatchItem.create().withPersonalNumber(slowPersonalNumber).withMunicipalityId("2281"),
+			PersonGuidBatchItem.create().withPersonalNumber(fastPersonalNumber).withMunicipalityId("2281"));
+
+		when(partyIntegrationMock.getPartyId(slowPersonalNumber, "2281", "PRIVATE")).thenAnswer(invocation -> {
+			Thread.sleep(5000);
+			return Optional.of(UUID.randomUUID().toString());
+		});
+		when(partyIntegrationMock.getPartyId(fastPersonalNumber, "2281", "PRIVATE")).thenReturn(Optional.of(personId.toString()));
+
+		// Act
+		final var result = service.getPersonIdsInBatchByMunicipality(items);
+
+		// Assert
+		assertThat(result)
+			.extracting(PersonGuidBatch::getPersonNumber, PersonGuidBatch::getPersonId, PersonGuidBatch::isSuccess, PersonGuidBatch::getErrorMessage)
+			.containsExactly(
+				tuple(slowPersonalNumber, null, false, "Timed out waiting for Party"),
+				tuple(fastPersonalNumber, personId, true, null));
+		verifyNoInteractions(citizenRepositoryMock);
+	}
+
+	@Test
+	void getPersonIdsInBatchByMunicipality_PartyConcurrencySharedBetweenBatches() throws Exception {
+		// Arrange
+		final var service = new CitizenService(citizenRepositoryMock, objectMapperMock, partyIntegrationMock,
+			new BatchProperties(500, 1, Duration.ofSeconds(5)), cacheManagerMock, metricsMock, transactionManagerMock);
+		final var inFlight = new AtomicInteger();
+		final var maxInFlight = new AtomicInteger();
+
+		when(partyIntegrationMock.getPartyId(any(), eq("2281"), eq("PRIVATE"))).thenAnswer(invocation -> {
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			Thread.sleep(50);
+			inFlight.decrementAndGet();
+			return Optional.of(UUID.randomUUID().toString());
+		});
+
+		// Act
+		try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+			final var batches = IntStream.range(0, 4)
+				.mapToObj(i -> executor.submit(() -> service.getPersonIdsInBatchByMunicipality(List.of(
+					PersonGuidBatchItem.create().withPersonalNumber("1980010%d1234".formatted(i)).withMunicipalityId("2281")))))
+				.toList();
+
+			// Assert
+			for (final var batch : batches) {
+				assertThat(batch.get(10, TimeUnit.SECONDS)).allMatch(PersonGuidBatch::isSuccess);
+			}
+		}
+		assertThat(maxInFlight).hasValue(1);
+		service.shutdown();
+	}
+
+	@Test
+	void getPersonIdsInBatchByMunicipality_PartyUnavailable() {
+		// Arrange
+		final var rejectedPersonalNumber = "198001011234";
+		final var partyPersonalNumber = "198001021234";
+		final var personId = UUID.randomUUID();
+		final var items = List.of(
+			PersonGuidBatchItem.create().withPersonalNumber(rejectedPersonalNumber).withMunicipalityId("2281"),
+			PersonGuidBatchItem.create().withPersonalNumber(partyPersonalNumber).withMunicipalityId("2281"));
+
+		when(partyIntegrationMock.getPartyId(rejectedPersonalNumber, "2281", "PRIVATE"))
+			.thenThrow(new PartyUnavailableException("Call to Party rejected by concurrency limit", null));
+		when(partyIntegrationMock.getPartyId(partyPersonalNumber, "2281", "PRIVATE")).thenReturn(Optional.of(personId.toString()));
+
+		// Act
+		final var result = citizenService.getPersonIdsInBatchByMunicipality(items);
+
+		// Assert
+		assertThat(result)
+			.extracting(PersonGuidBatch::getPersonNumber, PersonGuidBatch::getPersonId, PersonGuidBatch::isSuccess, PersonGuidBatch::getErrorMessage)
+			.containsExactly(
+				tuple(rejectedPersonalNumber, null, false, "Party is unavailable, try again later"),
+				tuple(partyPersonalNumber, personId, true, null));
+		verifyNoInteractions(citizenRepositoryMock);
+	}
+
 	@Test
 	void createPerson() {
 		// Arrange
 		final var personId = UUID.randomUUID();
 		final var modelPostPerson = new ModelPostPerson("198001011234");
 		final var citizenEntity = CitizenEntity.create()
-			.withPersonId(personId.toString())
+			.withPersonId(personId)
 			.withPersonalNumber("198001011234");
 
-		when(citizenRepositoryMock.findByPersonalNumber(modelPostPerson.getPersonalNumber()))
-			.thenReturn(Optional.empty());
-		when(citizenRepositoryMock.save(any())).thenReturn(citizenEntity);
+		when(citizenRepositoryMock.saveAndFlush(any())).thenReturn(citizenEntity);
 
 		// Act
 		final var result = citizenService.createPerson(modelPostPerson);
 
 		// Assert
 		assertThat(result).isEqualTo(personId);
-		verify(citizenRepositoryMock).save(any());
+		verify(citizenRepositoryMock).saveAndFlush(any());
+		verifyNoMoreInteractions(citizenRepositoryMock);
 	}
 
 	@Test
 	void createPerson_AlreadyExists() {
 		// Arrange
 		final var modelPostPerson = new ModelPostPerson("198001011234");
-		when(citizenRepositoryMock.findByPersonalNumber(modelPostPerson.getPersonalNumber()))
-			.thenReturn(Optional.of(new CitizenEntity()));
+		when(citizenRepositoryMock.saveAndFlush(any()))
+			.thenThrow(integrityViolation(1062, "Duplicate entry '198001011234' for key 'personal_number'", "personal_number"));
 
 		// Act & Assert
 		final var exception = assertThrows(ThrowableProblem.class,
@@ -352,9 +808,41 @@ class CitizenServiceTest {
 		assertThat(exception.getStatus()).isEqualTo(CONFLICT);
 		assertThat(exception.getMessage())
 			.contains("Person with personal number 198001011234 already exists");
+		verify(citizenRepositoryMock).saveAndFlush(any());
+		verifyNoMoreInteractions(citizenRepositoryMock);
 		verifyNoInteractions(objectMapperMock);
 	}
 
+	@Test
+	void createPerson_OtherIntegrityViolation() {
+		// Arrange
+		final var modelPostPerson = new ModelPostPerson("198001011234");
+		final var violation = integrityViolation(1406, "Data too long for column 'personal_number' at row 1", null);
+		when(citizenRepositoryMock.saveAndFlush(any())).thenThrow(violation);
+
+		// Act & Assert
+		final var exception = assertThrows(DataIntegrityViolationException.class,
+			() -> citizenService.createPerson(modelPostPerson));
+
+		assertThat(exception).isSameAs(violation);
+		verify(citizenRepositoryMock).saveAndFlush(any());
+		verifyNoMoreInteractions(citizenRepositoryMock);
+	}
+
+	@Test
+	void createPerson_DuplicatePrimaryKey() {
+		// Arrange
+		final var modelPostPerson = new ModelPostPerson("198001011234");
+		final var violation = integrityViolation(1062, "Duplicate entry 'x' for key 'PRIMARY'", "PRIMARY");
+		when(citizenRepositoryMock.saveAndFlush(any())).thenThrow(violation);
+
+		// Act & Assert
+		final var exception = assertThrows(DataIntegrityViolationException.class,
+			() -> citizenService.createPerson(modelPostPerson));
+
+		assertThat(exception).isSameAs(violation);
+	}
+
 	@Test
 	void createPerson_InvalidInput() {
 		// Act & Assert
@@ -365,4 +853,43 @@ class CitizenServiceTest {
 		assertThat(exception.getMessage()).contains("Personal number is required");
 		verifyNoInteractions(citizenRepositoryMock, objectMapperMock);
 	}
+
+	private static DataIntegrityViolationException integrityViolation(final int errorCode, final String message, final String constraintName) {
+		final var sqlException = new SQLIntegrityConstraintViolationException(message, "23000", errorCode);
+		return new DataIntegrityViolationException(message, new ConstraintViolationException(message, sqlException, constraintName));
+	}
+
+	private ConcurrentMapCache mockCitizenCache() {
+		final var cache = new ConcurrentMapCache(CITIZEN_CACHE, false);
+		when(cacheManagerMock.getCache(CITIZEN_CACHE)).thenReturn(cache);
+		return cache;
+	}
+
+	private static CitizenKeyProjection citizenKeyProjection(final UUID personId, final OffsetDateTime updatedAt) {
+		return new CitizenKeyProjection() {
+			@Override
+			public UUID getPersonId() {
+				return personId;
+			}
+
+			@Override
+			public OffsetDateTime getUpdatedAt() {
+				return updatedAt;
+			}
+		};
+	}
+
+	private static PersonIdProjection personIdProjection(final UUID personId, final String personalNumber) {
+		return new PersonIdProjection() {
+			@Override
+			public UUID getPersonId() {
+				return personId;
+			}
+
+			@Override
+			public String getPersonalNumber() {
+				return personalNumber;
+			}
+		};
+	}
 }
@@ -18,7 +18,7 @@ class CitizenAddressMapperTest {
 	@Test
 	void toCitizenWithChangedAddress() {
 		// Arrange
-		final var personId = UUID.randomUUID().toString();
+		final var personId = UUID.randomUUID();
 		final var personalNumber = "198001011234";
 		final var classified = "classified";
 		final var gender = "gender";
@@ -41,7 +41,7 @@ class CitizenAddressMapperTest {
 
 		// Assert
 		assertThat(result).isNotNull();
-		assertThat(result.getPersonId()).isEqualTo(UUID.fromString(personId));
+		assertThat(result.getPersonId()).isEqualTo(personId);
 		assertThat(result.getPersonNumber()).isEqualTo(personalNumber);
 		assertThat(result.getClassified()).isEqualTo(classified);
 		assertThat(result.getGender()).isEqualTo(gender);
@@ -186,4 +186,39 @@ class CitizenAddressMapperTest {
 				assertThat(address.getYCoordLocal()).isNull();
 			});
 	}
+
+	@Test
+	void toCitizenAddressEntities() {
+		// Arrange
+		final var citizen = CitizenEntity.create();
+		final var address = CitizenAddress.create()
+			.withStatus("status")
+			.withNrDate(CURRENT_TIME.toString())
+			.withAddress("address")
+			.withAddressNumber("1")
+			.withPostalCode("85234")
+			.withCity("city")
+			.withMunicipality("2281")
+			.withAddressType("POPULATION_REGISTRATION_ADDRESS");
+
+		// Act
+		final var result = CitizenAddressMapper.toCitizenAddressEntities(List.of(address), citizen);
+
+		// Assert
+		assertThat(result).hasSize(1);
+		assertThat(result.getFirst().getCitizen()).isSameAs(citizen);
+		assertThat(result.getFirst().getStatus()).isEqualTo("status");
+		assertThat(result.getFirst().getNrDate()).isEqualTo(CURRENT_TIME);
+		assertThat(result.getFirst().getAddress()).isEqualTo("address");
+		assertThat(result.getFirst().getAddressNumber()).isEqualTo("1");
+		assertThat(result.getFirst().getPostalCode()).isEqualTo("85234");
+		assertThat(result.getFirst().getCity()).isEqualTo("city");
+		assertThat(result.getFirst().getMunicipality()).isEqualTo("2281");
+		assertThat(result.getFirst().getAddressType()).isEqualTo("POPULATION_REGISTRATION_ADDRESS");
+	}
+
+	@Test
+	void toCitizenAddressEntities_Null() {
+		assertThat(CitizenAddressMapper.toCitizenAddressEntities(null, CitizenEntity.create())).isEmpty();
+	}
 }
@@ -0,0 +1,70 @@
+package se.sundsvall.citizen.service.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity;
+import se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity.ChangeType;
+import se.sundsvall.citizen.integration.db.model.CitizenChangeEventEntity.EntityType;
+
+class CitizenChangeMapperTest {
+
+	private static final OffsetDateTime CURRENT_TIME = OffsetDateTime.parse("2025-01-29T11:20:53Z");
+
+	@Test
+	void toCitizenChange() {
+		// Arrange
+		final var personId = UUID.randomUUID();
+		final var entity = CitizenChangeEventEntity.create()
+			.withSequenceNumber(4711L)
+			.withPersonId(personId)
+			.withEntityType(EntityType.ADDRESS)
+			.withChangeType(ChangeType.UPDATED)
+			.withCreatedAt(CURRENT_TIME);
+
+		// Act
+		final var result = CitizenChangeMapper.toCitizenChange(entity);
+
+		// Assert
+		assertThat(result).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(result.getSequence()).isEqualTo(4711L);
+		assertThat(result.getPersonId()).isEqualTo(personId);
+		assertThat(result.getEntityType()).isEqualTo("ADDRESS");
+		assertThat(result.getChangeType()).isEqualTo("UPDATED");
+		assertThat(result.getChangedAt()).isEqualTo(CURRENT_TIME);
+	}
+
+	@Test
+	void toCitizenChange_WithNullValues() {
+		assertThat(CitizenChangeMapper.toCitizenChange(CitizenChangeEventEntity.create())).hasAllNullFieldsOrProperties();
+	}
+
+	@Test
+	void toCitizenChange_Null() {
+		assertThat(CitizenChangeMapper.toCitizenChange(null)).isNull();
+	}
+
+	@Test
+	void toCitizenChanges() {
+		// Arrange
+		final var entities = List.of(
+			CitizenChangeEventEntity.create().withSequenceNumber(1L),
+			CitizenChangeEventEntity.create().withSequenceNumber(2L));
+
+		// Act
+		final var result = CitizenChangeMapper.toCitizenChanges(entities);
+
+		// Assert
+		assertThat(result).extracting("sequence").containsExactly(1L, 2L);
+	}
+
+	@Test
+	void toCitizenChanges_NullAndEmpty() {
+		assertThat(CitizenChangeMapper.toCitizenChanges(null)).isEmpty();
+		assertThat(CitizenChangeMapper.toCitizenChanges(Collections.emptyList())).isEmpty();
+	}
+}
@@ -3,6 +3,7 @@ package se.sundsvall.citizen.service.mapper;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -12,6 +13,9 @@ import org.mockito.MockedStatic;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import se.sundsvall.citizen.api.model.CitizenAddress;
+import se.sundsvall.citizen.api.model.CitizenExtended;
+import se.sundsvall.citizen.api.model.CitizenImportCustodyChild;
+import se.sundsvall.citizen.api.model.CitizenImportRecord;
 import se.sundsvall.citizen.integration.db.model.CitizenAddressEntity;
 import se.sundsvall.citizen.integration.db.model.CitizenEntity;
 
@@ -29,7 +33,7 @@ class CitizenMapperTest {
 	@Test
 	void toCitizenExtended() {
 		// Arrange
-		final var personId = UUID.randomUUID().toString();
+		final var personId = UUID.randomUUID();
 		final var givenname = "givenname";
 		final var lastname = "lastname";
 		final var gender = "gender";
@@ -60,7 +64,7 @@ class CitizenMapperTest {
 
 			// Assert
 			assertThat(result).isNotNull();
-			assertThat(result.getPersonId()).isEqualTo(UUID.fromString(personId));
+			assertThat(result.getPersonId()).isEqualTo(personId);
 			assertThat(result.getGivenname()).isEqualTo(givenname);
 			assertThat(result.getLastname()).isEqualTo(lastname);
 			assertThat(result.getGender()).isEqualTo(gender);
@@ -74,6 +78,53 @@ class CitizenMapperTest {
 		}
 	}
 
+	@Test
+	void toCitizenWithChangedAddress() {
+		// Arrange
+		final var personId = UUID.randomUUID();
+		final var personalNumber = "198001011234";
+		final var classified = "classified";
+		final var gender = "gender";
+		final var givenname = "givenname";
+		final var lastname = "lastname";
+		final var addresses = List.of(new CitizenAddressEntity(), new CitizenAddressEntity());
+		final var mappedAddresses = List.of(new CitizenAddress(), new CitizenAddress());
+
+		final var citizenEntity = CitizenEntity.create()
+			.withPersonId(personId)
+			.withPersonalNumber(personalNumber)
+			.withClassified(classified)
+			.withGender(gender)
+			.withGivenname(givenname)
+			.withLastname(lastname)
+			.withAddresses(addresses);
+
+		try (MockedStatic<CitizenAddressMapper> addressMapperMock = Mockito.mockStatic(CitizenAddressMapper.class)) {
+			addressMapperMock.when(() -> CitizenAddressMapper.toCitizenAddresses(addresses))
+				.thenReturn(mappedAddresses);
+
+			// Act
+			final var result = CitizenMapper.toCitizenWithChangedAddress(citizenEntity);
+
+			// Assert
+			assertThat(result).isNotNull();
+			assertThat(result.getPersonId()).isEqualTo(personId);
+			assertThat(result.getPersonNumber()).isEqualTo(personalNumber);
+			assertThat(result.getClassified()).isEqualTo(classified);
+			assertThat(result.getGender()).isEqualTo(gender);
+			assertThat(result.getGivenname()).isEqualTo(givenname);
+			assertThat(result.getLastname()).isEqualTo(lastname);
+			assertThat(result.getAddresses()).isEqualTo(mappedAddresses);
+
+			addressMapperMock.verify(() -> CitizenAddressMapper.toCitizenAddresses(addresses));
+		}
+	}
+
+	@Test
+	void toCitizenWithChangedAddress_Null() {
+		assertThat(CitizenMapper.toCitizenWithChangedAddress(null)).isNull();
+	}
+
 	@Test
 	void toCitizenExtended_Null() {
 		assertThat(CitizenMapper.toCitizenExtended(null)).isNull();
@@ -82,7 +133,7 @@ class CitizenMapperTest {
 	@Test
 	void toCitizenExtended_WithNullValues() {
 		// Arrange
-		final var personId = UUID.randomUUID().toString();
+		final var personId = UUID.randomUUID();
 		final var citizenEntity = CitizenEntity.create()
 			.withPersonId(personId);
 
@@ -95,7 +146,7 @@ class CitizenMapperTest {
 
 			// Assert
 			assertThat(result).isNotNull();
-			assertThat(result.getPersonId()).isEqualTo(UUID.fromString(personId));
+			assertThat(result.getPersonId()).isEqualTo(personId);
 			assertThat(result.getGivenname()).isNull();
 			assertThat(result.getLastname()).isNull();
 			assertThat(result.getGender()).isNull();
@@ -112,7 +163,7 @@ class CitizenMapperTest {
 	@Test
 	void toCitizenExtended_WithEmptyAddresses() {
 		// Arrange
-		final var personId = UUID.randomUUID().toString();
+		final var personId = UUID.randomUUID();
 		final var citizenEntity = CitizenEntity.create()
 			.withPersonId(personId)
 			.withAddresses(Collections.emptyList());
@@ -126,10 +177,118 @@ class CitizenMapperTest {
 
 			// Assert
 			assertThat(result).isNotNull();
-			assertThat(result.getPersonId()).isEqualTo(UUID.fromString(personId));
+			assertThat(result.getPersonId()).isEqualTo(personId);
 			assertThat(result.getAddresses()).isEmpty();
 
 			addressMapperMock.verify(() -> CitizenAddressMapper.toCitizenAddresses(Collections.emptyList()));
 		}
 	}
+
+	@Test
+	void toCitizenEntity() {
+		// Arrange
+		final var personalNumber = "198001011234";
+		final var givenname = "givenname";
+		final var lastname = "lastname";
+		final var gender = "gender";
+		final var civilStatus = "civilStatus";
+		final var classified = "classified";
+		final var protectedNr = "protectedNr";
+		final var addresses = List.of(new CitizenAddress());
+		final var custodyChildren = List.of(CitizenImportCustodyChild.create()
+			.withPersonalNumber("201001011234")
+			.withTypeOfSchool("typeOfSchool")
+			.withUnRegCode("unRegCode")
+			.withUnRegDate(CURRENT_TIME.toString()));
+		final var citizen = CitizenImportRecord.create()
+			.withPersonalNumber(personalNumber)
+			.withGivenname(givenname)
+			.withLastname(lastname)
+			.withGender(gender)
+			.withCivilStatus(civilStatus)
+			.withNrDate(CURRENT_TIME.toString())
+			.withClassified(classified)
+			.withProtectedNr(protectedNr)
+			.withAddresses(addresses)
+			.withCustodyChildren(custodyChildren);
+
+		// Act
+		final var result = CitizenMapper.toCitizenEntity(citizen);
+
+		// Assert
+		assertThat(result).isNotNull();
+		assertThat(result.getPersonId()).isNull();
+		assertThat(result.getPersonalNumber()).isEqualTo(personalNumber);
+		assertThat(result.getGivenname()).isEqualTo(givenname);
+		assertThat(result.getLastname()).isEqualTo(lastname);
+		assertThat(result.getGender()).isEqualTo(gender);
+		assertThat(result.getCivilStatus()).isEqualTo(civilStatus);
+		assertThat(result.getNrDate()).isEqualTo(CURRENT_TIME);
+		assertThat(result.getClassified()).isEqualTo(classified);
+		assertThat(result.getProtectedNr()).isEqualTo(protectedNr);
+		assertThat(result.getAddresses()).hasSize(1)
+			.allSatisfy(address -> assertThat(address.getCitizen()).isSameAs(result));
+		assertThat(result.getCustodyChildren()).singleElement().satisfies(child -> {
+			assertThat(child.getCitizen()).isSameAs(result);
+			assertThat(child.getPersonnumber()).isEqualTo("201001011234");
+			assertThat(child.getTypeOfSchool()).isEqualTo("typeOfSchool");
+			assertThat(child.getUnRegCode()).isEqualTo("unRegCode");
+			assertThat(child.getUnRegDate()).isEqualTo(CURRENT_TIME);
+		});
+	}
+
+	@Test
+	void toCitizenEntity_Null() {
+		assertThat(CitizenMapper.toCitizenEntity(null)).isNull();
+	}
+
+	@Test
+	void copyOf() {
+		// Arrange
+		final var address = CitizenAddress.create()
+			.withStatus("status")
+			.withNrDate("2025-01-29")
+			.withRealEstateDescription("realEstateDescription")
+			.withCo("co")
+			.withAddress("address")
+			.withAddressArea("addressArea")
+			.withAddressNumber("addressNumber")
+			.withAddressLetter("addressLetter")
+			.withApartmentNumber("apartmentNumber")
+			.withPostalCode("postalCode")
+			.withCity("city")
+			.withCounty("county")
+			.withMunicipality("municipality")
+			.withCountry("country")
+			.withEmigrated(false)
+			.withAddressType("addressType")
+			.withXCoordLocal(1.0)
+			.withYCoordLocal(2.0);
+		final var citizen = CitizenExtended.create()
+			.withPersonId(UUID.randomUUID())
+			.withGivenname("givenname")
+			.withLastname("lastname")
+			.withGender("gender")
+			.withCivilStatus("civilStatus")
+			.withNrDate("2025-01-29")
+			.withPersonalNumber("198001011234")
+			.withClassified("classified")
+			.withProtectedNr("protectedNr")
+			.withAddresses(new ArrayList<>(List.of(address)));
+
+		// Act
+		final var result = CitizenMapper.copyOf(citizen);
+
+		// Assert
+		assertThat(citizen).hasNoNullFieldsOrProperties();
+		assertThat(address).hasNoNullFieldsOrProperties();
+		assertThat(result).isNotSameAs(citizen).isEqualTo(citizen);
+		assertThat(result.getAddresses()).isNotSameAs(citizen.getAddresses());
+		assertThat(result.getAddresses().getFirst()).isNotSameAs(address).isEqualTo(address);
+	}
+
+	@Test
+	void copyOf_Null() {
+		assertThat(CitizenMapper.copyOf(null)).isNull();
+	}
 }
@@ -0,0 +1,40 @@
+package se.sundsvall.citizen.service.mapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import org.junit.jupiter.api.Test;
+
+class DateFormatCacheTest {
+
+	@Test
+	void format() {
+		// Arrange
+		final var date = OffsetDateTime.parse("2025-01-29T11:20:53.123Z");
+
+		// Act
+		final var first = DateFormatCache.format(date);
+		final var second = DateFormatCache.format(OffsetDateTime.parse("2025-01-29T11:20:53.123Z"));
+
+		// Assert
+		assertThat(first).isEqualTo(date.toString());
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	void format_SameInstantWithOtherOffset() {
+		// Arrange
+		final var utc = OffsetDateTime.parse("2025-01-29T11:20:53Z");
+		final var cet = utc.withOffsetSameInstant(ZoneOffset.ofHours(1));
+
+		// Act & Assert
+		assertThat(DateFormatCache.format(utc)).isEqualTo("2025-01-29T11:20:53Z");
+		assertThat(DateFormatCache.format(cet)).isEqualTo("2025-01-29T12:20:53+01:00");
+	}
+
+	@Test
+	void format_Null() {
+		assertThat(DateFormatCache.format(null)).isNull();
+	}
+}
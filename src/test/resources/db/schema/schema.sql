@@ -1,6 +1,6 @@
 CREATE TABLE citizens
 (
-    person_id       VARCHAR(255) NOT NULL PRIMARY KEY,
+    person_id       BINARY(16) NOT NULL PRIMARY KEY,
     personal_number VARCHAR(20) UNIQUE,
     givenname       VARCHAR(100),
     lastname        VARCHAR(100),
@@ -8,17 +8,18 @@ CREATE TABLE citizens
     civil_status    VARCHAR(20),
     nr_date         TIMESTAMP(6),
     classified      VARCHAR(50),
+    is_classified   BOOLEAN AS (classified IS NOT NULL) PERSISTENT,
     protected_nr    VARCHAR(50),
     created_at      TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6),
     updated_at      TIMESTAMP(6) DEFAULT CURRENT_TIMESTAMP(6)
 ) engine=InnoDB;
-CREATE INDEX citizens_classified_index ON citizens (classified);
+CREATE INDEX citizens_is_classified_index ON citizens (is_classified);
 CREATE INDEX citizens_updated_at_index ON citizens (updated_at);
 
 CREATE TABLE citizen_addresses
 (
     id                      VARCHAR(255) NOT NULL PRIMARY KEY,
-    person_id               VARCHAR(255),
+    person_id               BINARY(16),
     status                  VARCHAR(50),
     nr_date                 TIMESTAMP(6),
     real_estate_description LONGTEXT,
@@ -46,11 +47,12 @@ CREATE INDEX citizen_addresses_postal_code_index ON citizen_addresses (postal_co
 CREATE INDEX citizen_addresses_city_index ON citizen_addresses (city);
 CREATE INDEX citizen_addresses_address_type_index ON citizen_addresses (address_type);
 CREATE INDEX citizen_addresses_updated_at_index ON citizen_addresses (updated_at);
+CREATE INDEX citizen_addresses_person_id_index ON citizen_addresses (person_id);
 
 CREATE TABLE custody_children_pupils
 (
     id                    VARCHAR(255) NOT NULL PRIMARY KEY,
-    person_id             VARCHAR(255),
+    person_id             BINARY(16),
     personnumber          VARCHAR(20),
     type_of_school        VARCHAR(100),
     un_reg_code          VARCHAR(50),
@@ -61,4 +63,13 @@ CREATE TABLE custody_children_pupils
 ) engine=InnoDB;
 CREATE INDEX custody_children_pupils_personnumber_index ON custody_children_pupils (personnumber);
 CREATE INDEX custody_children_pupils_type_of_school_index ON custody_children_pupils (type_of_school);
-CREATE INDEX custody_children_pupils_un_reg_code_index ON custody_children_pupils (un_reg_code);
\ No newline at end of file
+CREATE INDEX custody_children_pupils_un_reg_code_index ON custody_children_pupils (un_reg_code);
+
+CREATE TABLE citizen_change_events
+(
+    sequence_number BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    person_id       BINARY(16)   NOT NULL,
+    entity_type     VARCHAR(16)  NOT NULL,
+    change_type     VARCHAR(16)  NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6)
+) engine=InnoDB;
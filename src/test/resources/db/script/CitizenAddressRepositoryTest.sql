@@ -8,7 +8,7 @@ INSERT INTO citizens (
     created_at,
     updated_at
 ) VALUES (
-             'fb47e26c-1c27-11ee-be56-0242ac120002',
+             UNHEX(REPLACE('fb47e26c-1c27-11ee-be56-0242ac120002', '-', '')),
              '198001011234',
              'Test',
              'Testsson',
@@ -30,7 +30,7 @@ INSERT INTO citizen_addresses (
     address_type
 ) VALUES (
              'c305f904-c9bf-4144-8656-a797acc90b74',
-             'fb47e26c-1c27-11ee-be56-0242ac120002',
+             UNHEX(REPLACE('fb47e26c-1c27-11ee-be56-0242ac120002', '-', '')),
              'ACTIVE',
              'Test Street 1',
              'Test City 1',
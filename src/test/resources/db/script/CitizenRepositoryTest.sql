@@ -11,5 +11,19 @@ INSERT INTO citizens (
     created_at,
     updated_at
 ) VALUES
-      ('fb47e26c-1c27-11ee-be56-0242ac120002', '19800101-1234', 'Test1', 'Testsson1', 'MALE', 'MARRIED', '2025-01-29 09:32:35', NULL, NULL, '2025-01-29 09:32:35', '2025-01-29 09:32:35'),
-      ('c31d362e-1c27-11ee-be56-0242ac120002', '19800102-1234', 'Test2', 'Testsson2', 'FEMALE', 'SINGLE', '2025-01-29 09:32:35', 'CLASSIFIED', 'PROTECTED', '2025-01-29 09:32:35', '2025-01-29 09:32:35');
\ No newline at end of file
+      (UNHEX(REPLACE('fb47e26c-1c27-11ee-be56-0242ac120002', '-', '')), '19800101-1234', 'Test1', 'Testsson1', 'MALE', 'MARRIED', '2025-01-29 09:32:35', NULL, NULL, '2025-01-29 09:32:35', '2025-01-29 09:32:35'),
+      (UNHEX(REPLACE('c31d362e-1c27-11ee-be56-0242ac120002', '-', '')), '19800102-1234', 'Test2', 'Testsson2', 'FEMALE', 'SINGLE', '2025-01-29 09:32:35', 'CLASSIFIED', 'PROTECTED', '2025-01-29 09:32:35', '2025-01-29 09:32:35');
+
+INSERT INTO citizen_addresses (
+    id,
+    person_id,
+    status,
+    address,
+    city,
+    postal_code,
+    created_at,
+    updated_at
+) VALUES
+      ('c305f904-c9bf-4144-8656-a797acc90b74', UNHEX(REPLACE('fb47e26c-1c27-11ee-be56-0242ac120002', '-', '')), 'ACTIVE', 'Test Street 1', 'Test City 1', '12345', '2025-01-29 09:32:35', '2025-01-29 09:32:35'),
+      ('d405f904-c9bf-4144-8656-a797acc90b75', UNHEX(REPLACE('c31d362e-1c27-11ee-be56-0242ac120002', '-', '')), 'ACTIVE', 'Test Street 2', 'Test City 2', '54321', '2025-01-29 09:32:35', '2025-01-29 09:32:35'),
+      ('e505f904-c9bf-4144-8656-a797acc90b76', UNHEX(REPLACE('fb47e26c-1c27-11ee-be56-0242ac120002', '-', '')), 'INACTIVE', 'Test Street 3', 'Test City 3', '12346', '2025-01-29 09:32:35', '2025-01-29 09:32:35');
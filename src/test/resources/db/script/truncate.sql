@@ -3,5 +3,6 @@ SET FOREIGN_KEY_CHECKS = 0;
 TRUNCATE TABLE custody_children_pupils;
 TRUNCATE TABLE citizen_addresses;
 TRUNCATE TABLE citizens;
+TRUNCATE TABLE citizen_change_events;
 
 SET FOREIGN_KEY_CHECKS = 1;
\ No newline at end of file